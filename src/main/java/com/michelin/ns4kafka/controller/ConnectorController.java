@@ -165,7 +165,9 @@ public class ConnectorController extends NamespacedResourceController {
                         connector.getSpec(),
                         EMPTY_STRING);
 
-                return Mono.just(formatHttpResponse(connectorService.createOrUpdate(connector), status));
+                return connectorService
+                        .createOrUpdateAsync(connector)
+                        .map(createdConnector -> formatHttpResponse(createdConnector, status));
             });
         });
     }
@@ -317,13 +319,13 @@ public class ConnectorController extends NamespacedResourceController {
     @Post("/_/import{?dryrun}")
     public Flux<Connector> importResources(String namespace, @QueryValue(defaultValue = "false") boolean dryrun) {
         Namespace ns = getNamespace(namespace);
-        return connectorService.listUnsynchronizedConnectors(ns).map(unsynchronizedConnector -> {
+        return connectorService.listUnsynchronizedConnectors(ns).concatMap(unsynchronizedConnector -> {
             unsynchronizedConnector.getMetadata().setCreationTimestamp(Date.from(Instant.now()));
             unsynchronizedConnector.getMetadata().setCluster(ns.getMetadata().getCluster());
             unsynchronizedConnector.getMetadata().setNamespace(ns.getMetadata().getName());
 
             if (dryrun) {
-                return unsynchronizedConnector;
+                return Mono.just(unsynchronizedConnector);
             }
 
             sendEventLog(
@@ -333,7 +335,7 @@ public class ConnectorController extends NamespacedResourceController {
                     unsynchronizedConnector.getSpec(),
                     EMPTY_STRING);
 
-            return connectorService.createOrUpdate(unsynchronizedConnector);
+            return connectorService.createOrUpdateAsync(unsynchronizedConnector);
         });
     }
 }
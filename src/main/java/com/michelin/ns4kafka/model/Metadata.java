@@ -43,6 +43,11 @@ public class Metadata {
 
     private String namespace;
     private String cluster;
+
+    /**
+     * The labels. The labels of the resources read from the stores are immutable, as they may be shared by all the
+     * resources with the same labels: set a new map to change them.
+     */
     private Map<String, String> labels;
 
     @EqualsAndHashCode.Exclude
@@ -79,6 +79,11 @@ public class Topic extends MetadataResource {
         private List<String> tags = new ArrayList<>();
 
         private String description;
+
+        /**
+         * The topic configs. The configs of the topics read from the store are immutable, as they may be shared by all
+         * the topics with the same configs: set a new map to change them.
+         */
         private Map<String, String> configs;
     }
 
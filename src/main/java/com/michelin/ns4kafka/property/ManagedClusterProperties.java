@@ -121,6 +121,7 @@ public class ManagedClusterProperties {
         public static class TopicProperties {
             private int alterConfigs = DEFAULT_TIMEOUT_MS;
             private int create = DEFAULT_TIMEOUT_MS;
+            private int describe = DEFAULT_TIMEOUT_MS;
             private int describeConfigs = DEFAULT_TIMEOUT_MS;
             private int delete = DEFAULT_TIMEOUT_MS;
             private int list = DEFAULT_TIMEOUT_MS;
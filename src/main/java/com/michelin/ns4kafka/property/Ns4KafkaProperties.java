@@ -41,6 +41,8 @@ import com.michelin.ns4kafka.model.AccessControlEntry;
 import com.michelin.ns4kafka.security.auth.local.LocalUser;
 import io.micronaut.context.annotation.ConfigurationProperties;
 import io.micronaut.core.convert.format.MapFormat;
+import java.time.Duration;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import lombok.Getter;
@@ -53,6 +55,9 @@ import lombok.Setter;
 public class Ns4KafkaProperties {
     private AkhqProperties akhq = new AkhqProperties();
     private ConfluentCloudProperties confluentCloud = new ConfluentCloudProperties();
+    private LeaderElectionProperties leaderElection = new LeaderElectionProperties();
+    private ReconciliationProperties reconciliation = new ReconciliationProperties();
+    private RetryProperties retry = new RetryProperties();
     private SecurityProperties security = new SecurityProperties();
     private StoreProperties store = new StoreProperties();
     private String version;
@@ -85,6 +90,53 @@ public class Ns4KafkaProperties {
         }
     }
 
+    @Getter
+    @Setter
+    @ConfigurationProperties("leader-election")
+    public static class LeaderElectionProperties {
+        private boolean enabled;
+        private String groupId = "ns4kafka.leader";
+        private int sessionTimeout = 10000;
+    }
+
+    @Getter
+    @Setter
+    @ConfigurationProperties("reconciliation")
+    public static class ReconciliationProperties {
+        private int minInterval = 10000;
+        private int maxInterval = 120000;
+        private double jitter = 0.2;
+        private int targetedConcurrency = 8;
+        private TopicCacheProperties topicCache = new TopicCacheProperties();
+        private TopicDescribeProperties topicDescribe = new TopicDescribeProperties();
+
+        @Getter
+        @Setter
+        @ConfigurationProperties("topic-cache")
+        public static class TopicCacheProperties {
+            private boolean enabled = true;
+            private int fullRefreshInterval = 600000;
+        }
+
+        @Getter
+        @Setter
+        @ConfigurationProperties("topic-describe")
+        public static class TopicDescribeProperties {
+            private int chunkSize = 1000;
+            private int concurrency = 4;
+            private int retries = 2;
+        }
+    }
+
+    @Getter
+    @Setter
+    @ConfigurationProperties("retry")
+    public static class RetryProperties {
+        private int attempt = 5;
+        private Duration delay = Duration.ofSeconds(2);
+        private double multiplier = 2.0;
+    }
+
     @Getter
     @Setter
     @ConfigurationProperties("security")
@@ -105,7 +157,72 @@ public class Ns4KafkaProperties {
         @ConfigurationProperties("kafka")
         public static class KafkaProperties {
             private int initTimeout;
+            private CanonicalizationProperties canonicalization = new CanonicalizationProperties();
+            private ConsistencyTokenProperties consistencyToken = new ConsistencyTokenProperties();
+            private GroupCommitProperties groupCommit = new GroupCommitProperties();
+            private SerdeProperties serde = new SerdeProperties();
+            private SnapshotProperties snapshot = new SnapshotProperties();
             private TopicsProperties topics = new TopicsProperties();
+            private TransactionProperties transaction = new TransactionProperties();
+
+            @Getter
+            @Setter
+            @ConfigurationProperties("canonicalization")
+            public static class CanonicalizationProperties {
+                private boolean enabled = true;
+                private int maxStrings = 100000;
+                private int maxSharedConfigs = 10000;
+            }
+
+            @Getter
+            @Setter
+            @ConfigurationProperties("consistency-token")
+            public static class ConsistencyTokenProperties {
+                private boolean enabled;
+            }
+
+            @Getter
+            @Setter
+            @ConfigurationProperties("group-commit")
+            public static class GroupCommitProperties {
+                private boolean enabled;
+                private int maxBatchSize = 500;
+                private int linger = 5;
+            }
+
+            @Getter
+            @Setter
+            @ConfigurationProperties("serde")
+            public static class SerdeProperties {
+                private Format format = Format.JSON;
+
+                @MapFormat(transformation = MapFormat.MapTransformation.FLAT)
+                private Map<String, Format> formats = new HashMap<>();
+
+                /** Format of the store values. */
+                public enum Format {
+                    JSON,
+                    BINARY
+                }
+            }
+
+            @Getter
+            @Setter
+            @ConfigurationProperties("snapshot")
+            public static class SnapshotProperties {
+                private boolean enabled;
+                private String directory = "/tmp/ns4kafka/snapshots";
+                private int interval = 60000;
+                private int maxAge = 43200000;
+            }
+
+            @Getter
+            @Setter
+            @ConfigurationProperties("transaction")
+            public static class TransactionProperties {
+                private boolean enabled;
+                private String transactionalIdPrefix = "ns4kafka.store";
+            }
 
             @Getter
             @Setter
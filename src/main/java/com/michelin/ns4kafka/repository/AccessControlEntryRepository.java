@@ -19,16 +19,69 @@
 package com.michelin.ns4kafka.repository;
 
 import com.michelin.ns4kafka.model.AccessControlEntry;
+import com.michelin.ns4kafka.repository.kafka.KafkaStoreSubscriber;
+import com.michelin.ns4kafka.repository.kafka.KafkaStoreSubscription;
 import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /** Access control entry repository. */
 public interface AccessControlEntryRepository {
     Collection<AccessControlEntry> findAll();
 
+    /**
+     * Find all ACLs by cluster.
+     *
+     * @param cluster The cluster
+     * @return The list of ACLs
+     */
+    List<AccessControlEntry> findAllForCluster(String cluster);
+
+    /**
+     * Find all ACLs granted to a given namespace, on all clusters.
+     *
+     * @param grantedTo The grantee namespace, or "*" for public ACLs
+     * @return The list of ACLs
+     */
+    List<AccessControlEntry> findAllGrantedTo(String grantedTo);
+
+    /**
+     * Find all OWNER ACLs covering a resource on a cluster: the LITERAL ones on the resource name and the PREFIXED ones
+     * on any prefix of it.
+     *
+     * @param cluster The cluster
+     * @param resourceType The resource type
+     * @param resource The resource name
+     * @return The list of ACLs
+     */
+    List<AccessControlEntry> findAllOwnersOf(
+            String cluster, AccessControlEntry.ResourceType resourceType, String resource);
+
+    /**
+     * Find all OWNER ACLs related to a resource on a cluster: the ones on a prefix of the resource name and the ones on
+     * a name starting with it, whatever their pattern. The '.' and '_' of the topic names are considered the same.
+     *
+     * @param cluster The cluster
+     * @param resourceType The resource type
+     * @param resource The resource name
+     * @return The list of ACLs
+     */
+    List<AccessControlEntry> findAllOwnersRelatedTo(
+            String cluster, AccessControlEntry.ResourceType resourceType, String resource);
+
     Optional<AccessControlEntry> findByName(String namespace, String name);
 
     AccessControlEntry create(AccessControlEntry accessControlEntry);
 
     void delete(AccessControlEntry accessControlEntry);
+
+    /**
+     * Subscribe to the changes of the ACLs.
+     *
+     * @param name The subscriber name
+     * @param capacity The capacity of the subscriber queue
+     * @param subscriber The subscriber
+     * @return The subscription, to close to unsubscribe
+     */
+    KafkaStoreSubscription subscribe(String name, int capacity, KafkaStoreSubscriber<AccessControlEntry> subscriber);
 }
@@ -20,6 +20,7 @@ package com.michelin.ns4kafka.repository;
 
 import com.michelin.ns4kafka.model.connector.Connector;
 import java.util.List;
+import reactor.core.publisher.Mono;
 
 /** Connector repository. */
 public interface ConnectorRepository {
@@ -45,4 +46,20 @@ public interface ConnectorRepository {
      * @param connector The connector to delete
      */
     void delete(Connector connector);
+
+    /**
+     * Create a given connector without blocking the calling thread.
+     *
+     * @param connector The connector to create
+     * @return The created connector
+     */
+    Mono<Connector> createAsync(Connector connector);
+
+    /**
+     * Delete a given connector without blocking the calling thread.
+     *
+     * @param connector The connector to delete
+     * @return An empty publisher completed once the connector is deleted
+     */
+    Mono<Void> deleteAsync(Connector connector);
 }
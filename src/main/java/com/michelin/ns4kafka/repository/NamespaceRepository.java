@@ -19,6 +19,8 @@
 package com.michelin.ns4kafka.repository;
 
 import com.michelin.ns4kafka.model.Namespace;
+import com.michelin.ns4kafka.repository.kafka.KafkaStoreSubscriber;
+import com.michelin.ns4kafka.repository.kafka.KafkaStoreSubscription;
 import java.util.List;
 import java.util.Optional;
 
@@ -30,5 +32,23 @@ public interface NamespaceRepository {
 
     Optional<Namespace> findByName(String namespace);
 
+    /**
+     * Find all namespaces using a given Kafka user, on all clusters.
+     *
+     * @param kafkaUser The Kafka user
+     * @return The list of namespaces
+     */
+    List<Namespace> findAllForKafkaUser(String kafkaUser);
+
     void delete(Namespace namespace);
+
+    /**
+     * Subscribe to the changes of the namespaces.
+     *
+     * @param name The subscriber name
+     * @param capacity The capacity of the subscriber queue
+     * @param subscriber The subscriber
+     * @return The subscription, to close to unsubscribe
+     */
+    KafkaStoreSubscription subscribe(String name, int capacity, KafkaStoreSubscriber<Namespace> subscriber);
 }
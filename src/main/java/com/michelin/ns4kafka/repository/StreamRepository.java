@@ -19,6 +19,8 @@
 package com.michelin.ns4kafka.repository;
 
 import com.michelin.ns4kafka.model.KafkaStream;
+import com.michelin.ns4kafka.repository.kafka.KafkaStoreSubscriber;
+import com.michelin.ns4kafka.repository.kafka.KafkaStoreSubscription;
 import java.util.List;
 
 /** Stream repository. */
@@ -28,4 +30,14 @@ public interface StreamRepository {
     KafkaStream create(KafkaStream stream);
 
     void delete(KafkaStream stream);
+
+    /**
+     * Subscribe to the changes of the Kafka Streams.
+     *
+     * @param name The subscriber name
+     * @param capacity The capacity of the subscriber queue
+     * @param subscriber The subscriber
+     * @return The subscription, to close to unsubscribe
+     */
+    KafkaStoreSubscription subscribe(String name, int capacity, KafkaStoreSubscriber<KafkaStream> subscriber);
 }
@@ -20,6 +20,9 @@ package com.michelin.ns4kafka.repository;
 
 import com.michelin.ns4kafka.model.Topic;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
 
 /** Topic repository. */
 public interface TopicRepository {
@@ -38,6 +41,15 @@ public interface TopicRepository {
      */
     List<Topic> findAllForCluster(String cluster);
 
+    /**
+     * Find a topic by cluster and name.
+     *
+     * @param cluster The cluster
+     * @param name The topic name
+     * @return The topic
+     */
+    Optional<Topic> findByName(String cluster, String name);
+
     /**
      * Create a given topic.
      *
@@ -46,6 +58,25 @@ public interface TopicRepository {
      */
     Topic create(Topic topic);
 
+    /**
+     * Update a copy of a given topic. The given topic is shared with the readers of the store and is left unchanged.
+     *
+     * @param topic The topic to update
+     * @param mutation The update applied to the copy
+     * @return The updated topic
+     */
+    Topic update(Topic topic, Consumer<Topic> mutation);
+
+    /**
+     * Update copies of given topics as one batch. The given topics are left unchanged, and the topics without update
+     * are skipped.
+     *
+     * @param topics The topics to update
+     * @param mutations The update applied to the copy of each topic, by topic name
+     * @return The updated topics
+     */
+    List<Topic> updateAll(List<Topic> topics, Map<String, Consumer<Topic>> mutations);
+
     /**
      * Delete a given topic.
      *
@@ -0,0 +1,245 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.michelin.ns4kafka.repository.kafka;
+
+import com.michelin.ns4kafka.model.AccessControlEntry;
+import com.michelin.ns4kafka.util.PrefixTrie;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Index of the OWNER ACLs by cluster, resource type and resource pattern. The resource patterns are held in radix
+ * tries, so the owners of a resource are found in the length of the resource name whatever the number of ACLs.
+ *
+ * <p>The patterns are also held normalized, with '.' and '_' considered the same in topic names as they collide in the
+ * Kafka metric names, to find the OWNER ACLs that may collide with a new one.
+ */
+class AccessControlEntryOwnerIndex implements KafkaStoreView<AccessControlEntry> {
+    private final Map<Scope, Owners> owners = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    @Override
+    public void update(String key, AccessControlEntry previous, AccessControlEntry current) {
+        boolean previousIndexed = isIndexed(previous);
+        boolean currentIndexed = isIndexed(current);
+        if (!previousIndexed && !currentIndexed) {
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            if (previousIndexed) {
+                Scope scope = Scope.of(previous);
+                Owners scopeOwners = owners.get(scope);
+                if (scopeOwners != null) {
+                    scopeOwners.trie(previous).remove(previous.getSpec().getResource(), key);
+                    scopeOwners.normalized.remove(normalize(previous), key);
+                    if (scopeOwners.isEmpty()) {
+                        owners.remove(scope);
+                    }
+                }
+            }
+
+            if (currentIndexed) {
+                Owners scopeOwners = owners.computeIfAbsent(Scope.of(current), scope -> new Owners());
+                scopeOwners.trie(current).put(current.getSpec().getResource(), key);
+                scopeOwners.normalized.put(normalize(current), key);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Find the keys of the OWNER ACLs covering a resource: the LITERAL ACLs on the resource name and the PREFIXED ACLs
+     * on any prefix of it.
+     *
+     * @param cluster The cluster
+     * @param resourceType The resource type
+     * @param resource The resource name
+     * @return The keys of the matching ACLs
+     */
+    Set<String> findOwnerKeys(String cluster, AccessControlEntry.ResourceType resourceType, String resource) {
+        Set<String> keys = new HashSet<>();
+        lock.readLock().lock();
+        try {
+            Owners scopeOwners = owners.get(new Scope(cluster, resourceType));
+            if (scopeOwners != null) {
+                keys.addAll(scopeOwners.literal.get(resource));
+                scopeOwners.prefixed.forEachPrefixOf(resource, keys::add);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return keys;
+    }
+
+    /**
+     * Find the keys of the OWNER ACLs related to a resource: the ACLs on a prefix of the normalized resource name and
+     * the ACLs on a name starting with it, whatever their pattern.
+     *
+     * @param cluster The cluster
+     * @param resourceType The resource type
+     * @param resource The resource name
+     * @return The keys of the related ACLs
+     */
+    Set<String> findRelatedOwnerKeys(String cluster, AccessControlEntry.ResourceType resourceType, String resource) {
+        Set<String> keys = new HashSet<>();
+        lock.readLock().lock();
+        try {
+            Owners scopeOwners = owners.get(new Scope(cluster, resourceType));
+            if (scopeOwners != null) {
+                scopeOwners.normalized.forEachRelatedTo(normalize(resourceType, resource), keys::add);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return keys;
+    }
+
+    /**
+     * Check if an ACL is an OWNER ACL covering a resource. Used to check the stored values against the index, which is
+     * updated right after the store.
+     *
+     * @param accessControlEntry The ACL
+     * @param cluster The cluster
+     * @param resourceType The resource type
+     * @param resource The resource name
+     * @return true if it is, false otherwise
+     */
+    static boolean isOwnerOf(
+            AccessControlEntry accessControlEntry,
+            String cluster,
+            AccessControlEntry.ResourceType resourceType,
+            String resource) {
+        if (!isIndexed(accessControlEntry)
+                || !cluster.equals(accessControlEntry.getMetadata().getCluster())
+                || accessControlEntry.getSpec().getResourceType() != resourceType) {
+            return false;
+        }
+
+        return switch (accessControlEntry.getSpec().getResourcePatternType()) {
+            case PREFIXED -> resource.startsWith(accessControlEntry.getSpec().getResource());
+            case LITERAL -> resource.equals(accessControlEntry.getSpec().getResource());
+        };
+    }
+
+    /**
+     * Check if an ACL is an OWNER ACL related to a resource. Used to check the stored values against the index, which
+     * is updated right after the store.
+     *
+     * @param accessControlEntry The ACL
+     * @param cluster The cluster
+     * @param resourceType The resource type
+     * @param resource The resource name
+     * @return true if it is, false otherwise
+     */
+    static boolean isRelatedTo(
+            AccessControlEntry accessControlEntry,
+            String cluster,
+            AccessControlEntry.ResourceType resourceType,
+            String resource) {
+        if (!isIndexed(accessControlEntry)
+                || !cluster.equals(accessControlEntry.getMetadata().getCluster())
+                || accessControlEntry.getSpec().getResourceType() != resourceType) {
+            return false;
+        }
+
+        String normalizedAcl = normalize(accessControlEntry);
+        String normalizedResource = normalize(resourceType, resource);
+        return normalizedAcl.startsWith(normalizedResource) || normalizedResource.startsWith(normalizedAcl);
+    }
+
+    /**
+     * Normalize the resource of an ACL.
+     *
+     * @param accessControlEntry The ACL
+     * @return The normalized resource
+     */
+    private static String normalize(AccessControlEntry accessControlEntry) {
+        return normalize(
+                accessControlEntry.getSpec().getResourceType(),
+                accessControlEntry.getSpec().getResource());
+    }
+
+    /**
+     * Normalize a resource name. The '.' of the topic names are replaced by '_', as both collide in the Kafka metric
+     * names.
+     *
+     * @param resourceType The resource type
+     * @param resource The resource name
+     * @return The normalized resource name
+     */
+    private static String normalize(AccessControlEntry.ResourceType resourceType, String resource) {
+        return resourceType == AccessControlEntry.ResourceType.TOPIC ? resource.replace('.', '_') : resource;
+    }
+
+    /**
+     * Check if an ACL is held by the index.
+     *
+     * @param accessControlEntry The ACL
+     * @return true if it is, false otherwise
+     */
+    private static boolean isIndexed(AccessControlEntry accessControlEntry) {
+        return accessControlEntry != null
+                && accessControlEntry.getMetadata() != null
+                && accessControlEntry.getMetadata().getCluster() != null
+                && accessControlEntry.getSpec() != null
+                && accessControlEntry.getSpec().getPermission() == AccessControlEntry.Permission.OWNER
+                && accessControlEntry.getSpec().getResourceType() != null
+                && accessControlEntry.getSpec().getResourcePatternType() != null
+                && accessControlEntry.getSpec().getResource() != null;
+    }
+
+    /**
+     * Cluster and resource type of the indexed ACLs.
+     *
+     * @param cluster The cluster
+     * @param resourceType The resource type
+     */
+    private record Scope(String cluster, AccessControlEntry.ResourceType resourceType) {
+        static Scope of(AccessControlEntry accessControlEntry) {
+            return new Scope(
+                    accessControlEntry.getMetadata().getCluster(),
+                    accessControlEntry.getSpec().getResourceType());
+        }
+    }
+
+    /** OWNER ACL keys of a scope, by resource pattern and by normalized resource. */
+    private static final class Owners {
+        private final PrefixTrie<String> literal = new PrefixTrie<>();
+        private final PrefixTrie<String> prefixed = new PrefixTrie<>();
+        private final PrefixTrie<String> normalized = new PrefixTrie<>();
+
+        PrefixTrie<String> trie(AccessControlEntry accessControlEntry) {
+            return accessControlEntry.getSpec().getResourcePatternType()
+                            == AccessControlEntry.ResourcePatternType.PREFIXED
+                    ? prefixed
+                    : literal;
+        }
+
+        boolean isEmpty() {
+            return literal.isEmpty() && prefixed.isEmpty();
+        }
+    }
+}
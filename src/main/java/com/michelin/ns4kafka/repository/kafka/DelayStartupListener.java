@@ -22,6 +22,10 @@ import io.micronaut.context.event.ApplicationEventListener;
 import io.micronaut.context.event.StartupEvent;
 import jakarta.inject.Inject;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import lombok.extern.slf4j.Slf4j;
 
 /** Delay startup listener. */
@@ -32,21 +36,31 @@ public class DelayStartupListener implements ApplicationEventListener<StartupEve
 
     /**
      * Wait for KafkaStores to be ready before starting the HTTP listener. This is required to avoid serving requests
-     * before KafkaStores are ready.
+     * before KafkaStores are ready. The stores initialize in parallel, and the listener wakes up as soon as the last
+     * one completes.
      *
      * @param event the event to respond to
      */
     @Override
     public void onApplicationEvent(StartupEvent event) {
-        while (!kafkaStores.stream().allMatch(KafkaStore::isInitialized)) {
+        CompletableFuture<Void> initialization = CompletableFuture.allOf(
+                kafkaStores.stream().map(KafkaStore::getInitialization).toArray(CompletableFuture[]::new));
+
+        while (!initialization.isDone()) {
             try {
-                Thread.sleep(1000);
+                initialization.get(10, TimeUnit.SECONDS);
+            } catch (TimeoutException e) {
                 log.info("Waiting for Kafka store to catch up");
+                kafkaStores.forEach(KafkaStore::reportInitProgress);
+            } catch (ExecutionException e) {
+                throw new KafkaStoreException("Unrecoverable error during initialization of the Kafka stores", e);
             } catch (InterruptedException e) {
                 log.error("Exception ", e);
                 Thread.currentThread().interrupt();
+                return;
             }
-            kafkaStores.forEach(KafkaStore::reportInitProgress);
         }
+
+        kafkaStores.forEach(KafkaStore::reportInitProgress);
     }
 }
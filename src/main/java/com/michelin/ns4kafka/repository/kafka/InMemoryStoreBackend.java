@@ -0,0 +1,140 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.michelin.ns4kafka.repository.kafka;
+
+import io.micronaut.context.annotation.Requires;
+import jakarta.annotation.PreDestroy;
+import jakarta.inject.Singleton;
+import java.lang.reflect.Proxy;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.admin.OffsetSpec;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.producer.Callback;
+import org.apache.kafka.clients.producer.Producer;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.clients.producer.RecordMetadata;
+import org.apache.kafka.common.TopicPartition;
+
+/**
+ * In-memory backend of the Kafka stores, for benchmarks and load tests.
+ *
+ * <p>The records written by a store are given increasing offsets and handed back to the store by a dedicated thread,
+ * as its consumer would. Nothing is kept but the stores themselves, so the stores are empty on startup.
+ */
+@Slf4j
+@Singleton
+@Requires(property = "ns4kafka.store.kafka.backend", value = "memory")
+public class InMemoryStoreBackend implements KafkaStoreBackend {
+    private final Map<String, InMemoryLog<?>> logs = new ConcurrentHashMap<>();
+
+    @Override
+    public void createOrVerifyTopic(String kafkaTopic) {
+        log.info("Using in-memory log for topic {}.", kafkaTopic);
+    }
+
+    @Override
+    public CompletableFuture<Long> listOffset(String kafkaTopic, OffsetSpec offsetSpec) {
+        InMemoryLog<?> inMemoryLog = logs.get(kafkaTopic);
+        long offset =
+                inMemoryLog == null || offsetSpec instanceof OffsetSpec.EarliestSpec ? 0 : inMemoryLog.endOffset();
+        return CompletableFuture.completedFuture(offset);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> Producer<String, T> getProducer(KafkaStore<T> store, Producer<String, T> kafkaProducer) {
+        InMemoryLog<T> inMemoryLog = (InMemoryLog<T>)
+                logs.computeIfAbsent(store.getKafkaTopic(), topic -> new InMemoryLog<>(store));
+
+        // Only the sends are supported, the stores do not use the rest of the producer API
+        return (Producer<String, T>) Proxy.newProxyInstance(
+                Producer.class.getClassLoader(), new Class<?>[] {Producer.class}, (proxy, method, args) ->
+                        switch (method.getName()) {
+                            case "send" -> inMemoryLog.append(
+                                    (ProducerRecord<String, T>) args[0], args.length > 1 ? (Callback) args[1] : null);
+                            case "flush", "close" -> null;
+                            case "equals" -> proxy == args[0];
+                            case "hashCode" -> System.identityHashCode(proxy);
+                            case "toString" -> "InMemoryProducer[" + store.getKafkaTopic() + "]";
+                            default -> throw new UnsupportedOperationException(
+                                    method.getName() + " is not supported by the in-memory store backend.");
+                        });
+    }
+
+    /** Stop handing the records back to the stores. */
+    @PreDestroy
+    void close() {
+        logs.values().forEach(InMemoryLog::close);
+    }
+
+    /**
+     * In-memory log of a store.
+     *
+     * @param <T> The type of the store
+     */
+    private static class InMemoryLog<T> {
+        private final KafkaStore<T> store;
+        private final ExecutorService reader;
+        private long endOffset;
+
+        InMemoryLog(KafkaStore<T> store) {
+            this.store = store;
+            this.reader = Executors.newSingleThreadExecutor(Thread.ofPlatform()
+                    .name("kafka-store-memory-" + store.getKafkaTopic())
+                    .daemon()
+                    .factory());
+        }
+
+        /**
+         * Append a record to the log. The record is acknowledged right away, and handed back to the store in order.
+         *
+         * @param producerRecord The record
+         * @param callback The callback, if any
+         * @return The acknowledgment
+         */
+        synchronized Future<RecordMetadata> append(ProducerRecord<String, T> producerRecord, Callback callback) {
+            long offset = endOffset++;
+            TopicPartition topicPartition = new TopicPartition(producerRecord.topic(), 0);
+            RecordMetadata recordMetadata =
+                    new RecordMetadata(topicPartition, offset, 0, System.currentTimeMillis(), -1, -1);
+
+            reader.execute(() -> store.receive(new ConsumerRecord<>(
+                    producerRecord.topic(), 0, offset, producerRecord.key(), producerRecord.value())));
+
+            if (callback != null) {
+                callback.onCompletion(recordMetadata, null);
+            }
+            return CompletableFuture.completedFuture(recordMetadata);
+        }
+
+        synchronized long endOffset() {
+            return endOffset;
+        }
+
+        void close() {
+            reader.shutdownNow();
+        }
+    }
+}
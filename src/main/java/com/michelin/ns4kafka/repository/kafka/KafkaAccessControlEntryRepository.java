@@ -25,26 +25,32 @@ import io.micronaut.configuration.kafka.annotation.KafkaListener;
 import io.micronaut.configuration.kafka.annotation.OffsetReset;
 import io.micronaut.configuration.kafka.annotation.OffsetStrategy;
 import io.micronaut.configuration.kafka.annotation.Topic;
+import io.micronaut.context.annotation.Property;
+import io.micronaut.context.annotation.Requires;
 import io.micronaut.context.annotation.Value;
 import jakarta.inject.Singleton;
 import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.apache.kafka.clients.producer.Producer;
 
 /** Access control entry repository. */
 @Singleton
-@KafkaListener(
-        offsetReset = OffsetReset.EARLIEST,
-        groupId = "${ns4kafka.store.kafka.group-id}",
-        offsetStrategy = OffsetStrategy.DISABLED)
 public class KafkaAccessControlEntryRepository extends KafkaStore<AccessControlEntry>
         implements AccessControlEntryRepository {
+    private static final String GRANTED_TO_INDEX = "grantedTo";
+    private final AccessControlEntryOwnerIndex ownerIndex = new AccessControlEntryOwnerIndex();
 
     public KafkaAccessControlEntryRepository(
             @Value("${ns4kafka.store.kafka.topics.prefix}.access-control-entries") String kafkaTopic,
             @KafkaClient("access-control-entries-producer") Producer<String, AccessControlEntry> kafkaProducer) {
         super(kafkaTopic, kafkaProducer);
+        addIndex(CLUSTER_INDEX, accessControlEntry -> accessControlEntry.getMetadata().getCluster());
+        addIndex(GRANTED_TO_INDEX, accessControlEntry -> accessControlEntry.getSpec().getGrantedTo());
+        addView(ownerIndex);
     }
 
     @Override
@@ -65,20 +71,67 @@ public class KafkaAccessControlEntryRepository extends KafkaStore<AccessControlE
 
     @Override
     public Optional<AccessControlEntry> findByName(String namespace, String name) {
-        return getKafkaStore().values().stream()
-                .filter(ace -> ace.getMetadata().getNamespace().equals(namespace))
-                .filter(ace -> ace.getMetadata().getName().equals(name))
-                .findFirst();
+        return Optional.ofNullable(getKafkaStore().get(namespace + "/" + name));
     }
 
     @Override
-    @Topic(value = "${ns4kafka.store.kafka.topics.prefix}.access-control-entries")
-    void receive(ConsumerRecord<String, AccessControlEntry> message) {
-        super.receive(message);
+    public List<AccessControlEntry> findAllForCluster(String cluster) {
+        return findAllByIndex(CLUSTER_INDEX, cluster);
+    }
+
+    @Override
+    public List<AccessControlEntry> findAllGrantedTo(String grantedTo) {
+        return findAllByIndex(GRANTED_TO_INDEX, grantedTo);
+    }
+
+    @Override
+    public List<AccessControlEntry> findAllOwnersOf(
+            String cluster, AccessControlEntry.ResourceType resourceType, String resource) {
+        awaitConsistency();
+
+        // The values are checked against the request as the index is updated right after the store
+        return ownerIndex.findOwnerKeys(cluster, resourceType, resource).stream()
+                .map(getKafkaStore()::get)
+                .filter(Objects::nonNull)
+                .filter(accessControlEntry ->
+                        AccessControlEntryOwnerIndex.isOwnerOf(accessControlEntry, cluster, resourceType, resource))
+                .toList();
+    }
+
+    @Override
+    public List<AccessControlEntry> findAllOwnersRelatedTo(
+            String cluster, AccessControlEntry.ResourceType resourceType, String resource) {
+        awaitConsistency();
+
+        return ownerIndex.findRelatedOwnerKeys(cluster, resourceType, resource).stream()
+                .map(getKafkaStore()::get)
+                .filter(Objects::nonNull)
+                .filter(accessControlEntry ->
+                        AccessControlEntryOwnerIndex.isRelatedTo(accessControlEntry, cluster, resourceType, resource))
+                .toList();
     }
 
     @Override
     public Collection<AccessControlEntry> findAll() {
         return getKafkaStore().values();
     }
+
+    /** Consumer of the access control entries store, only started with the Kafka backend. */
+    @Requires(property = "ns4kafka.store.kafka.backend", notEquals = "memory")
+    @KafkaListener(
+            offsetReset = OffsetReset.EARLIEST,
+            groupId = "${ns4kafka.store.kafka.group-id}",
+            offsetStrategy = OffsetStrategy.DISABLED,
+            properties = @Property(name = ConsumerConfig.ISOLATION_LEVEL_CONFIG, value = "read_committed"))
+    static class Listener extends KafkaStoreListener<AccessControlEntry> {
+        Listener(KafkaAccessControlEntryRepository repository) {
+            super(repository);
+        }
+
+        @Override
+        @Topic(value = "${ns4kafka.store.kafka.topics.prefix}.access-control-entries")
+        void receive(ConsumerRecord<String, AccessControlEntry> message) {
+            super.receive(message);
+        }
+    }
 }
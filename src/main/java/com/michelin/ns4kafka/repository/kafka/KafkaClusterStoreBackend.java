@@ -0,0 +1,207 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.michelin.ns4kafka.repository.kafka;
+
+import com.michelin.ns4kafka.property.Ns4KafkaProperties;
+import io.micronaut.context.annotation.Requires;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.admin.AdminClient;
+import org.apache.kafka.clients.admin.Config;
+import org.apache.kafka.clients.admin.ListOffsetsResult;
+import org.apache.kafka.clients.admin.NewTopic;
+import org.apache.kafka.clients.admin.OffsetSpec;
+import org.apache.kafka.clients.admin.TopicDescription;
+import org.apache.kafka.clients.producer.Producer;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.config.ConfigResource;
+import org.apache.kafka.common.config.TopicConfig;
+import org.apache.kafka.common.errors.TopicExistsException;
+
+/** Backend of the Kafka stores writing to compacted Kafka topics. */
+@Slf4j
+@Singleton
+@Requires(property = "ns4kafka.store.kafka.backend", notEquals = "memory")
+public class KafkaClusterStoreBackend implements KafkaStoreBackend {
+    @Inject
+    private AdminClient adminClient;
+
+    @Inject
+    private Ns4KafkaProperties ns4KafkaProperties;
+
+    @Override
+    public void createOrVerifyTopic(String kafkaTopic) throws KafkaStoreException {
+        try {
+            Set<String> allTopics = adminClient
+                    .listTopics()
+                    .names()
+                    .get(ns4KafkaProperties.getStore().getKafka().getInitTimeout(), TimeUnit.MILLISECONDS);
+
+            if (allTopics.contains(kafkaTopic)) {
+                verifyInternalTopic(kafkaTopic);
+            } else {
+                createInternalTopic(kafkaTopic);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new KafkaStoreException(
+                    "Thread interrupted trying to create or validate configuration of topic " + kafkaTopic + ".", e);
+        } catch (ExecutionException e) {
+            throw new KafkaStoreException(
+                    "Execution error trying to create or validate configuration of topic " + kafkaTopic + ".", e);
+        } catch (TimeoutException e) {
+            throw new KafkaStoreException(
+                    "Timed out trying to create or validate configuration of topic " + kafkaTopic + ".", e);
+        }
+    }
+
+    /**
+     * Verify the internal topic.
+     *
+     * @param kafkaTopic The topic
+     * @throws KafkaStoreException Exception thrown during internal topic verification
+     * @throws InterruptedException Exception thrown during internal topic verification
+     * @throws ExecutionException Exception thrown during internal topic verification
+     * @throws TimeoutException Exception thrown during internal topic verification
+     */
+    private void verifyInternalTopic(String kafkaTopic)
+            throws KafkaStoreException, InterruptedException, ExecutionException, TimeoutException {
+        log.info("Validating topic {}.", kafkaTopic);
+
+        Set<String> topics = Collections.singleton(kafkaTopic);
+        Map<String, TopicDescription> topicDescription = adminClient
+                .describeTopics(topics)
+                .allTopicNames()
+                .get(ns4KafkaProperties.getStore().getKafka().getInitTimeout(), TimeUnit.MILLISECONDS);
+
+        TopicDescription description = topicDescription.get(kafkaTopic);
+        final int numPartitions = description.partitions().size();
+        if (numPartitions != 1) {
+            throw new KafkaStoreException(
+                    "The topic " + kafkaTopic + " should have only 1 partition but has " + numPartitions + ".");
+        }
+
+        if (description.partitions().getFirst().replicas().size()
+                        < ns4KafkaProperties.getStore().getKafka().getTopics().getReplicationFactor()
+                && log.isWarnEnabled()) {
+            log.warn(
+                    "The replication factor of the topic {} is less than the desired one of {}. If this is a production environment, it's crucial to add more brokers and increase the replication factor of the topic.",
+                    kafkaTopic,
+                    ns4KafkaProperties.getStore().getKafka().getTopics().getReplicationFactor());
+        }
+
+        ConfigResource topicResource = new ConfigResource(ConfigResource.Type.TOPIC, kafkaTopic);
+        Map<ConfigResource, Config> configs = adminClient
+                .describeConfigs(Collections.singleton(topicResource))
+                .all()
+                .get(ns4KafkaProperties.getStore().getKafka().getInitTimeout(), TimeUnit.MILLISECONDS);
+
+        Config topicConfigs = configs.get(topicResource);
+        String retentionPolicy =
+                topicConfigs.get(TopicConfig.CLEANUP_POLICY_CONFIG).value();
+        if (!TopicConfig.CLEANUP_POLICY_COMPACT.equals(retentionPolicy)) {
+            if (log.isErrorEnabled()) {
+                log.error(
+                        "The retention policy of the topic {} is incorrect. You must configure the topic to 'compact' cleanup policy to avoid Kafka deleting your data after a week. Refer to Kafka documentation for more details on cleanup policies",
+                        kafkaTopic);
+            }
+
+            throw new KafkaStoreException("The retention policy of the schema kafkaTopic " + kafkaTopic
+                    + " is incorrect. Expected cleanup.policy to be 'compact' but it is " + retentionPolicy);
+        }
+    }
+
+    /**
+     * Create the internal topic.
+     *
+     * @param kafkaTopic The topic
+     * @throws KafkaStoreException Exception thrown during internal topic creation
+     * @throws InterruptedException Exception thrown during internal topic creation
+     * @throws ExecutionException Exception thrown during internal topic creation
+     * @throws TimeoutException Exception thrown during internal topic creation
+     */
+    private void createInternalTopic(String kafkaTopic)
+            throws KafkaStoreException, InterruptedException, ExecutionException, TimeoutException {
+        log.info("Creating topic {}.", kafkaTopic);
+
+        int numLiveBrokers = adminClient
+                .describeCluster()
+                .nodes()
+                .get(ns4KafkaProperties.getStore().getKafka().getInitTimeout(), TimeUnit.MILLISECONDS)
+                .size();
+
+        if (numLiveBrokers == 0) {
+            throw new KafkaStoreException("No live Kafka brokers.");
+        }
+
+        int schemaTopicReplicationFactor = Math.min(
+                numLiveBrokers,
+                ns4KafkaProperties.getStore().getKafka().getTopics().getReplicationFactor());
+        if (schemaTopicReplicationFactor
+                        < ns4KafkaProperties.getStore().getKafka().getTopics().getReplicationFactor()
+                && log.isWarnEnabled()) {
+            log.warn(
+                    "Creating the kafkaTopic {} using a replication factor of {}, which is less than the desired one of {}. If this is a production environment, it's crucial to add more brokers and increase the replication factor of the kafkaTopic.",
+                    kafkaTopic,
+                    schemaTopicReplicationFactor,
+                    ns4KafkaProperties.getStore().getKafka().getTopics().getReplicationFactor());
+        }
+
+        NewTopic schemaTopicRequest = new NewTopic(kafkaTopic, 1, (short) schemaTopicReplicationFactor);
+        schemaTopicRequest.configs(
+                ns4KafkaProperties.getStore().getKafka().getTopics().getProps());
+
+        try {
+            adminClient
+                    .createTopics(Collections.singleton(schemaTopicRequest))
+                    .all()
+                    .get(ns4KafkaProperties.getStore().getKafka().getInitTimeout(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof TopicExistsException) {
+                verifyInternalTopic(kafkaTopic);
+            } else {
+                throw e;
+            }
+        }
+    }
+
+    @Override
+    public CompletableFuture<Long> listOffset(String kafkaTopic, OffsetSpec offsetSpec) {
+        TopicPartition topicPartition = new TopicPartition(kafkaTopic, 0);
+        return adminClient
+                .listOffsets(Map.of(topicPartition, offsetSpec))
+                .partitionResult(topicPartition)
+                .toCompletionStage()
+                .toCompletableFuture()
+                .thenApply(ListOffsetsResult.ListOffsetsResultInfo::offset);
+    }
+
+    @Override
+    public <T> Producer<String, T> getProducer(KafkaStore<T> store, Producer<String, T> kafkaProducer) {
+        return kafkaProducer;
+    }
+}
@@ -25,24 +25,24 @@ import io.micronaut.configuration.kafka.annotation.KafkaListener;
 import io.micronaut.configuration.kafka.annotation.OffsetReset;
 import io.micronaut.configuration.kafka.annotation.OffsetStrategy;
 import io.micronaut.configuration.kafka.annotation.Topic;
+import io.micronaut.context.annotation.Property;
+import io.micronaut.context.annotation.Requires;
 import io.micronaut.context.annotation.Value;
 import jakarta.inject.Singleton;
 import java.util.ArrayList;
 import java.util.List;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.apache.kafka.clients.producer.Producer;
 
 /** Kafka Connect Cluster repository. */
 @Singleton
-@KafkaListener(
-        offsetReset = OffsetReset.EARLIEST,
-        groupId = "${ns4kafka.store.kafka.group-id}",
-        offsetStrategy = OffsetStrategy.DISABLED)
 public class KafkaConnectClusterRepository extends KafkaStore<ConnectCluster> implements ConnectClusterRepository {
     public KafkaConnectClusterRepository(
             @Value("${ns4kafka.store.kafka.topics.prefix}.connect-workers") String kafkaTopic,
             @KafkaClient("connect-workers") Producer<String, ConnectCluster> kafkaProducer) {
         super(kafkaTopic, kafkaProducer);
+        addIndex(CLUSTER_INDEX, connectCluster -> connectCluster.getMetadata().getCluster());
     }
 
     @Override
@@ -52,10 +52,7 @@ public class KafkaConnectClusterRepository extends KafkaStore<ConnectCluster> im
 
     @Override
     public List<ConnectCluster> findAllForCluster(String cluster) {
-        return getKafkaStore().values().stream()
-                .filter(connectCluster ->
-                        connectCluster.getMetadata().getCluster().equals(cluster))
-                .toList();
+        return findAllByIndex(CLUSTER_INDEX, cluster);
     }
 
     @Override
@@ -68,15 +65,28 @@ public class KafkaConnectClusterRepository extends KafkaStore<ConnectCluster> im
         this.produce(getMessageKey(connectCluster), null);
     }
 
-    @Override
-    @Topic(value = "${ns4kafka.store.kafka.topics.prefix}.connect-workers")
-    void receive(ConsumerRecord<String, ConnectCluster> message) {
-        super.receive(message);
-    }
-
     @Override
     String getMessageKey(ConnectCluster connectCluster) {
         return connectCluster.getMetadata().getNamespace() + "/"
                 + connectCluster.getMetadata().getName();
     }
+
+    /** Consumer of the Connect clusters store, only started with the Kafka backend. */
+    @Requires(property = "ns4kafka.store.kafka.backend", notEquals = "memory")
+    @KafkaListener(
+            offsetReset = OffsetReset.EARLIEST,
+            groupId = "${ns4kafka.store.kafka.group-id}",
+            offsetStrategy = OffsetStrategy.DISABLED,
+            properties = @Property(name = ConsumerConfig.ISOLATION_LEVEL_CONFIG, value = "read_committed"))
+    static class Listener extends KafkaStoreListener<ConnectCluster> {
+        Listener(KafkaConnectClusterRepository repository) {
+            super(repository);
+        }
+
+        @Override
+        @Topic(value = "${ns4kafka.store.kafka.topics.prefix}.connect-workers")
+        void receive(ConsumerRecord<String, ConnectCluster> message) {
+            super.receive(message);
+        }
+    }
 }
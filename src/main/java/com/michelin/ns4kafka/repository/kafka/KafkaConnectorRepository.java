@@ -25,23 +25,24 @@ import io.micronaut.configuration.kafka.annotation.KafkaListener;
 import io.micronaut.configuration.kafka.annotation.OffsetReset;
 import io.micronaut.configuration.kafka.annotation.OffsetStrategy;
 import io.micronaut.configuration.kafka.annotation.Topic;
+import io.micronaut.context.annotation.Property;
+import io.micronaut.context.annotation.Requires;
 import io.micronaut.context.annotation.Value;
 import jakarta.inject.Singleton;
 import java.util.List;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.apache.kafka.clients.producer.Producer;
+import reactor.core.publisher.Mono;
 
 /** Kafka Connector repository. */
 @Singleton
-@KafkaListener(
-        offsetReset = OffsetReset.EARLIEST,
-        groupId = "${ns4kafka.store.kafka.group-id}",
-        offsetStrategy = OffsetStrategy.DISABLED)
 public class KafkaConnectorRepository extends KafkaStore<Connector> implements ConnectorRepository {
     public KafkaConnectorRepository(
             @Value("${ns4kafka.store.kafka.topics.prefix}.connectors") String kafkaTopic,
             @KafkaClient("connectors-producer") Producer<String, Connector> kafkaProducer) {
         super(kafkaTopic, kafkaProducer);
+        addIndex(CLUSTER_INDEX, connector -> connector.getMetadata().getCluster());
     }
 
     @Override
@@ -50,12 +51,6 @@ public class KafkaConnectorRepository extends KafkaStore<Connector> implements C
                 + connector.getMetadata().getName();
     }
 
-    @Override
-    @Topic(value = "${ns4kafka.store.kafka.topics.prefix}.connectors")
-    void receive(ConsumerRecord<String, Connector> message) {
-        super.receive(message);
-    }
-
     /**
      * Create a given connector.
      *
@@ -77,6 +72,28 @@ public class KafkaConnectorRepository extends KafkaStore<Connector> implements C
         this.produce(getMessageKey(connector), null);
     }
 
+    /**
+     * Create a given connector without blocking the calling thread.
+     *
+     * @param connector The connector to create
+     * @return The created connector
+     */
+    @Override
+    public Mono<Connector> createAsync(Connector connector) {
+        return Mono.fromFuture(() -> produceAsync(getMessageKey(connector), connector));
+    }
+
+    /**
+     * Delete a given connector without blocking the calling thread.
+     *
+     * @param connector The connector to delete
+     * @return An empty publisher completed once the connector is deleted
+     */
+    @Override
+    public Mono<Void> deleteAsync(Connector connector) {
+        return Mono.fromFuture(() -> produceAsync(getMessageKey(connector), null)).then();
+    }
+
     /**
      * Find all connectors by cluster.
      *
@@ -85,8 +102,25 @@ public class KafkaConnectorRepository extends KafkaStore<Connector> implements C
      */
     @Override
     public List<Connector> findAllForCluster(String cluster) {
-        return getKafkaStore().values().stream()
-                .filter(connector -> connector.getMetadata().getCluster().equals(cluster))
-                .toList();
+        return findAllByIndex(CLUSTER_INDEX, cluster);
+    }
+
+    /** Consumer of the connectors store, only started with the Kafka backend. */
+    @Requires(property = "ns4kafka.store.kafka.backend", notEquals = "memory")
+    @KafkaListener(
+            offsetReset = OffsetReset.EARLIEST,
+            groupId = "${ns4kafka.store.kafka.group-id}",
+            offsetStrategy = OffsetStrategy.DISABLED,
+            properties = @Property(name = ConsumerConfig.ISOLATION_LEVEL_CONFIG, value = "read_committed"))
+    static class Listener extends KafkaStoreListener<Connector> {
+        Listener(KafkaConnectorRepository repository) {
+            super(repository);
+        }
+
+        @Override
+        @Topic(value = "${ns4kafka.store.kafka.topics.prefix}.connectors")
+        void receive(ConsumerRecord<String, Connector> message) {
+            super.receive(message);
+        }
     }
 }
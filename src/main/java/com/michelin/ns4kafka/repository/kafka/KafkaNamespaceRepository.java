@@ -25,25 +25,27 @@ import io.micronaut.configuration.kafka.annotation.KafkaListener;
 import io.micronaut.configuration.kafka.annotation.OffsetReset;
 import io.micronaut.configuration.kafka.annotation.OffsetStrategy;
 import io.micronaut.configuration.kafka.annotation.Topic;
+import io.micronaut.context.annotation.Property;
+import io.micronaut.context.annotation.Requires;
 import io.micronaut.context.annotation.Value;
 import jakarta.inject.Singleton;
 import java.util.List;
 import java.util.Optional;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.apache.kafka.clients.producer.Producer;
 
 /** Kafka Namespace repository. */
 @Singleton
-@KafkaListener(
-        offsetReset = OffsetReset.EARLIEST,
-        groupId = "${ns4kafka.store.kafka.group-id}",
-        offsetStrategy = OffsetStrategy.DISABLED)
 public class KafkaNamespaceRepository extends KafkaStore<Namespace> implements NamespaceRepository {
+    private static final String KAFKA_USER_INDEX = "kafkaUser";
 
     public KafkaNamespaceRepository(
             @Value("${ns4kafka.store.kafka.topics.prefix}.namespaces") String kafkaTopic,
             @KafkaClient("namespace-producer") Producer<String, Namespace> kafkaProducer) {
         super(kafkaTopic, kafkaProducer);
+        addIndex(CLUSTER_INDEX, namespace -> namespace.getMetadata().getCluster());
+        addIndex(KAFKA_USER_INDEX, namespace -> namespace.getSpec().getKafkaUser());
     }
 
     @Override
@@ -62,22 +64,36 @@ public class KafkaNamespaceRepository extends KafkaStore<Namespace> implements N
     }
 
     @Override
-    @Topic(value = "${ns4kafka.store.kafka.topics.prefix}.namespaces")
-    void receive(ConsumerRecord<String, Namespace> message) {
-        super.receive(message);
+    public List<Namespace> findAllForCluster(String cluster) {
+        return findAllByIndex(CLUSTER_INDEX, cluster);
     }
 
     @Override
-    public List<Namespace> findAllForCluster(String cluster) {
-        return getKafkaStore().values().stream()
-                .filter(namespace -> namespace.getMetadata().getCluster().equals(cluster))
-                .toList();
+    public Optional<Namespace> findByName(String namespace) {
+        return Optional.ofNullable(getKafkaStore().get(namespace));
     }
 
     @Override
-    public Optional<Namespace> findByName(String namespace) {
-        return getKafkaStore().values().stream()
-                .filter(ns -> ns.getMetadata().getName().equals(namespace))
-                .findFirst();
+    public List<Namespace> findAllForKafkaUser(String kafkaUser) {
+        return findAllByIndex(KAFKA_USER_INDEX, kafkaUser);
+    }
+
+    /** Consumer of the namespaces store, only started with the Kafka backend. */
+    @Requires(property = "ns4kafka.store.kafka.backend", notEquals = "memory")
+    @KafkaListener(
+            offsetReset = OffsetReset.EARLIEST,
+            groupId = "${ns4kafka.store.kafka.group-id}",
+            offsetStrategy = OffsetStrategy.DISABLED,
+            properties = @Property(name = ConsumerConfig.ISOLATION_LEVEL_CONFIG, value = "read_committed"))
+    static class Listener extends KafkaStoreListener<Namespace> {
+        Listener(KafkaNamespaceRepository repository) {
+            super(repository);
+        }
+
+        @Override
+        @Topic(value = "${ns4kafka.store.kafka.topics.prefix}.namespaces")
+        void receive(ConsumerRecord<String, Namespace> message) {
+            super.receive(message);
+        }
     }
 }
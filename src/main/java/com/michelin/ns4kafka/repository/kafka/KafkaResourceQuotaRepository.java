@@ -25,20 +25,19 @@ import io.micronaut.configuration.kafka.annotation.KafkaListener;
 import io.micronaut.configuration.kafka.annotation.OffsetReset;
 import io.micronaut.configuration.kafka.annotation.OffsetStrategy;
 import io.micronaut.configuration.kafka.annotation.Topic;
+import io.micronaut.context.annotation.Property;
+import io.micronaut.context.annotation.Requires;
 import io.micronaut.context.annotation.Value;
 import jakarta.inject.Singleton;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.apache.kafka.clients.producer.Producer;
 
 /** Kafka Resource Quota repository. */
 @Singleton
-@KafkaListener(
-        offsetReset = OffsetReset.EARLIEST,
-        groupId = "${ns4kafka.store.kafka.group-id}",
-        offsetStrategy = OffsetStrategy.DISABLED)
 public class KafkaResourceQuotaRepository extends KafkaStore<ResourceQuota> implements ResourceQuotaRepository {
     /**
      * Constructor.
@@ -75,10 +74,7 @@ public class KafkaResourceQuotaRepository extends KafkaStore<ResourceQuota> impl
      */
     @Override
     public Optional<ResourceQuota> findForNamespace(String namespace) {
-        return getKafkaStore().values().stream()
-                .filter(resourceQuota ->
-                        resourceQuota.getMetadata().getNamespace().equals(namespace))
-                .findFirst();
+        return Optional.ofNullable(getKafkaStore().get(namespace));
     }
 
     /**
@@ -86,12 +82,6 @@ public class KafkaResourceQuotaRepository extends KafkaStore<ResourceQuota> impl
      *
      * @param message The resource quota message
      */
-    @Override
-    @Topic(value = "${ns4kafka.store.kafka.topics.prefix}.resource-quotas")
-    void receive(ConsumerRecord<String, ResourceQuota> message) {
-        super.receive(message);
-    }
-
     /**
      * Produce a resource quota message.
      *
@@ -112,4 +102,23 @@ public class KafkaResourceQuotaRepository extends KafkaStore<ResourceQuota> impl
     public void delete(ResourceQuota resourceQuota) {
         produce(getMessageKey(resourceQuota), null);
     }
+
+    /** Consumer of the resource quotas store, only started with the Kafka backend. */
+    @Requires(property = "ns4kafka.store.kafka.backend", notEquals = "memory")
+    @KafkaListener(
+            offsetReset = OffsetReset.EARLIEST,
+            groupId = "${ns4kafka.store.kafka.group-id}",
+            offsetStrategy = OffsetStrategy.DISABLED,
+            properties = @Property(name = ConsumerConfig.ISOLATION_LEVEL_CONFIG, value = "read_committed"))
+    static class Listener extends KafkaStoreListener<ResourceQuota> {
+        Listener(KafkaResourceQuotaRepository repository) {
+            super(repository);
+        }
+
+        @Override
+        @Topic(value = "${ns4kafka.store.kafka.topics.prefix}.resource-quotas")
+        void receive(ConsumerRecord<String, ResourceQuota> message) {
+            super.receive(message);
+        }
+    }
 }
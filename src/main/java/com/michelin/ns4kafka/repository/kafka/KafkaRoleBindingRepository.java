@@ -25,19 +25,18 @@ import io.micronaut.configuration.kafka.annotation.KafkaListener;
 import io.micronaut.configuration.kafka.annotation.OffsetReset;
 import io.micronaut.configuration.kafka.annotation.OffsetStrategy;
 import io.micronaut.configuration.kafka.annotation.Topic;
+import io.micronaut.context.annotation.Property;
+import io.micronaut.context.annotation.Requires;
 import io.micronaut.context.annotation.Value;
 import jakarta.inject.Singleton;
 import java.util.Collection;
 import java.util.List;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.apache.kafka.clients.producer.Producer;
 
 /** Kafka Role Binding repository. */
 @Singleton
-@KafkaListener(
-        offsetReset = OffsetReset.EARLIEST,
-        groupId = "${ns4kafka.store.kafka.group-id}",
-        offsetStrategy = OffsetStrategy.DISABLED)
 public class KafkaRoleBindingRepository extends KafkaStore<RoleBinding> implements RoleBindingRepository {
     /**
      * Constructor.
@@ -49,6 +48,7 @@ public class KafkaRoleBindingRepository extends KafkaStore<RoleBinding> implemen
             @Value("${ns4kafka.store.kafka.topics.prefix}.role-bindings") String kafkaTopic,
             @KafkaClient("role-binding-producer") Producer<String, RoleBinding> kafkaProducer) {
         super(kafkaTopic, kafkaProducer);
+        addIndex(NAMESPACE_INDEX, roleBinding -> roleBinding.getMetadata().getNamespace());
     }
 
     /**
@@ -68,12 +68,6 @@ public class KafkaRoleBindingRepository extends KafkaStore<RoleBinding> implemen
      *
      * @param message The role binding message
      */
-    @Override
-    @Topic(value = "${ns4kafka.store.kafka.topics.prefix}.role-bindings")
-    void receive(ConsumerRecord<String, RoleBinding> message) {
-        super.receive(message);
-    }
-
     /**
      * Produce a role binding message.
      *
@@ -123,8 +117,25 @@ public class KafkaRoleBindingRepository extends KafkaStore<RoleBinding> implemen
      */
     @Override
     public List<RoleBinding> findAllForNamespace(String namespace) {
-        return getKafkaStore().values().stream()
-                .filter(roleBinding -> roleBinding.getMetadata().getNamespace().equals(namespace))
-                .toList();
+        return findAllByIndex(NAMESPACE_INDEX, namespace);
+    }
+
+    /** Consumer of the role bindings store, only started with the Kafka backend. */
+    @Requires(property = "ns4kafka.store.kafka.backend", notEquals = "memory")
+    @KafkaListener(
+            offsetReset = OffsetReset.EARLIEST,
+            groupId = "${ns4kafka.store.kafka.group-id}",
+            offsetStrategy = OffsetStrategy.DISABLED,
+            properties = @Property(name = ConsumerConfig.ISOLATION_LEVEL_CONFIG, value = "read_committed"))
+    static class Listener extends KafkaStoreListener<RoleBinding> {
+        Listener(KafkaRoleBindingRepository repository) {
+            super(repository);
+        }
+
+        @Override
+        @Topic(value = "${ns4kafka.store.kafka.topics.prefix}.role-bindings")
+        void receive(ConsumerRecord<String, RoleBinding> message) {
+            super.receive(message);
+        }
     }
 }
@@ -19,36 +19,53 @@
 package com.michelin.ns4kafka.repository.kafka;
 
 import com.michelin.ns4kafka.property.Ns4KafkaProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micronaut.configuration.kafka.ConsumerAware;
+import io.micronaut.context.event.ApplicationEventPublisher;
+import io.micronaut.core.type.Argument;
+import io.micronaut.http.context.ServerRequestContext;
+import io.micronaut.json.JsonMapper;
 import io.micronaut.scheduling.TaskExecutors;
 import io.micronaut.scheduling.TaskScheduler;
 import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import jakarta.inject.Inject;
 import jakarta.inject.Named;
+import java.io.IOException;
+import java.lang.reflect.ParameterizedType;
+import java.nio.file.Path;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
-import java.util.Set;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicBoolean;
-import java.util.concurrent.locks.Condition;
-import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.kafka.clients.admin.AdminClient;
-import org.apache.kafka.clients.admin.Config;
-import org.apache.kafka.clients.admin.NewTopic;
-import org.apache.kafka.clients.admin.TopicDescription;
+import org.apache.kafka.clients.admin.OffsetSpec;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRebalanceListener;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.apache.kafka.clients.producer.Producer;
 import org.apache.kafka.clients.producer.ProducerRecord;
 import org.apache.kafka.clients.producer.RecordMetadata;
 import org.apache.kafka.common.KafkaException;
-import org.apache.kafka.common.config.ConfigResource;
-import org.apache.kafka.common.config.TopicConfig;
-import org.apache.kafka.common.errors.TopicExistsException;
+import org.apache.kafka.common.TopicPartition;
 
 /**
  * Kafka store.
@@ -56,9 +73,14 @@ import org.apache.kafka.common.errors.TopicExistsException;
  * @param <T> The type of the store
  */
 @Slf4j
-public abstract class KafkaStore<T> {
+public abstract class KafkaStore<T> implements ConsumerRebalanceListener, ConsumerAware<String, T> {
+    static final String CLUSTER_INDEX = "cluster";
+    static final String NAMESPACE_INDEX = "namespace";
+    private static final String NOOP_KEY = "NOOP";
+    private static final Duration END_OFFSET_REFRESH = Duration.ofSeconds(30);
+
     @Inject
-    private AdminClient adminClient;
+    private KafkaStoreBackend backend;
 
     @Inject
     private Ns4KafkaProperties ns4KafkaProperties;
@@ -67,21 +89,45 @@ public abstract class KafkaStore<T> {
     @Named(TaskExecutors.SCHEDULED)
     private TaskScheduler taskScheduler;
 
+    @Inject
+    @Named(TaskExecutors.IO)
+    private ExecutorService ioExecutor;
+
+    @Inject
+    private JsonMapper jsonMapper;
+
+    @Inject
+    private MeterRegistry meterRegistry;
+
+    @Inject
+    private ApplicationEventPublisher<KafkaStoreInitializedEvent> eventPublisher;
+
     private final Map<String, T> store;
+    private final Map<String, KafkaStoreIndex<T>> indexes;
+    private final List<KafkaStoreView<T>> views;
     private final AtomicBoolean initialized = new AtomicBoolean(false);
-    private final ReentrantLock offsetUpdateLock;
-    private final Condition offsetReachedThreshold;
+    private final CompletableFuture<Void> initialization = new CompletableFuture<>();
+    private final KafkaStoreOffsetTracker offsetTracker;
     String kafkaTopic;
     Producer<String, T> kafkaProducer;
-    long offsetInSchemasTopic = -1;
-    long lastWrittenOffset = -1;
+    Consumer<String, T> kafkaConsumer;
+    KafkaStoreSnapshot<T> snapshot;
+    KafkaStoreGroupCommit<T> groupCommit;
+    KafkaStoreEventBus<T> eventBus;
+    KafkaStoreCanonicalizer canonicalizer;
+    KafkaStoreMetrics metrics;
+    private volatile long initStartTime;
+    private volatile long initStartOffset = -1;
+    private volatile long initEndTime;
+    private volatile long initTargetOffset = -1;
 
     KafkaStore(String kafkaTopic, Producer<String, T> kafkaProducer) {
         this.kafkaTopic = kafkaTopic;
         this.kafkaProducer = kafkaProducer;
         this.store = new ConcurrentHashMap<>();
-        this.offsetUpdateLock = new ReentrantLock();
-        this.offsetReachedThreshold = offsetUpdateLock.newCondition();
+        this.indexes = new ConcurrentHashMap<>();
+        this.views = new CopyOnWriteArrayList<>();
+        this.offsetTracker = new KafkaStoreOffsetTracker();
     }
 
     /**
@@ -92,6 +138,66 @@ public abstract class KafkaStore<T> {
      */
     abstract String getMessageKey(T message);
 
+    /**
+     * Register a secondary index on the store. The index is maintained on every consumed record, so it must be
+     * registered before the store starts consuming, typically from the repository constructor.
+     *
+     * @param indexName The index name
+     * @param indexKeyExtractor The function extracting the index key from a stored value
+     */
+    void addIndex(String indexName, Function<T, String> indexKeyExtractor) {
+        KafkaStoreIndex<T> index = new KafkaStoreIndex<>(indexKeyExtractor);
+        indexes.put(indexName, index);
+        views.add(index);
+    }
+
+    /**
+     * Register a view on the store. As an index, the view is maintained on every consumed record, so it must be
+     * registered before the store starts consuming, typically from the repository constructor.
+     *
+     * @param view The view
+     */
+    void addView(KafkaStoreView<T> view) {
+        views.add(view);
+    }
+
+    /**
+     * Subscribe to the changes of the store. The changes are delivered from the subscriber own thread through a
+     * bounded queue, so a slow subscriber never slows down the store. The records already in the store, including
+     * those loaded from a snapshot, are not delivered: the subscriber reads them from the store.
+     *
+     * @param name The subscriber name
+     * @param capacity The capacity of the subscriber queue
+     * @param subscriber The subscriber
+     * @return The subscription, to close to unsubscribe
+     */
+    public KafkaStoreSubscription subscribe(String name, int capacity, KafkaStoreSubscriber<T> subscriber) {
+        return eventBus.subscribe(name, capacity, subscriber);
+    }
+
+    /**
+     * Find all the stored values matching the given key of a secondary index.
+     *
+     * @param indexName The index name
+     * @param indexKey The index key
+     * @return The matching values
+     */
+    List<T> findAllByIndex(String indexName, String indexKey) {
+        KafkaStoreIndex<T> index = indexes.get(indexName);
+        if (index == null) {
+            throw new KafkaStoreException("Unknown index " + indexName + " for topic " + kafkaTopic + ".");
+        }
+
+        awaitConsistency();
+
+        // The value is checked against the index key as the index is updated right after the store
+        return index.get(indexKey).stream()
+                .map(store::get)
+                .filter(Objects::nonNull)
+                .filter(value -> indexKey.equals(index.indexKeyOf(value)))
+                .toList();
+    }
+
     /**
      * Create or verify the internal topic.
      *
@@ -99,155 +205,354 @@ public abstract class KafkaStore<T> {
      */
     @PostConstruct
     private void createOrVerifyTopic() throws KafkaStoreException {
-        createOrVerifyInternalTopic();
-        taskScheduler.schedule(Duration.ZERO, this::waitUntilKafkaReaderReachesLastOffsetInit);
+        backend.createOrVerifyTopic(kafkaTopic);
+        kafkaProducer = backend.getProducer(this, kafkaProducer);
+        eventBus = new KafkaStoreEventBus<>(kafkaTopic, meterRegistry);
+        metrics = new KafkaStoreMetrics(kafkaTopic, meterRegistry, store::size, offsetTracker::get);
+        taskScheduler.scheduleAtFixedRate(END_OFFSET_REFRESH, END_OFFSET_REFRESH, this::refreshEndOffset);
+
+        Ns4KafkaProperties.StoreProperties.KafkaProperties.CanonicalizationProperties canonicalizationProperties =
+                ns4KafkaProperties.getStore().getKafka().getCanonicalization();
+        if (canonicalizationProperties.isEnabled()) {
+            canonicalizer = new KafkaStoreCanonicalizer(
+                    canonicalizationProperties.getMaxStrings(), canonicalizationProperties.getMaxSharedConfigs());
+            addView((key, previous, current) -> {
+                if (previous != null) {
+                    release(previous);
+                }
+            });
+        }
+
+        Ns4KafkaProperties.StoreProperties.KafkaProperties.SnapshotProperties snapshotProperties =
+                ns4KafkaProperties.getStore().getKafka().getSnapshot();
+        if (snapshotProperties.isEnabled()) {
+            snapshot = new KafkaStoreSnapshot<>(
+                    Path.of(snapshotProperties.getDirectory()), kafkaTopic, jsonMapper, getValueType());
+            loadSnapshot();
+            Duration interval = Duration.ofMillis(snapshotProperties.getInterval());
+            taskScheduler.scheduleAtFixedRate(interval, interval, this::writeSnapshot);
+        }
+
+        Ns4KafkaProperties.StoreProperties.KafkaProperties.GroupCommitProperties groupCommitProperties =
+                ns4KafkaProperties.getStore().getKafka().getGroupCommit();
+        if (groupCommitProperties.isEnabled()) {
+            groupCommit = new KafkaStoreGroupCommit<>(
+                    kafkaTopic,
+                    kafkaProducer,
+                    offset -> waitUntilOffset(offset, TimeUnit.MILLISECONDS),
+                    groupCommitProperties.getMaxBatchSize(),
+                    groupCommitProperties.getLinger(),
+                    ns4KafkaProperties.getStore().getKafka().getInitTimeout(),
+                    meterRegistry);
+        }
+
+        initialize();
+    }
+
+    /** Stop the group commit and the subscribers, and write a last snapshot when the store is shut down. */
+    @PreDestroy
+    private void close() {
+        if (groupCommit != null) {
+            groupCommit.close();
+        }
+
+        if (eventBus != null) {
+            eventBus.close();
+        }
+
+        if (snapshot != null) {
+            writeSnapshot();
+        }
     }
 
     /**
-     * Create or verify the internal kafka topic.
+     * Get the type of the values held by the store.
      *
-     * @throws KafkaStoreException Exception thrown during internal topic creation or verification
+     * @return The value type
      */
-    private void createOrVerifyInternalTopic() throws KafkaStoreException {
+    @SuppressWarnings("unchecked")
+    Argument<T> getValueType() {
+        ParameterizedType storeType = (ParameterizedType) getClass().getGenericSuperclass();
+        return Argument.of((Class<T>) storeType.getActualTypeArguments()[0]);
+    }
+
+    /**
+     * Load the local snapshot of the store, if any. The consumer then resumes from the snapshot offset instead of
+     * replaying the whole topic. A corrupt or stale snapshot is ignored and the topic is fully replayed.
+     */
+    private void loadSnapshot() {
         try {
-            Set<String> allTopics = adminClient
-                    .listTopics()
-                    .names()
-                    .get(ns4KafkaProperties.getStore().getKafka().getInitTimeout(), TimeUnit.MILLISECONDS);
+            KafkaStoreSnapshot.State<T> state = snapshot.read().orElse(null);
+            if (state == null) {
+                log.info("No snapshot found for topic {}. Replaying the whole topic.", kafkaTopic);
+                return;
+            }
 
-            if (allTopics.contains(kafkaTopic)) {
-                verifyInternalTopic();
-            } else {
-                createInternalTopic();
+            long age = System.currentTimeMillis() - state.timestamp();
+            if (age > ns4KafkaProperties.getStore().getKafka().getSnapshot().getMaxAge()) {
+                log.warn(
+                        "Snapshot of topic {} is {}ms old and may miss compacted tombstones. "
+                                + "Replaying the whole topic.",
+                        kafkaTopic,
+                        age);
+                return;
+            }
+
+            TopicPartition topicPartition = new TopicPartition(kafkaTopic, 0);
+            long earliestOffset = getOffset(topicPartition, OffsetSpec.earliest());
+            long latestOffset = getOffset(topicPartition, OffsetSpec.latest());
+            if (state.offset() + 1 < earliestOffset || state.offset() >= latestOffset) {
+                log.warn(
+                        "Snapshot offset {} of topic {} is out of the topic range [{}, {}). Replaying the whole topic.",
+                        state.offset(),
+                        kafkaTopic,
+                        earliestOffset,
+                        latestOffset);
+                return;
             }
+
+            state.records().forEach((key, record) -> {
+                T value = canonicalize(record);
+                T previous = store.put(key, value);
+                for (KafkaStoreView<T> view : views) {
+                    view.update(key, previous, value);
+                }
+            });
+            offsetTracker.advance(state.offset());
+
+            log.info(
+                    "Loaded {} records of topic {} from snapshot at offset {}.",
+                    state.records().size(),
+                    kafkaTopic,
+                    state.offset());
+        } catch (IOException | RuntimeException e) {
+            log.warn("Cannot load snapshot of topic {}. Replaying the whole topic.", kafkaTopic, e);
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
-            throw new KafkaStoreException(
-                    "Thread interrupted trying to create or validate configuration of topic " + kafkaTopic + ".", e);
-        } catch (ExecutionException e) {
-            throw new KafkaStoreException(
-                    "Execution error trying to create or validate configuration of topic " + kafkaTopic + ".", e);
-        } catch (TimeoutException e) {
-            throw new KafkaStoreException(
-                    "Timed out trying to create or validate configuration of topic " + kafkaTopic + ".", e);
+            log.warn("Thread interrupted while loading snapshot of topic {}.", kafkaTopic, e);
         }
     }
 
     /**
-     * Verify the internal topic.
+     * Get an offset of the internal topic.
      *
-     * @throws KafkaStoreException Exception thrown during internal topic verification
-     * @throws InterruptedException Exception thrown during internal topic verification
-     * @throws ExecutionException Exception thrown during internal topic verification
-     * @throws TimeoutException Exception thrown during internal topic verification
+     * @param topicPartition The topic partition
+     * @param offsetSpec The offset to get
+     * @return The offset
+     * @throws InterruptedException Any interrupted exception
      */
-    private void verifyInternalTopic()
-            throws KafkaStoreException, InterruptedException, ExecutionException, TimeoutException {
-        log.info("Validating topic {}.", kafkaTopic);
+    private long getOffset(TopicPartition topicPartition, OffsetSpec offsetSpec) throws InterruptedException {
+        try {
+            return backend.listOffset(topicPartition.topic(), offsetSpec)
+                    .get(ns4KafkaProperties.getStore().getKafka().getInitTimeout(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException | TimeoutException e) {
+            throw new KafkaStoreException("Cannot get the offsets of topic " + kafkaTopic + ".", e);
+        }
+    }
 
-        Set<String> topics = Collections.singleton(kafkaTopic);
-        Map<String, TopicDescription> topicDescription = adminClient
-                .describeTopics(topics)
-                .allTopicNames()
-                .get(ns4KafkaProperties.getStore().getKafka().getInitTimeout(), TimeUnit.MILLISECONDS);
+    /** Refresh the end offset of the store topic, from which the lag of the store is measured. */
+    void refreshEndOffset() {
+        backend.listOffset(kafkaTopic, OffsetSpec.latest()).whenComplete((endOffset, exception) -> {
+            if (exception != null) {
+                log.debug("Cannot refresh the end offset of topic {}.", kafkaTopic, exception);
+            } else {
+                metrics.updateEndOffset(endOffset);
+            }
+        });
+    }
 
-        TopicDescription description = topicDescription.get(kafkaTopic);
-        final int numPartitions = description.partitions().size();
-        if (numPartitions != 1) {
-            throw new KafkaStoreException(
-                    "The topic " + kafkaTopic + " should have only 1 partition but has " + numPartitions + ".");
+    /** Write a snapshot of the store on the local disk. */
+    void writeSnapshot() {
+        if (!isInitialized()) {
+            return;
         }
 
-        if (description.partitions().getFirst().replicas().size()
-                        < ns4KafkaProperties.getStore().getKafka().getTopics().getReplicationFactor()
-                && log.isWarnEnabled()) {
-            log.warn(
-                    "The replication factor of the topic {} is less than the desired one of {}. If this is a production environment, it's crucial to add more brokers and increase the replication factor of the topic.",
-                    kafkaTopic,
-                    ns4KafkaProperties.getStore().getKafka().getTopics().getReplicationFactor());
-        }
-
-        ConfigResource topicResource = new ConfigResource(ConfigResource.Type.TOPIC, kafkaTopic);
-        Map<ConfigResource, Config> configs = adminClient
-                .describeConfigs(Collections.singleton(topicResource))
-                .all()
-                .get(ns4KafkaProperties.getStore().getKafka().getInitTimeout(), TimeUnit.MILLISECONDS);
-
-        Config topicConfigs = configs.get(topicResource);
-        String retentionPolicy =
-                topicConfigs.get(TopicConfig.CLEANUP_POLICY_CONFIG).value();
-        if (!TopicConfig.CLEANUP_POLICY_COMPACT.equals(retentionPolicy)) {
-            if (log.isErrorEnabled()) {
-                log.error(
-                        "The retention policy of the topic {} is incorrect. You must configure the topic to 'compact' cleanup policy to avoid Kafka deleting your data after a week. Refer to Kafka documentation for more details on cleanup policies",
-                        kafkaTopic);
-            }
+        // The offset is read before copying the store. The copy may hold records beyond this offset, which is
+        // harmless as replaying them from the next offset is idempotent
+        long offset = offsetTracker.get();
+        if (offset < 0) {
+            return;
+        }
+
+        try {
+            snapshot.write(offset, new HashMap<>(store));
+            log.debug("Snapshot of topic {} written at offset {} to {}.", kafkaTopic, offset, snapshot.getPath());
+        } catch (IOException | RuntimeException e) {
+            log.error("Cannot write snapshot of topic {}.", kafkaTopic, e);
+        }
+    }
+
+    /**
+     * Set the consumer of the store.
+     *
+     * @param consumer The consumer
+     */
+    @Override
+    public void setKafkaConsumer(Consumer<String, T> consumer) {
+        this.kafkaConsumer = consumer;
+    }
+
+    /**
+     * Resume consuming from the last applied offset, whether it has been loaded from a snapshot or reached before a
+     * rebalance.
+     *
+     * @param partitions The assigned partitions
+     */
+    @Override
+    public void onPartitionsAssigned(Collection<TopicPartition> partitions) {
+        long offset = offsetTracker.get();
+        if (offset >= 0) {
+            log.debug("Resuming consumption of topic {} at offset {}.", kafkaTopic, offset + 1);
+            partitions.forEach(partition -> kafkaConsumer.seek(partition, offset + 1));
+        }
+    }
+
+    @Override
+    public void onPartitionsRevoked(Collection<TopicPartition> partitions) {
+        // Nothing to do, offsets are not committed
+    }
+
+    /**
+     * Get an unmodifiable view of the current Kafka store. The values are shared with all the readers and must not be
+     * mutated, a modified value is written with {@link #produceCopy(Object, java.util.function.Consumer)}.
+     *
+     * @return The Kafka store
+     */
+    public Map<String, T> getKafkaStore() {
+        awaitConsistency();
+        return Collections.unmodifiableMap(store);
+    }
+
+    /**
+     * Get the consistency token of the current request.
+     *
+     * @return The token, or empty outside a request
+     */
+    private Optional<KafkaStoreConsistencyToken> currentConsistencyToken() {
+        return ServerRequestContext.currentRequest()
+                .flatMap(request -> request.getAttribute(
+                        KafkaStoreConsistencyToken.ATTRIBUTE, KafkaStoreConsistencyToken.class));
+    }
 
-            throw new KafkaStoreException("The retention policy of the schema kafkaTopic " + kafkaTopic
-                    + " is incorrect. Expected cleanup.policy to be 'compact' but it is " + retentionPolicy);
+    /**
+     * Wait for the store to catch up with the consistency token of the current request, if it is behind it. The token
+     * is sent by the client, so an offset that has not been written to the store topic is ignored rather than waited
+     * for.
+     *
+     * @throws KafkaStoreException Exception thrown if the store does not catch up in time
+     */
+    void awaitConsistency() throws KafkaStoreException {
+        Optional<KafkaStoreConsistencyToken> token = currentConsistencyToken();
+        if (token.isPresent()) {
+            long offset = token.get().getOffset(kafkaTopic);
+            if (offset > offsetTracker.get() && isWritten(offset)) {
+                waitUntilOffset(offset, TimeUnit.MILLISECONDS);
+            }
         }
     }
 
     /**
-     * Create the internal topic.
+     * Is an offset written to the store topic. The end offset is looked up again when the offset is beyond the last
+     * known one, as the offset may have been written through another replica since.
      *
-     * @throws KafkaStoreException Exception thrown during internal topic creation
-     * @throws InterruptedException Exception thrown during internal topic creation
-     * @throws ExecutionException Exception thrown during internal topic creation
-     * @throws TimeoutException Exception thrown during internal topic creation
+     * @param offset The offset
+     * @return true if the offset is below the end offset of the store topic, false otherwise
+     * @throws KafkaStoreException Exception thrown if the end offset cannot be looked up
      */
-    private void createInternalTopic()
-            throws KafkaStoreException, InterruptedException, ExecutionException, TimeoutException {
-        log.info("Creating topic {}.", kafkaTopic);
+    private boolean isWritten(long offset) throws KafkaStoreException {
+        if (offset < metrics.endOffset()) {
+            return true;
+        }
 
-        int numLiveBrokers = adminClient
-                .describeCluster()
-                .nodes()
-                .get(ns4KafkaProperties.getStore().getKafka().getInitTimeout(), TimeUnit.MILLISECONDS)
-                .size();
+        try {
+            metrics.updateEndOffset(getOffset(new TopicPartition(kafkaTopic, 0), OffsetSpec.latest()));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
 
-        if (numLiveBrokers == 0) {
-            throw new KafkaStoreException("No live Kafka brokers.");
+        if (offset < metrics.endOffset()) {
+            return true;
         }
 
-        int schemaTopicReplicationFactor = Math.min(
-                numLiveBrokers,
-                ns4KafkaProperties.getStore().getKafka().getTopics().getReplicationFactor());
-        if (schemaTopicReplicationFactor
-                        < ns4KafkaProperties.getStore().getKafka().getTopics().getReplicationFactor()
-                && log.isWarnEnabled()) {
-            log.warn(
-                    "Creating the kafkaTopic {} using a replication factor of {}, which is less than the desired one of {}. If this is a production environment, it's crucial to add more brokers and increase the replication factor of the kafkaTopic.",
-                    kafkaTopic,
-                    schemaTopicReplicationFactor,
-                    ns4KafkaProperties.getStore().getKafka().getTopics().getReplicationFactor());
+        log.debug(
+                "Ignoring the consistency token offset {} of topic {}, beyond its end offset {}.",
+                offset,
+                kafkaTopic,
+                metrics.endOffset());
+        return false;
+    }
+
+    /**
+     * Produce a modified copy of a record. The copy is taken from the latest stored version of the record if any, so
+     * the given value and the stored one are left unchanged for the concurrent readers.
+     *
+     * @param value The record to modify
+     * @param mutation The modification applied to the copy
+     * @return The produced record
+     * @throws KafkaStoreException Exception thrown during the copy or the send process
+     */
+    T produceCopy(T value, java.util.function.Consumer<T> mutation) throws KafkaStoreException {
+        String key = getMessageKey(value);
+        awaitConsistency();
+        T copy = copyOf(store.getOrDefault(key, value));
+        mutation.accept(copy);
+        return produce(key, copy);
+    }
+
+    /**
+     * Produce modified copies of records as one batch. The records are all sent before waiting, so they share the
+     * producer batches, and the local store is awaited once for the whole batch rather than once per record.
+     *
+     * @param values The records to modify
+     * @param mutations The modification applied to the copy of each record
+     * @return The produced records
+     * @throws KafkaStoreException Exception thrown during the copy or the send process
+     */
+    List<T> produceCopies(List<T> values, Function<T, java.util.function.Consumer<T>> mutations)
+            throws KafkaStoreException {
+        awaitConsistency();
+        Map<String, T> copies = new LinkedHashMap<>();
+        for (T value : values) {
+            String key = getMessageKey(value);
+            T copy = copyOf(store.getOrDefault(key, value));
+            mutations.apply(value).accept(copy);
+            copies.put(key, copy);
         }
 
-        NewTopic schemaTopicRequest = new NewTopic(kafkaTopic, 1, (short) schemaTopicReplicationFactor);
-        schemaTopicRequest.configs(
-                ns4KafkaProperties.getStore().getKafka().getTopics().getProps());
+        KafkaStoreTransaction transaction = KafkaStoreTransaction.current();
+        if (transaction != null) {
+            copies.forEach((key, copy) -> transaction.add(this, key, copy));
+            return new ArrayList<>(copies.values());
+        }
 
+        List<CompletableFuture<T>> results = copies.entrySet().stream()
+                .map(copy -> produceAsync(copy.getKey(), copy.getValue()))
+                .toList();
         try {
-            adminClient
-                    .createTopics(Collections.singleton(schemaTopicRequest))
-                    .all()
-                    .get(ns4KafkaProperties.getStore().getKafka().getInitTimeout(), TimeUnit.MILLISECONDS);
-        } catch (ExecutionException e) {
-            if (e.getCause() instanceof TopicExistsException) {
-                verifyInternalTopic();
-            } else {
-                throw e;
+            CompletableFuture.allOf(results.toArray(CompletableFuture[]::new)).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof KafkaStoreException kafkaStoreException) {
+                throw kafkaStoreException;
             }
+            throw new KafkaStoreException("Batch put operation to Kafka failed", e.getCause());
         }
+        return results.stream().map(CompletableFuture::join).toList();
     }
 
     /**
-     * Get the current Kafka store.
+     * Deep copy a record.
      *
-     * @return The Kafka store
+     * @param value The record
+     * @return The copy
+     * @throws KafkaStoreException Exception thrown during the copy
      */
-    public Map<String, T> getKafkaStore() {
-        return store;
+    T copyOf(T value) throws KafkaStoreException {
+        try {
+            return jsonMapper.readValue(jsonMapper.writeValueAsBytes(value), getValueType());
+        } catch (IOException e) {
+            throw new KafkaStoreException("Cannot copy record of topic " + kafkaTopic + ".", e);
+        }
     }
 
     /**
@@ -263,7 +568,29 @@ public abstract class KafkaStore<T> {
             throw new KafkaStoreException("Key should not be null");
         }
 
-        boolean knownSuccessfulWrite = false;
+        KafkaStoreTransaction transaction = KafkaStoreTransaction.current();
+        if (transaction != null) {
+            transaction.add(this, key, message);
+            return message;
+        }
+
+        Timer.Sample sample = Timer.start();
+        try {
+            return groupCommit != null ? produceInGroup(key, message) : produceAndWait(key, message);
+        } finally {
+            sample.stop(metrics.getProduceLatency());
+        }
+    }
+
+    /**
+     * Produce a new record, then wait for the local store to read it.
+     *
+     * @param key The record key
+     * @param message The record body
+     * @return The produced record
+     * @throws KafkaStoreException Exception thrown during the send process
+     */
+    private T produceAndWait(String key, T message) throws KafkaStoreException {
         try {
             ProducerRecord<String, T> producerRecord = new ProducerRecord<>(kafkaTopic, key, message);
             log.trace("Sending record to topic {}", producerRecord);
@@ -271,27 +598,185 @@ public abstract class KafkaStore<T> {
             RecordMetadata recordMetadata =
                     ack.get(ns4KafkaProperties.getStore().getKafka().getInitTimeout(), TimeUnit.MILLISECONDS);
 
-            log.trace("Waiting for the local store to catch up to offset {}", recordMetadata.offset());
-            lastWrittenOffset = recordMetadata.offset();
-            waitUntilOffset(getLatestOffset(), TimeUnit.MILLISECONDS);
-            knownSuccessfulWrite = true;
+            if (!awaitWritten(recordMetadata.offset())) {
+                return message;
+            }
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
             throw new KafkaStoreException("Put operation interrupted while waiting for an ack from Kafka", e);
         } catch (ExecutionException e) {
             throw new KafkaStoreException("Put operation failed while waiting for an ack from Kafka", e);
         } catch (TimeoutException e) {
+            metrics.recordTimeout();
             throw new KafkaStoreException("Put operation timed out while waiting for an ack from Kafka", e);
         } catch (KafkaException e) {
             throw new KafkaStoreException("Put operation to Kafka failed", e);
-        } finally {
-            if (!knownSuccessfulWrite) {
-                this.lastWrittenOffset = -1;
+        }
+        return store.get(key);
+    }
+
+    /**
+     * Wait for the local store to read a written offset, unless the consistency token is enabled: the wait is then
+     * deferred to the next reads of the request, or of the requests sending the token back.
+     *
+     * @param offset The written offset
+     * @return true if the store has read the offset, false if the wait is deferred
+     * @throws KafkaStoreException Exception thrown if the store does not read the offset in time
+     */
+    boolean awaitWritten(long offset) throws KafkaStoreException {
+        metrics.updateEndOffset(offset + 1);
+
+        Optional<KafkaStoreConsistencyToken> token = currentConsistencyToken();
+        if (token.isPresent()) {
+            token.get().advance(kafkaTopic, offset);
+            if (ns4KafkaProperties.getStore().getKafka().getConsistencyToken().isEnabled()) {
+                return false;
+            }
+        }
+
+        log.trace("Waiting for the local store to catch up to offset {}", offset);
+        waitUntilOffset(offset, TimeUnit.MILLISECONDS);
+        return true;
+    }
+
+    /**
+     * Produce a new record through the group commit, along with the concurrent writes.
+     *
+     * @param key The record key
+     * @param message The record body
+     * @return The produced record
+     * @throws KafkaStoreException Exception thrown during the send process
+     */
+    private T produceInGroup(String key, T message) throws KafkaStoreException {
+        CompletableFuture<Long> result = groupCommit.submit(key, message);
+        long timeoutMs = ns4KafkaProperties.getStore().getKafka().getInitTimeout() * 2L
+                + ns4KafkaProperties.getStore().getKafka().getGroupCommit().getLinger();
+        try {
+            long offset = result.get(timeoutMs, TimeUnit.MILLISECONDS);
+            currentConsistencyToken().ifPresent(token -> token.advance(kafkaTopic, offset));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new KafkaStoreException("Put operation interrupted while waiting for the group commit", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof KafkaStoreException kafkaStoreException) {
+                throw kafkaStoreException;
             }
+            throw new KafkaStoreException("Put operation failed while waiting for the group commit", e);
+        } catch (TimeoutException e) {
+            metrics.recordTimeout();
+            throw new KafkaStoreException("Put operation timed out while waiting for the group commit", e);
         }
         return store.get(key);
     }
 
+    /**
+     * Produce a new record without blocking the calling thread. The returned future is completed once Kafka has
+     * acknowledged the record and the local store has read it.
+     *
+     * @param key The record key
+     * @param message The record body
+     * @return A future of the produced record, failed with a {@link KafkaStoreException} if the write fails
+     */
+    CompletableFuture<T> produceAsync(String key, T message) {
+        if (key == null) {
+            return CompletableFuture.failedFuture(new KafkaStoreException("Key should not be null"));
+        }
+
+        Timer.Sample sample = Timer.start();
+        Optional<KafkaStoreConsistencyToken> token = currentConsistencyToken();
+        CompletableFuture<Long> offset;
+        if (groupCommit != null) {
+            offset = groupCommit.submit(key, message);
+        } else {
+            offset = sendAsync(key, message);
+        }
+        token.ifPresent(consistencyToken ->
+                offset.thenAccept(written -> consistencyToken.advance(kafkaTopic, written)));
+
+        return offset.thenCompose(offsetTracker::whenReached)
+                .orTimeout(ns4KafkaProperties.getStore().getKafka().getInitTimeout() * 2L, TimeUnit.MILLISECONDS)
+                .handleAsync(
+                        (result, exception) -> {
+                            sample.stop(metrics.getProduceLatency());
+                            if (exception == null) {
+                                return store.get(key);
+                            }
+
+                            Throwable cause =
+                                    exception instanceof CompletionException ? exception.getCause() : exception;
+                            if (cause instanceof KafkaStoreException kafkaStoreException) {
+                                throw kafkaStoreException;
+                            }
+                            if (cause instanceof TimeoutException) {
+                                metrics.recordTimeout();
+                                throw new KafkaStoreException(
+                                        "Put operation timed out while waiting for the local store", cause);
+                            }
+                            throw new KafkaStoreException("Put operation to Kafka failed", cause);
+                        },
+                        ioExecutor);
+    }
+
+    /**
+     * Send a record and complete the returned future with its offset from the producer callback.
+     *
+     * @param key The record key
+     * @param message The record body
+     * @return A future of the record offset
+     */
+    private CompletableFuture<Long> sendAsync(String key, T message) {
+        CompletableFuture<Long> offset = new CompletableFuture<>();
+        try {
+            ProducerRecord<String, T> producerRecord = new ProducerRecord<>(kafkaTopic, key, message);
+            log.trace("Sending record to topic {}", producerRecord);
+            kafkaProducer.send(producerRecord, (recordMetadata, exception) -> {
+                if (exception != null) {
+                    offset.completeExceptionally(new KafkaStoreException(
+                            "Put operation failed while waiting for an ack from Kafka", exception));
+                } else {
+                    metrics.updateEndOffset(recordMetadata.offset() + 1);
+                    offset.complete(recordMetadata.offset());
+                }
+            });
+        } catch (KafkaException e) {
+            offset.completeExceptionally(new KafkaStoreException("Put operation to Kafka failed", e));
+        }
+        return offset;
+    }
+
+    /**
+     * Canonicalize a consumed value before it is put in the store, so the strings and maps repeated across the records
+     * are shared. The stores holding other repeated values than the metadata extend it.
+     *
+     * @param value The consumed value
+     * @return The canonicalized value
+     */
+    T canonicalize(T value) {
+        if (canonicalizer != null) {
+            canonicalizer.canonicalizeMetadata(value);
+        }
+        return value;
+    }
+
+    /**
+     * Release the canonical strings and maps of a value no longer held by the store. The stores canonicalizing other
+     * values than the metadata extend it.
+     *
+     * @param value The value replaced or deleted from the store
+     */
+    void release(T value) {
+        canonicalizer.releaseMetadata(value);
+    }
+
+    /**
+     * Get the canonicalizer of the store.
+     *
+     * @return The canonicalizer, or null if the canonicalization is disabled
+     */
+    KafkaStoreCanonicalizer getCanonicalizer() {
+        return canonicalizer;
+    }
+
     /**
      * Handle a new consumed record See:
      * /core/src/main/java/io/confluent/kafka/schemaregistry/storage/KafkaStoreReaderThread.java#L326
@@ -300,73 +785,89 @@ public abstract class KafkaStore<T> {
      */
     void receive(ConsumerRecord<String, T> message) {
         try {
-            if (!message.key().equals("NOOP")) {
+            if (metrics != null) {
+                metrics.recordConsumed(
+                        Math.max(0, message.serializedKeySize()) + Math.max(0, message.serializedValueSize()));
+            }
+
+            if (!message.key().equals(NOOP_KEY)) {
                 log.trace("Applying update ({},{}) to the local store", message.key(), message.value());
+                T value = null;
+                T previous;
                 if (message.value() == null) {
-                    store.remove(message.key());
+                    previous = store.remove(message.key());
                 } else {
-                    store.put(message.key(), message.value());
+                    value = canonicalize(message.value());
+                    previous = store.put(message.key(), value);
+                }
+
+                for (KafkaStoreView<T> view : views) {
+                    view.update(message.key(), previous, value);
                 }
-            }
 
-            try {
-                offsetUpdateLock.lock();
-                offsetInSchemasTopic = message.offset();
-                offsetReachedThreshold.signalAll();
-            } finally {
-                offsetUpdateLock.unlock();
+                if (eventBus != null && eventBus.hasSubscribers()) {
+                    KafkaStoreChangeEvent<T> event =
+                            KafkaStoreChangeEvent.of(kafkaTopic, message.key(), previous, value, message.offset());
+                    if (event != null) {
+                        eventBus.publish(event);
+                    }
+                }
             }
+
+            // Only the waiters of the reached offsets are completed, the consumer never blocks on a writer
+            offsetTracker.advance(message.offset());
         } catch (RuntimeException e) {
             log.error("KafkaStoreReader thread has died for an unknown reason.", e);
             throw new KafkaStoreException(e.getMessage());
         }
     }
 
-    /** Wait until the Kafka reader reaches the last offset. Mark the store as initialized when it is done. */
-    public void waitUntilKafkaReaderReachesLastOffsetInit() {
-        try {
-            waitUntilOffset(getLatestOffset(), TimeUnit.MILLISECONDS);
-            boolean isInitialized = initialized.compareAndSet(false, true);
-            if (!isInitialized) {
-                throw new KafkaStoreException("Illegal state while initializing store. Store was already initialized");
-            }
-        } catch (Exception e) {
-            log.error("Unrecoverable error during initialization", e);
-        }
+    /**
+     * Initialize the store without blocking: produce a NOOP record to mark the end of the topic, then mark the store
+     * as initialized and publish a {@link KafkaStoreInitializedEvent} once the consumer has read up to it. The
+     * initialization fails if the record is not read back within the init timeout.
+     *
+     * @return The initialization, completed once the store is initialized
+     */
+    CompletableFuture<Void> initialize() {
+        initStartTime = System.currentTimeMillis();
+        initStartOffset = offsetTracker.get();
+
+        // The end offset of the topic is not targeted, as its last entry may be a transaction marker that is never
+        // consumed
+        sendAsync(NOOP_KEY, null)
+                .thenCompose(offset -> {
+                    initTargetOffset = offset;
+                    log.debug("Replaying topic {} up to offset {}.", kafkaTopic, initTargetOffset);
+                    return offsetTracker.whenReached(initTargetOffset);
+                })
+                .orTimeout(ns4KafkaProperties.getStore().getKafka().getInitTimeout(), TimeUnit.MILLISECONDS)
+                .whenComplete((result, exception) -> {
+                    if (exception != null) {
+                        log.error("Unrecoverable error during initialization of topic {}", kafkaTopic, exception);
+                        initialization.completeExceptionally(exception);
+                        return;
+                    }
+
+                    initEndTime = System.currentTimeMillis();
+                    initialized.set(true);
+                    long duration = initEndTime - initStartTime;
+                    log.info("{} is ready! ({} records in {}ms)", kafkaTopic, store.size(), duration);
+                    eventPublisher.publishEvent(
+                            new KafkaStoreInitializedEvent(kafkaTopic, store.size(), offsetTracker.get(), duration));
+                    initialization.complete(null);
+                });
+
+        return initialization;
     }
 
     /**
-     * Get latest offset.
+     * Get the initialization of the store.
      *
-     * @return The latest offset
-     * @throws KafkaStoreException Exception while getting the latest offset
+     * @return The initialization, completed once the store is initialized
      */
-    private long getLatestOffset() throws KafkaStoreException {
-        if (lastWrittenOffset >= 0) {
-            return lastWrittenOffset;
-        }
-
-        try {
-            log.trace("Sending NOOP record to topic {} to find last offset.", kafkaTopic);
-            Future<RecordMetadata> ack = kafkaProducer.send(new ProducerRecord<>(kafkaTopic, "NOOP", null));
-            RecordMetadata metadata =
-                    ack.get(ns4KafkaProperties.getStore().getKafka().getInitTimeout(), TimeUnit.MILLISECONDS);
-            this.lastWrittenOffset = metadata.offset();
-            log.trace("NOOP record's offset is {}", lastWrittenOffset);
-            return lastWrittenOffset;
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            throw new KafkaStoreException(
-                    "Thread interrupted while waiting for the latest offset of topic " + kafkaTopic + ".", e);
-        } catch (ExecutionException e) {
-            throw new KafkaStoreException(
-                    "Execution error while waiting for the latest offset of topic " + kafkaTopic + ".", e);
-        } catch (TimeoutException e) {
-            throw new KafkaStoreException(
-                    "Timeout while waiting for the latest offset of topic " + kafkaTopic + ".", e);
-        } catch (Exception e) {
-            throw new KafkaStoreException("Error while waiting for the latest offset of topic " + kafkaTopic + ".", e);
-        }
+    public CompletableFuture<Void> getInitialization() {
+        return initialization;
     }
 
     /**
@@ -381,33 +882,30 @@ public abstract class KafkaStore<T> {
             throw new KafkaStoreException("Cannot wait for a negative offset.");
         }
 
-        log.trace("Waiting to read offset {}. Currently at offset {}.", offset, offsetInSchemasTopic);
+        log.trace("Waiting to read offset {}. Currently at offset {}.", offset, offsetTracker.get());
 
+        long timeoutMs = TimeUnit.MILLISECONDS.convert(
+                ns4KafkaProperties.getStore().getKafka().getInitTimeout(), timeUnit);
+        boolean reached;
+        Timer.Sample sample = Timer.start();
         try {
-            offsetUpdateLock.lock();
-            long timeoutNs = TimeUnit.NANOSECONDS.convert(
-                    ns4KafkaProperties.getStore().getKafka().getInitTimeout(), timeUnit);
-            while ((offsetInSchemasTopic < offset) && (timeoutNs > 0)) {
-                try {
-                    timeoutNs = offsetReachedThreshold.awaitNanos(timeoutNs);
-                } catch (InterruptedException e) {
-                    Thread.currentThread().interrupt();
-                    log.debug(
-                            "Interrupted while waiting for the background store reader thread "
-                                    + "to reach the specified offset: {}",
-                            offset,
-                            e);
-                }
-            }
+            reached = offsetTracker.await(offset, timeoutMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.debug(
+                    "Interrupted while waiting for the background store reader thread "
+                            + "to reach the specified offset: {}",
+                    offset,
+                    e);
+            reached = offsetTracker.get() >= offset;
         } finally {
-            offsetUpdateLock.unlock();
+            sample.stop(metrics.getWaitTime());
         }
 
-        if (offsetInSchemasTopic < offset) {
+        if (!reached) {
+            metrics.recordTimeout();
             throw new KafkaStoreException("Failed to reach target offset within the timeout interval. targetOffset: "
-                    + offset + ", offsetReached: " + offsetInSchemasTopic + ", timeout(ms): "
-                    + TimeUnit.MILLISECONDS.convert(
-                            ns4KafkaProperties.getStore().getKafka().getInitTimeout(), timeUnit));
+                    + offset + ", offsetReached: " + offsetTracker.get() + ", timeout(ms): " + timeoutMs);
         }
     }
 
@@ -425,7 +923,49 @@ public abstract class KafkaStore<T> {
         if (isInitialized()) {
             log.info("{} is ready! ({} records)", kafkaTopic, store.size());
         } else {
-            log.info("Init in progress for {}... ({}/{})", kafkaTopic, offsetInSchemasTopic, lastWrittenOffset);
+            log.info("Init in progress for {}... ({}/{})", kafkaTopic, offsetTracker.get(), initTargetOffset);
+        }
+    }
+
+    /**
+     * Get the store topic.
+     *
+     * @return The topic
+     */
+    public String getKafkaTopic() {
+        return kafkaTopic;
+    }
+
+    /**
+     * Get the last offset read by the store.
+     *
+     * @return The offset, or -1 if nothing has been read yet
+     */
+    public long getOffset() {
+        return offsetTracker.get();
+    }
+
+    /**
+     * Get the offset to reach for the store to be initialized.
+     *
+     * @return The offset, or -1 if not known yet
+     */
+    public long getInitTargetOffset() {
+        return initTargetOffset;
+    }
+
+    /**
+     * Get the replay rate of the store during its initialization.
+     *
+     * @return The number of records read per second
+     */
+    public double getReplayRate() {
+        if (initStartTime == 0) {
+            return 0;
         }
+
+        long end = initEndTime > 0 ? initEndTime : System.currentTimeMillis();
+        long read = (initEndTime > 0 ? initTargetOffset : offsetTracker.get()) - initStartOffset;
+        return end > initStartTime && read > 0 ? read * 1000.0 / (end - initStartTime) : 0;
     }
 }
@@ -0,0 +1,58 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.michelin.ns4kafka.repository.kafka;
+
+import java.util.concurrent.CompletableFuture;
+import org.apache.kafka.clients.admin.OffsetSpec;
+import org.apache.kafka.clients.producer.Producer;
+
+/**
+ * Backend of the Kafka stores: the log each store writes its records to, and reads them back from.
+ *
+ * <p>Whatever the backend, the records written by a store are given increasing offsets and are read back by the store
+ * in the same order, so the stores keep the same offset and wait semantics.
+ */
+public interface KafkaStoreBackend {
+    /**
+     * Create the log of a store, or verify the existing one.
+     *
+     * @param kafkaTopic The store topic
+     * @throws KafkaStoreException Exception thrown if the log cannot be used by the store
+     */
+    void createOrVerifyTopic(String kafkaTopic) throws KafkaStoreException;
+
+    /**
+     * Get an offset of the log of a store.
+     *
+     * @param kafkaTopic The store topic
+     * @param offsetSpec The offset to get
+     * @return A future of the offset
+     */
+    CompletableFuture<Long> listOffset(String kafkaTopic, OffsetSpec offsetSpec);
+
+    /**
+     * Get the producer writing to the log of a store.
+     *
+     * @param store The store
+     * @param kafkaProducer The Kafka producer of the store
+     * @param <T> The type of the store
+     * @return The producer
+     */
+    <T> Producer<String, T> getProducer(KafkaStore<T> store, Producer<String, T> kafkaProducer);
+}
@@ -0,0 +1,277 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.michelin.ns4kafka.repository.kafka;
+
+import com.michelin.ns4kafka.model.Metadata;
+import com.michelin.ns4kafka.model.MetadataResource;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Canonicalizer of the values of a Kafka store.
+ *
+ * <p>The strings repeated across the records, such as the cluster and namespace names or the config keys, are replaced
+ * by a canonical instance held by the store, and the identical config maps are replaced by a single shared immutable
+ * map. The values are canonicalized once deserialized, before they are put in the store, so the duplicates are
+ * collected right away. The config and label values are not canonicalized on their own, as they are free user data:
+ * they are only shared along with their whole map.
+ *
+ * <p>The canonical instances are reference counted and released when the records holding them are updated or deleted,
+ * so the pools only hold what the store references, and never grow beyond their maximum size.
+ */
+class KafkaStoreCanonicalizer {
+    // Rough sizes on a 64-bit JVM with compressed references
+    private static final int STRING_OVERHEAD = 40;
+    private static final int MAP_OVERHEAD = 64;
+    private static final int MAP_ENTRY_OVERHEAD = 32;
+
+    private final int maxStrings;
+    private final int maxSharedConfigs;
+    private final Map<String, Canonical<String>> strings = new HashMap<>();
+    private final Map<Map<String, String>, Canonical<Map<String, String>>> sharedConfigs = new HashMap<>();
+    private long sharedReferences;
+    private long canonicalBytes;
+    private long savedBytes;
+
+    /**
+     * Constructor.
+     *
+     * @param maxStrings The maximum number of distinct canonical strings
+     * @param maxSharedConfigs The maximum number of distinct shared config maps
+     */
+    KafkaStoreCanonicalizer(int maxStrings, int maxSharedConfigs) {
+        this.maxStrings = maxStrings;
+        this.maxSharedConfigs = maxSharedConfigs;
+    }
+
+    /**
+     * Canonicalize the metadata of a resource.
+     *
+     * @param value The value
+     */
+    synchronized void canonicalizeMetadata(Object value) {
+        if (value instanceof MetadataResource resource && resource.getMetadata() != null) {
+            Metadata metadata = resource.getMetadata();
+            metadata.setCluster(canonicalize(metadata.getCluster()));
+            metadata.setNamespace(canonicalize(metadata.getNamespace()));
+            metadata.setLabels(canonicalize(metadata.getLabels()));
+        }
+    }
+
+    /**
+     * Release the metadata of a resource no longer held by the store.
+     *
+     * @param value The value
+     */
+    synchronized void releaseMetadata(Object value) {
+        if (value instanceof MetadataResource resource && resource.getMetadata() != null) {
+            Metadata metadata = resource.getMetadata();
+            release(metadata.getCluster());
+            release(metadata.getNamespace());
+            release(metadata.getLabels());
+        }
+    }
+
+    /**
+     * Canonicalize a string. The string is returned as is once the maximum number of canonical strings is reached.
+     *
+     * @param value The string
+     * @return The canonical instance of the string
+     */
+    synchronized String canonicalize(String value) {
+        if (value == null) {
+            return null;
+        }
+
+        Canonical<String> canonical = strings.get(value);
+        if (canonical == null) {
+            if (strings.size() >= maxStrings) {
+                return value;
+            }
+
+            canonical = new Canonical<>(value, sizeOf(value));
+            strings.put(value, canonical);
+            canonicalBytes += canonical.size;
+        } else {
+            sharedReferences++;
+            savedBytes += canonical.size;
+        }
+
+        canonical.references++;
+        return canonical.value;
+    }
+
+    /**
+     * Release a string no longer held by the store.
+     *
+     * @param value The string
+     */
+    synchronized void release(String value) {
+        if (value == null) {
+            return;
+        }
+
+        Canonical<String> canonical = strings.get(value);
+        if (canonical != null && canonical.value == value && release(canonical)) {
+            strings.remove(value);
+        }
+    }
+
+    /**
+     * Canonicalize a map of strings. The returned map is immutable, and shared by all the identical maps. The map is
+     * returned as is once the maximum number of shared maps is reached.
+     *
+     * @param map The map
+     * @return The canonical instance of the map
+     */
+    synchronized Map<String, String> canonicalize(Map<String, String> map) {
+        if (map == null) {
+            return null;
+        }
+
+        Canonical<Map<String, String>> canonical = sharedConfigs.get(map);
+        if (canonical == null) {
+            if (sharedConfigs.size() >= maxSharedConfigs) {
+                return map;
+            }
+
+            Map<String, String> shared = new HashMap<>(map.size() * 2);
+            map.forEach((key, value) -> shared.put(canonicalize(key), value));
+            canonical = new Canonical<>(Collections.unmodifiableMap(shared), sizeOf(map));
+            sharedConfigs.put(canonical.value, canonical);
+            canonicalBytes += canonical.size;
+        } else {
+            sharedReferences++;
+            savedBytes += canonical.size;
+        }
+
+        canonical.references++;
+        return canonical.value;
+    }
+
+    /**
+     * Release a map no longer held by the store. The keys of the map are released along with the last reference.
+     *
+     * @param map The map
+     */
+    synchronized void release(Map<String, String> map) {
+        if (map == null) {
+            return;
+        }
+
+        Canonical<Map<String, String>> canonical = sharedConfigs.get(map);
+        if (canonical != null && canonical.value == map && release(canonical)) {
+            sharedConfigs.remove(map);
+            map.keySet().forEach(this::release);
+        }
+    }
+
+    /**
+     * Get the number of distinct canonical strings.
+     *
+     * @return The number of strings
+     */
+    synchronized int getCanonicalStrings() {
+        return strings.size();
+    }
+
+    /**
+     * Get the number of distinct shared config maps.
+     *
+     * @return The number of maps
+     */
+    synchronized int getSharedConfigs() {
+        return sharedConfigs.size();
+    }
+
+    /**
+     * Get the number of strings and maps currently replaced by a canonical instance.
+     *
+     * @return The number of references
+     */
+    synchronized long getSharedReferences() {
+        return sharedReferences;
+    }
+
+    /**
+     * Get an estimation of the heap currently held by the canonical strings and maps.
+     *
+     * @return The number of bytes
+     */
+    synchronized long getCanonicalBytes() {
+        return canonicalBytes;
+    }
+
+    /**
+     * Get an estimation of the heap currently saved by the canonicalization: the size of the duplicates the store
+     * would hold without it.
+     *
+     * @return The number of bytes
+     */
+    synchronized long getSavedBytes() {
+        return savedBytes;
+    }
+
+    /**
+     * Release a reference to a canonical instance.
+     *
+     * @param canonical The canonical instance
+     * @return true if it was the last reference, false otherwise
+     */
+    private boolean release(Canonical<?> canonical) {
+        canonical.references--;
+        if (canonical.references > 0) {
+            sharedReferences--;
+            savedBytes -= canonical.size;
+            return false;
+        }
+
+        canonicalBytes -= canonical.size;
+        return true;
+    }
+
+    private static long sizeOf(String value) {
+        return value == null ? 0 : STRING_OVERHEAD + value.length();
+    }
+
+    private static long sizeOf(Map<String, String> map) {
+        long size = MAP_OVERHEAD;
+        for (Map.Entry<String, String> entry : map.entrySet()) {
+            size += MAP_ENTRY_OVERHEAD + sizeOf(entry.getKey()) + sizeOf(entry.getValue());
+        }
+        return size;
+    }
+
+    /**
+     * Canonical instance, along with the number of store values referencing it.
+     *
+     * @param <V> The type of the instance
+     */
+    private static final class Canonical<V> {
+        private final V value;
+        private final long size;
+        private int references;
+
+        private Canonical(V value, long size) {
+            this.value = value;
+            this.size = size;
+        }
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.michelin.ns4kafka.repository.kafka;
+
+/**
+ * Change of a record of a Kafka store.
+ *
+ * @param topic The store topic
+ * @param key The record key
+ * @param type The change type
+ * @param oldValue The value before the change, null when created
+ * @param newValue The value after the change, null when deleted
+ * @param offset The offset of the change
+ * @param <T> The type of the store
+ */
+public record KafkaStoreChangeEvent<T>(String topic, String key, Type type, T oldValue, T newValue, long offset) {
+    /** Change type. */
+    public enum Type {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+
+    /**
+     * Build the change event of a consumed record.
+     *
+     * @param topic The store topic
+     * @param key The record key
+     * @param oldValue The value before the record
+     * @param newValue The value of the record
+     * @param offset The offset of the record
+     * @param <T> The type of the store
+     * @return The change event, or null if the record does not change anything
+     */
+    static <T> KafkaStoreChangeEvent<T> of(String topic, String key, T oldValue, T newValue, long offset) {
+        if (newValue == null) {
+            if (oldValue == null) {
+                return null;
+            }
+
+            return new KafkaStoreChangeEvent<>(topic, key, Type.DELETED, oldValue, null, offset);
+        }
+
+        return new KafkaStoreChangeEvent<>(
+                topic, key, oldValue == null ? Type.CREATED : Type.UPDATED, oldValue, newValue, offset);
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.michelin.ns4kafka.repository.kafka;
+
+import io.micronaut.http.HttpRequest;
+import io.micronaut.http.MutableHttpResponse;
+import io.micronaut.http.annotation.RequestFilter;
+import io.micronaut.http.annotation.ResponseFilter;
+import io.micronaut.http.annotation.ServerFilter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Read-your-writes filter. The consistency token sent by the client, if any, is attached to the request so the stores
+ * read by the request first catch up with it. The offsets written by the request are added to the token returned to
+ * the client.
+ */
+@Slf4j
+@ServerFilter("/api/**")
+public class KafkaStoreConsistencyFilter {
+    /**
+     * Attach the consistency token to the request.
+     *
+     * @param request The request
+     */
+    @RequestFilter
+    public void filterRequest(HttpRequest<?> request) {
+        KafkaStoreConsistencyToken token = request.getHeaders()
+                .findFirst(KafkaStoreConsistencyToken.HEADER)
+                .map(header -> {
+                    try {
+                        return KafkaStoreConsistencyToken.parse(header);
+                    } catch (IllegalArgumentException e) {
+                        log.debug("Ignoring malformed consistency token {}.", header, e);
+                        return null;
+                    }
+                })
+                .orElseGet(KafkaStoreConsistencyToken::new);
+        request.setAttribute(KafkaStoreConsistencyToken.ATTRIBUTE, token);
+    }
+
+    /**
+     * Return the consistency token to the client.
+     *
+     * @param request The request
+     * @param response The response
+     */
+    @ResponseFilter
+    public void filterResponse(HttpRequest<?> request, MutableHttpResponse<?> response) {
+        request.getAttribute(KafkaStoreConsistencyToken.ATTRIBUTE, KafkaStoreConsistencyToken.class)
+                .filter(token -> !token.isEmpty())
+                .ifPresent(token -> response.header(KafkaStoreConsistencyToken.HEADER, token.encode()));
+    }
+}
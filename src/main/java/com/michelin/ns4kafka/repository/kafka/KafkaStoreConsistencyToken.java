@@ -0,0 +1,106 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.michelin.ns4kafka.repository.kafka;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Consistency token of a request: the offsets the stores must have read for the request to read its own writes, and
+ * the writes of the requests that returned the token.
+ *
+ * <p>The token is opaque to the clients. It is encoded as the URL-safe Base64 of the offsets by store topic.
+ */
+public class KafkaStoreConsistencyToken {
+    public static final String HEADER = "X-Ns4kafka-Consistency-Token";
+    static final String ATTRIBUTE = "ns4kafka.consistency.token";
+
+    private final Map<String, Long> offsets = new ConcurrentHashMap<>();
+
+    /**
+     * Parse a token.
+     *
+     * @param token The encoded token
+     * @return The token
+     * @throws IllegalArgumentException if the token is malformed
+     */
+    public static KafkaStoreConsistencyToken parse(String token) {
+        KafkaStoreConsistencyToken consistencyToken = new KafkaStoreConsistencyToken();
+        String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+        for (String entry : decoded.split(",")) {
+            if (entry.isEmpty()) {
+                continue;
+            }
+
+            int separator = entry.lastIndexOf(':');
+            if (separator <= 0) {
+                throw new IllegalArgumentException("Malformed consistency token entry " + entry + ".");
+            }
+
+            consistencyToken.advance(
+                    entry.substring(0, separator), Long.parseLong(entry.substring(separator + 1)));
+        }
+        return consistencyToken;
+    }
+
+    /**
+     * Encode the token.
+     *
+     * @return The encoded token
+     */
+    public String encode() {
+        String decoded = offsets.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey())
+                .map(entry -> entry.getKey() + ":" + entry.getValue())
+                .collect(Collectors.joining(","));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(decoded.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Require a store to have read an offset. The offset of a store only moves forward.
+     *
+     * @param topic The store topic
+     * @param offset The offset
+     */
+    public void advance(String topic, long offset) {
+        offsets.merge(topic, offset, Math::max);
+    }
+
+    /**
+     * Get the offset a store must have read.
+     *
+     * @param topic The store topic
+     * @return The offset, or -1 if the token does not require anything from the store
+     */
+    public long getOffset(String topic) {
+        return offsets.getOrDefault(topic, -1L);
+    }
+
+    /**
+     * Is the token empty.
+     *
+     * @return true if it requires nothing from the stores, false otherwise
+     */
+    public boolean isEmpty() {
+        return offsets.isEmpty();
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.michelin.ns4kafka.repository.kafka;
+
+import io.micronaut.management.endpoint.annotation.Endpoint;
+import io.micronaut.management.endpoint.annotation.Read;
+import jakarta.inject.Inject;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/** Heap usage report of the Kafka stores, available at /stores. */
+@Endpoint(id = "stores")
+public class KafkaStoreEndpoint {
+    @Inject
+    List<KafkaStore<?>> kafkaStores;
+
+    /**
+     * Report the heap usage of the stores, and what the canonicalization of their records saves.
+     *
+     * @return The report, by store topic
+     */
+    @Read
+    public Map<String, Object> report() {
+        Runtime runtime = Runtime.getRuntime();
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("heapUsedBytes", runtime.totalMemory() - runtime.freeMemory());
+        report.put("heapMaxBytes", runtime.maxMemory());
+
+        Map<String, Object> stores = new LinkedHashMap<>();
+        for (KafkaStore<?> kafkaStore : kafkaStores) {
+            Map<String, Object> details = new LinkedHashMap<>();
+            details.put("records", kafkaStore.getKafkaStore().size());
+
+            KafkaStoreCanonicalizer canonicalizer = kafkaStore.getCanonicalizer();
+            details.put("canonicalization", canonicalizer != null);
+            if (canonicalizer != null) {
+                details.put("canonicalStrings", canonicalizer.getCanonicalStrings());
+                details.put("sharedConfigs", canonicalizer.getSharedConfigs());
+                details.put("sharedReferences", canonicalizer.getSharedReferences());
+                details.put("estimatedCanonicalBytes", canonicalizer.getCanonicalBytes());
+                details.put("estimatedSavedBytes", canonicalizer.getSavedBytes());
+            }
+
+            stores.put(kafkaStore.getKafkaTopic(), details);
+        }
+
+        report.put("stores", stores);
+        return report;
+    }
+}
@@ -0,0 +1,216 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.michelin.ns4kafka.repository.kafka;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * In-process bus of the changes of a Kafka store.
+ *
+ * <p>Each subscriber has its own bounded queue drained by its own virtual thread. Publishing never blocks the store
+ * consumer: when a queue is full, the change is dropped for that subscriber, which is notified once it has caught up.
+ * A change the subscriber fails to handle is lost the same way, so it is notified as well.
+ *
+ * @param <T> The type of the store
+ */
+@Slf4j
+class KafkaStoreEventBus<T> {
+    private final String kafkaTopic;
+    private final MeterRegistry meterRegistry;
+    private final List<Subscription> subscriptions = new CopyOnWriteArrayList<>();
+
+    /**
+     * Constructor.
+     *
+     * @param kafkaTopic The store topic
+     * @param meterRegistry The meter registry
+     */
+    KafkaStoreEventBus(String kafkaTopic, MeterRegistry meterRegistry) {
+        this.kafkaTopic = kafkaTopic;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Whether the bus has subscribers.
+     *
+     * @return true if it has, false otherwise
+     */
+    boolean hasSubscribers() {
+        return !subscriptions.isEmpty();
+    }
+
+    /**
+     * Subscribe to the changes.
+     *
+     * @param name The subscriber name
+     * @param capacity The capacity of the subscriber queue
+     * @param subscriber The subscriber
+     * @return The subscription, to close to unsubscribe
+     */
+    KafkaStoreSubscription subscribe(String name, int capacity, KafkaStoreSubscriber<T> subscriber) {
+        Subscription subscription = new Subscription(name, capacity, subscriber);
+        subscriptions.add(subscription);
+        return subscription;
+    }
+
+    /**
+     * Publish a change to all the subscribers. Never blocks.
+     *
+     * @param event The change
+     */
+    void publish(KafkaStoreChangeEvent<T> event) {
+        for (Subscription subscription : subscriptions) {
+            subscription.offer(event);
+        }
+    }
+
+    /** Close all the subscriptions. */
+    void close() {
+        subscriptions.forEach(Subscription::close);
+    }
+
+    /** Subscription of a subscriber. */
+    private class Subscription implements KafkaStoreSubscription {
+        private final String name;
+        private final BlockingQueue<KafkaStoreChangeEvent<T>> queue;
+        private final KafkaStoreSubscriber<T> subscriber;
+        private final AtomicBoolean overflowed = new AtomicBoolean(false);
+        private final AtomicLong offered = new AtomicLong();
+        private final AtomicLong handled = new AtomicLong();
+        private final Lock idleLock = new ReentrantLock();
+        private final Condition idle = idleLock.newCondition();
+        private final Counter dropped;
+        private final Thread thread;
+
+        Subscription(String name, int capacity, KafkaStoreSubscriber<T> subscriber) {
+            this.name = name;
+            this.queue = new ArrayBlockingQueue<>(capacity);
+            this.subscriber = subscriber;
+            this.dropped = Counter.builder("ns4kafka.store.subscriber.dropped")
+                    .description("Number of changes dropped because the subscriber queue was full")
+                    .tag("topic", kafkaTopic)
+                    .tag("subscriber", name)
+                    .register(meterRegistry);
+            this.thread = Thread.ofVirtual()
+                    .name("kafka-store-subscriber-" + kafkaTopic + "-" + name)
+                    .start(this::dispatch);
+        }
+
+        void offer(KafkaStoreChangeEvent<T> event) {
+            offered.incrementAndGet();
+            if (!queue.offer(event)) {
+                offered.decrementAndGet();
+                dropped.increment();
+                if (overflowed.compareAndSet(false, true)) {
+                    log.warn("Queue of subscriber {} of topic {} is full, changes are dropped.", name, kafkaTopic);
+                }
+                signalIfIdle();
+            }
+        }
+
+        private void dispatch() {
+            while (!Thread.currentThread().isInterrupted()) {
+                KafkaStoreChangeEvent<T> event;
+                try {
+                    event = queue.take();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+
+                try {
+                    handle(event);
+                } finally {
+                    handled.incrementAndGet();
+                    signalIfIdle();
+                }
+            }
+        }
+
+        /**
+         * Handle a change, then notify the subscriber of the lost changes once its queue is drained.
+         *
+         * @param event The change
+         */
+        private void handle(KafkaStoreChangeEvent<T> event) {
+            try {
+                subscriber.onChange(event);
+            } catch (RuntimeException e) {
+                log.error("Subscriber {} of topic {} failed to handle a change.", name, kafkaTopic, e);
+                overflowed.set(true);
+            }
+
+            if (queue.isEmpty() && overflowed.compareAndSet(true, false)) {
+                try {
+                    subscriber.onOverflow();
+                } catch (RuntimeException e) {
+                    log.error("Subscriber {} of topic {} failed to handle lost changes.", name, kafkaTopic, e);
+                    overflowed.set(true);
+                }
+            }
+        }
+
+        /** Wake up the threads waiting for the subscriber to be idle, if it is. */
+        private void signalIfIdle() {
+            if (handled.get() >= offered.get()) {
+                idleLock.lock();
+                try {
+                    idle.signalAll();
+                } finally {
+                    idleLock.unlock();
+                }
+            }
+        }
+
+        @Override
+        public boolean awaitIdle(Duration timeout) throws InterruptedException {
+            long remaining = timeout.toNanos();
+            idleLock.lock();
+            try {
+                while (handled.get() < offered.get()) {
+                    if (remaining <= 0) {
+                        return false;
+                    }
+                    remaining = idle.awaitNanos(remaining);
+                }
+                return true;
+            } finally {
+                idleLock.unlock();
+            }
+        }
+
+        @Override
+        public void close() {
+            subscriptions.remove(this);
+            thread.interrupt();
+        }
+    }
+}
@@ -0,0 +1,242 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.michelin.ns4kafka.repository.kafka;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.LongConsumer;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.producer.Producer;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.clients.producer.RecordMetadata;
+import org.apache.kafka.common.KafkaException;
+
+/**
+ * Group commit of the writes of a Kafka store.
+ *
+ * <p>Concurrent writes are queued and sent by a single writer thread as one producer batch. The writer then waits
+ * once for the local store to reach the highest offset of the batch, and releases all the writers of the batch.
+ *
+ * @param <T> The type of the store
+ */
+@Slf4j
+class KafkaStoreGroupCommit<T> {
+    private final String kafkaTopic;
+    private final Producer<String, T> kafkaProducer;
+    private final LongConsumer offsetWaiter;
+    private final int maxBatchSize;
+    private final long lingerNs;
+    private final long timeoutMs;
+    private final BlockingQueue<PendingWrite<T>> pendingWrites = new LinkedBlockingQueue<>();
+    private final DistributionSummary batchSize;
+    private final Timer commitLatency;
+    private final Thread writerThread;
+    private volatile boolean running = true;
+
+    /**
+     * Constructor.
+     *
+     * @param kafkaTopic The store topic
+     * @param kafkaProducer The store producer
+     * @param offsetWaiter Waits until the local store reaches a given offset
+     * @param maxBatchSize The maximum number of writes in a batch
+     * @param lingerMs The time in milliseconds to wait for more writes before sending a batch
+     * @param timeoutMs The timeout in milliseconds to wait for an ack from Kafka
+     * @param meterRegistry The meter registry
+     */
+    KafkaStoreGroupCommit(
+            String kafkaTopic,
+            Producer<String, T> kafkaProducer,
+            LongConsumer offsetWaiter,
+            int maxBatchSize,
+            int lingerMs,
+            long timeoutMs,
+            MeterRegistry meterRegistry) {
+        this.kafkaTopic = kafkaTopic;
+        this.kafkaProducer = kafkaProducer;
+        this.offsetWaiter = offsetWaiter;
+        this.maxBatchSize = Math.max(1, maxBatchSize);
+        this.lingerNs = TimeUnit.MILLISECONDS.toNanos(lingerMs);
+        this.timeoutMs = timeoutMs;
+        this.batchSize = DistributionSummary.builder("ns4kafka.store.group.commit.batch.size")
+                .description("Number of writes committed in a batch")
+                .tag("topic", kafkaTopic)
+                .register(meterRegistry);
+        this.commitLatency = Timer.builder("ns4kafka.store.group.commit.latency")
+                .description("Time to send a batch and wait for the local store to read it")
+                .tag("topic", kafkaTopic)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.writerThread = Thread.ofPlatform()
+                .name("kafka-store-writer-" + kafkaTopic)
+                .daemon()
+                .start(this::writeBatches);
+    }
+
+    /**
+     * Submit a write.
+     *
+     * @param key The record key
+     * @param message The record body, or null for a tombstone
+     * @return A future completed with the offset of the record once the local store has read it
+     */
+    CompletableFuture<Long> submit(String key, T message) {
+        if (!running) {
+            return CompletableFuture.failedFuture(
+                    new KafkaStoreException("Group commit of topic " + kafkaTopic + " is closed"));
+        }
+
+        PendingWrite<T> pendingWrite = new PendingWrite<>(key, message, new CompletableFuture<>());
+        pendingWrites.add(pendingWrite);
+        return pendingWrite.result();
+    }
+
+    /** Stop the writer thread. Pending writes are failed. */
+    void close() {
+        running = false;
+        writerThread.interrupt();
+
+        PendingWrite<T> pendingWrite;
+        while ((pendingWrite = pendingWrites.poll()) != null) {
+            pendingWrite
+                    .result()
+                    .completeExceptionally(
+                            new KafkaStoreException("Group commit of topic " + kafkaTopic + " is closed"));
+        }
+    }
+
+    /** Collect the pending writes into batches and commit them, until closed. */
+    private void writeBatches() {
+        while (running) {
+            try {
+                PendingWrite<T> first = pendingWrites.poll(1, TimeUnit.SECONDS);
+                if (first == null) {
+                    continue;
+                }
+
+                List<PendingWrite<T>> batch = new ArrayList<>();
+                batch.add(first);
+
+                long deadline = System.nanoTime() + lingerNs;
+                while (batch.size() < maxBatchSize) {
+                    long remainingNs = deadline - System.nanoTime();
+                    PendingWrite<T> next = remainingNs > 0
+                            ? pendingWrites.poll(remainingNs, TimeUnit.NANOSECONDS)
+                            : pendingWrites.poll();
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+
+                commit(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("Unexpected error in the group commit of topic {}", kafkaTopic, e);
+            }
+        }
+    }
+
+    /**
+     * Send a batch, wait for the acks, then wait once for the local store to reach the highest offset.
+     *
+     * @param batch The batch
+     */
+    private void commit(List<PendingWrite<T>> batch) {
+        long start = System.nanoTime();
+
+        List<Future<RecordMetadata>> acks = new ArrayList<>(batch.size());
+        for (PendingWrite<T> pendingWrite : batch) {
+            try {
+                acks.add(kafkaProducer.send(
+                        new ProducerRecord<>(kafkaTopic, pendingWrite.key(), pendingWrite.message())));
+            } catch (KafkaException e) {
+                acks.add(null);
+                KafkaStoreException exception = new KafkaStoreException("Put operation to Kafka failed", e);
+                pendingWrite.result().completeExceptionally(exception);
+            }
+        }
+
+        long[] offsets = new long[batch.size()];
+        long highestOffset = -1;
+        for (int i = 0; i < batch.size(); i++) {
+            if (acks.get(i) == null) {
+                continue;
+            }
+
+            try {
+                offsets[i] = acks.get(i).get(timeoutMs, TimeUnit.MILLISECONDS).offset();
+                highestOffset = Math.max(highestOffset, offsets[i]);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                batch.get(i)
+                        .result()
+                        .completeExceptionally(new KafkaStoreException(
+                                "Put operation interrupted while waiting for an ack from Kafka", e));
+            } catch (ExecutionException e) {
+                batch.get(i)
+                        .result()
+                        .completeExceptionally(new KafkaStoreException(
+                                "Put operation failed while waiting for an ack from Kafka", e));
+            } catch (TimeoutException e) {
+                batch.get(i)
+                        .result()
+                        .completeExceptionally(new KafkaStoreException(
+                                "Put operation timed out while waiting for an ack from Kafka", e));
+            }
+        }
+
+        if (highestOffset >= 0) {
+            try {
+                log.trace("Waiting for the local store to catch up to offset {}", highestOffset);
+                offsetWaiter.accept(highestOffset);
+                for (int i = 0; i < batch.size(); i++) {
+                    batch.get(i).result().complete(offsets[i]);
+                }
+            } catch (KafkaStoreException e) {
+                batch.forEach(pendingWrite -> pendingWrite.result().completeExceptionally(e));
+            }
+        }
+
+        batchSize.record(batch.size());
+        commitLatency.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Pending write.
+     *
+     * @param key The record key
+     * @param message The record body
+     * @param result The result of the write
+     * @param <T> The type of the store
+     */
+    private record PendingWrite<T>(String key, T message, CompletableFuture<Long> result) {}
+}
@@ -0,0 +1,61 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.michelin.ns4kafka.repository.kafka;
+
+import io.micronaut.health.HealthStatus;
+import io.micronaut.management.health.indicator.AbstractHealthIndicator;
+import io.micronaut.management.health.indicator.annotation.Readiness;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/** Readiness of the Kafka stores. A store is ready once it has replayed its topic. */
+@Singleton
+@Readiness
+public class KafkaStoreHealthIndicator extends AbstractHealthIndicator<Map<String, Object>> {
+    @Inject
+    List<KafkaStore<?>> kafkaStores;
+
+    @Override
+    protected Map<String, Object> getHealthInformation() {
+        Map<String, Object> details = new LinkedHashMap<>();
+        boolean ready = true;
+        for (KafkaStore<?> kafkaStore : kafkaStores) {
+            ready &= kafkaStore.isInitialized();
+            details.put(
+                    kafkaStore.getKafkaTopic(),
+                    Map.of(
+                            "initialized", kafkaStore.isInitialized(),
+                            "records", kafkaStore.getKafkaStore().size(),
+                            "offset", kafkaStore.getOffset(),
+                            "targetOffset", kafkaStore.getInitTargetOffset(),
+                            "replayRate", Math.round(kafkaStore.getReplayRate())));
+        }
+
+        healthStatus = ready ? HealthStatus.UP : HealthStatus.DOWN;
+        return details;
+    }
+
+    @Override
+    protected String getName() {
+        return "kafkaStores";
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.michelin.ns4kafka.repository.kafka;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Secondary index of a Kafka store. Maps an index key extracted from the stored values to the keys of the records
+ * holding them.
+ *
+ * @param <T> The type of the store
+ */
+class KafkaStoreIndex<T> implements KafkaStoreView<T> {
+    private final Function<T, String> indexKeyExtractor;
+    private final Map<String, Set<String>> entries = new ConcurrentHashMap<>();
+
+    /**
+     * Constructor.
+     *
+     * @param indexKeyExtractor The function extracting the index key from a stored value
+     */
+    KafkaStoreIndex(Function<T, String> indexKeyExtractor) {
+        this.indexKeyExtractor = indexKeyExtractor;
+    }
+
+    /**
+     * Get the index key of a stored value.
+     *
+     * @param value The stored value
+     * @return The index key, or null if the value is not indexed
+     */
+    String indexKeyOf(T value) {
+        return value == null ? null : indexKeyExtractor.apply(value);
+    }
+
+    /**
+     * Update the index after a record has been applied to the store.
+     *
+     * @param key The record key
+     * @param previous The value previously held by the store, or null
+     * @param current The value now held by the store, or null for a tombstone
+     */
+    @Override
+    public void update(String key, T previous, T current) {
+        String previousIndexKey = indexKeyOf(previous);
+        String currentIndexKey = indexKeyOf(current);
+
+        if (previousIndexKey != null && !previousIndexKey.equals(currentIndexKey)) {
+            entries.computeIfPresent(previousIndexKey, (indexKey, keys) -> {
+                keys.remove(key);
+                return keys.isEmpty() ? null : keys;
+            });
+        }
+
+        if (currentIndexKey != null) {
+            entries.computeIfAbsent(currentIndexKey, indexKey -> ConcurrentHashMap.newKeySet())
+                    .add(key);
+        }
+    }
+
+    /**
+     * Get the keys of the records matching the given index key.
+     *
+     * @param indexKey The index key
+     * @return The matching record keys
+     */
+    Set<String> get(String indexKey) {
+        if (indexKey == null) {
+            return Collections.emptySet();
+        }
+
+        return Objects.requireNonNullElse(entries.get(indexKey), Collections.emptySet());
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.michelin.ns4kafka.repository.kafka;
+
+import io.micronaut.configuration.kafka.ConsumerAware;
+import java.util.Collection;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRebalanceListener;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+
+/**
+ * Kafka consumer of a store, handing the records of the store topic to the store. The listeners are only started with
+ * the Kafka backend, the in-memory backend hands the records to the stores itself.
+ *
+ * @param <T> The type of the store
+ */
+abstract class KafkaStoreListener<T> implements ConsumerRebalanceListener, ConsumerAware<String, T> {
+    private final KafkaStore<T> store;
+
+    KafkaStoreListener(KafkaStore<T> store) {
+        this.store = store;
+    }
+
+    @Override
+    public void setKafkaConsumer(Consumer<String, T> consumer) {
+        store.setKafkaConsumer(consumer);
+    }
+
+    @Override
+    public void onPartitionsAssigned(Collection<TopicPartition> partitions) {
+        store.onPartitionsAssigned(partitions);
+    }
+
+    @Override
+    public void onPartitionsRevoked(Collection<TopicPartition> partitions) {
+        store.onPartitionsRevoked(partitions);
+    }
+
+    /**
+     * Hand a consumed record to the store.
+     *
+     * @param message The record
+     */
+    void receive(ConsumerRecord<String, T> message) {
+        store.receive(message);
+    }
+}
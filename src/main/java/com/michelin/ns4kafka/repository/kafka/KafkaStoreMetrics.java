@@ -0,0 +1,157 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.michelin.ns4kafka.repository.kafka;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Metrics of a Kafka store, tagged by store topic.
+ *
+ * <p>The size of the store in bytes is estimated from the average serialized size of the consumed records, so the
+ * records do not have to be measured one by one.
+ */
+class KafkaStoreMetrics {
+    private final AtomicLong endOffset = new AtomicLong(-1);
+    private final LongAdder consumedRecords = new LongAdder();
+    private final LongAdder consumedBytes = new LongAdder();
+    private final LongSupplier records;
+    private final LongSupplier offset;
+    private final Timer produceLatency;
+    private final Timer waitTime;
+    private final Counter timeouts;
+
+    /**
+     * Constructor.
+     *
+     * @param kafkaTopic The store topic
+     * @param meterRegistry The meter registry
+     * @param records The number of records in the store
+     * @param offset The last offset read by the store
+     */
+    KafkaStoreMetrics(String kafkaTopic, MeterRegistry meterRegistry, LongSupplier records, LongSupplier offset) {
+        this.records = records;
+        this.offset = offset;
+
+        gauge("ns4kafka.store.records", "Number of records in the store", kafkaTopic, meterRegistry, m -> records());
+        gauge("ns4kafka.store.bytes", "Estimated size of the records in the store", kafkaTopic, meterRegistry, m ->
+                estimatedBytes());
+        gauge("ns4kafka.store.offset", "Last offset read by the store", kafkaTopic, meterRegistry, m -> offset());
+        gauge("ns4kafka.store.end.offset", "End offset of the store topic", kafkaTopic, meterRegistry, m ->
+                endOffset.get());
+        gauge("ns4kafka.store.lag", "Number of records of the store topic not read yet", kafkaTopic, meterRegistry, m ->
+                lag());
+
+        this.produceLatency = Timer.builder("ns4kafka.store.produce.latency")
+                .description("Time to write a record, from the send to its read by the store")
+                .tag("topic", kafkaTopic)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.waitTime = Timer.builder("ns4kafka.store.wait")
+                .description("Time spent waiting for the store to read an offset")
+                .tag("topic", kafkaTopic)
+                .register(meterRegistry);
+        this.timeouts = Counter.builder("ns4kafka.store.timeouts")
+                .description("Number of writes timed out while waiting for Kafka or for the store")
+                .tag("topic", kafkaTopic)
+                .register(meterRegistry);
+    }
+
+    private void gauge(
+            String name,
+            String description,
+            String kafkaTopic,
+            MeterRegistry meterRegistry,
+            ToDoubleFunction<KafkaStoreMetrics> value) {
+        Gauge.builder(name, this, value)
+                .description(description)
+                .tag("topic", kafkaTopic)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Record a consumed record.
+     *
+     * @param serializedSize The serialized size of the record key and value
+     */
+    void recordConsumed(int serializedSize) {
+        consumedRecords.increment();
+        consumedBytes.add(serializedSize);
+    }
+
+    /**
+     * Update the end offset of the store topic. The end offset only moves forward.
+     *
+     * @param offset The end offset
+     */
+    void updateEndOffset(long offset) {
+        endOffset.accumulateAndGet(offset, Math::max);
+    }
+
+    /**
+     * Get the produce latency timer.
+     *
+     * @return The timer
+     */
+    Timer getProduceLatency() {
+        return produceLatency;
+    }
+
+    /**
+     * Get the wait time timer.
+     *
+     * @return The timer
+     */
+    Timer getWaitTime() {
+        return waitTime;
+    }
+
+    /** Record a timeout. */
+    void recordTimeout() {
+        timeouts.increment();
+    }
+
+    long records() {
+        return records.getAsLong();
+    }
+
+    long offset() {
+        return offset.getAsLong();
+    }
+
+    long estimatedBytes() {
+        long count = consumedRecords.sum();
+        return count == 0 ? 0 : records() * consumedBytes.sum() / count;
+    }
+
+    long endOffset() {
+        return endOffset.get();
+    }
+
+    long lag() {
+        long end = endOffset.get();
+        return end < 0 ? 0 : Math.max(0, end - 1 - offset());
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.michelin.ns4kafka.repository.kafka;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free tracker of the offset read by a Kafka store.
+ *
+ * <p>The high-water mark is only advanced by the consumer thread. Writers waiting for an offset register a future in
+ * a map ordered by target offset, and the consumer completes only the futures whose target has been reached.
+ */
+class KafkaStoreOffsetTracker {
+    private final AtomicLong highWaterMark = new AtomicLong(-1);
+    private final ConcurrentNavigableMap<Long, CompletableFuture<Void>> waiters = new ConcurrentSkipListMap<>();
+
+    /**
+     * Get the last read offset.
+     *
+     * @return The offset, or -1 if nothing has been read yet
+     */
+    long get() {
+        return highWaterMark.get();
+    }
+
+    /**
+     * Advance the high-water mark and complete the waiters of the reached offsets. Never blocks.
+     *
+     * @param offset The last read offset
+     */
+    void advance(long offset) {
+        highWaterMark.set(offset);
+
+        Map.Entry<Long, CompletableFuture<Void>> waiter;
+        while ((waiter = waiters.firstEntry()) != null && waiter.getKey() <= offset) {
+            if (waiters.remove(waiter.getKey(), waiter.getValue())) {
+                waiter.getValue().complete(null);
+            }
+        }
+    }
+
+    /**
+     * Get a future completed once the given offset has been read.
+     *
+     * @param offset The offset
+     * @return The future
+     */
+    CompletableFuture<Void> whenReached(long offset) {
+        if (highWaterMark.get() >= offset) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        CompletableFuture<Void> waiter = waiters.computeIfAbsent(offset, k -> new CompletableFuture<>());
+
+        // The offset may have been reached between the first check and the registration
+        if (highWaterMark.get() >= offset && waiters.remove(offset, waiter)) {
+            waiter.complete(null);
+        }
+        return waiter;
+    }
+
+    /**
+     * Wait until the given offset has been read.
+     *
+     * @param offset The offset
+     * @param timeoutMs The timeout in milliseconds
+     * @return true if the offset has been reached, false if the timeout elapsed
+     * @throws InterruptedException If the thread is interrupted while waiting
+     */
+    boolean await(long offset, long timeoutMs) throws InterruptedException {
+        try {
+            whenReached(offset).get(timeoutMs, TimeUnit.MILLISECONDS);
+            return true;
+        } catch (TimeoutException e) {
+            return false;
+        } catch (ExecutionException e) {
+            throw new KafkaStoreException("Unexpected error while waiting for offset " + offset, e.getCause());
+        }
+    }
+
+    /**
+     * Get the number of pending waiters.
+     *
+     * @return The number of distinct offsets waited for
+     */
+    int pendingWaiters() {
+        return waiters.size();
+    }
+}
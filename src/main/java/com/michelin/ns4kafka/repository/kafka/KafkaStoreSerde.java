@@ -0,0 +1,127 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.michelin.ns4kafka.repository.kafka;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.michelin.ns4kafka.property.Ns4KafkaProperties.StoreProperties.KafkaProperties.SerdeProperties.Format;
+import io.micronaut.json.JsonMapper;
+import java.io.IOException;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.serialization.Deserializer;
+import org.apache.kafka.common.serialization.Serde;
+import org.apache.kafka.common.serialization.Serializer;
+
+/**
+ * Serde of the values of a Kafka store.
+ *
+ * <p>Values are written either as JSON, or in a compact binary format made of a magic byte, a version byte and the
+ * value encoded as Smile. Both formats are read whatever the written format is, so a store can be switched from one
+ * to the other without downtime.
+ *
+ * @param <T> The type of the store
+ */
+class KafkaStoreSerde<T> implements Serde<T> {
+    static final byte MAGIC_BYTE = 0x00;
+    static final byte VERSION = 1;
+
+    private final Class<T> type;
+    private final Format format;
+    private final JsonMapper jsonMapper;
+    private final ObjectMapper binaryMapper;
+
+    /**
+     * Constructor.
+     *
+     * @param type The type of the store
+     * @param format The format to write
+     * @param jsonMapper The JSON mapper
+     * @param binaryMapper The Smile mapper
+     */
+    KafkaStoreSerde(Class<T> type, Format format, JsonMapper jsonMapper, ObjectMapper binaryMapper) {
+        this.type = type;
+        this.format = format;
+        this.jsonMapper = jsonMapper;
+        this.binaryMapper = binaryMapper;
+    }
+
+    @Override
+    public Serializer<T> serializer() {
+        return (topic, data) -> serialize(data);
+    }
+
+    @Override
+    public Deserializer<T> deserializer() {
+        return (topic, data) -> deserialize(data);
+    }
+
+    /**
+     * Serialize a value in the configured format.
+     *
+     * @param data The value
+     * @return The serialized value
+     */
+    byte[] serialize(T data) {
+        if (data == null) {
+            return null;
+        }
+
+        try {
+            if (format == Format.JSON) {
+                return jsonMapper.writeValueAsBytes(data);
+            }
+
+            byte[] payload = binaryMapper.writeValueAsBytes(data);
+            byte[] bytes = new byte[payload.length + 2];
+            bytes[0] = MAGIC_BYTE;
+            bytes[1] = VERSION;
+            System.arraycopy(payload, 0, bytes, 2, payload.length);
+            return bytes;
+        } catch (IOException e) {
+            throw new SerializationException("Cannot serialize " + type.getSimpleName() + " value.", e);
+        }
+    }
+
+    /**
+     * Deserialize a value written in any format.
+     *
+     * @param data The serialized value
+     * @return The value
+     */
+    T deserialize(byte[] data) {
+        if (data == null || data.length == 0) {
+            return null;
+        }
+
+        try {
+            // JSON text never starts with the magic byte
+            if (data[0] != MAGIC_BYTE) {
+                return jsonMapper.readValue(data, type);
+            }
+
+            if (data.length < 2 || data[1] != VERSION) {
+                throw new SerializationException("Unknown binary format version "
+                        + (data.length < 2 ? "(none)" : data[1]) + " for " + type.getSimpleName() + " value.");
+            }
+
+            return binaryMapper.readValue(data, 2, data.length - 2, type);
+        } catch (IOException e) {
+            throw new SerializationException("Cannot deserialize " + type.getSimpleName() + " value.", e);
+        }
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.michelin.ns4kafka.repository.kafka;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+import com.michelin.ns4kafka.model.AccessControlEntry;
+import com.michelin.ns4kafka.model.KafkaStream;
+import com.michelin.ns4kafka.model.Namespace;
+import com.michelin.ns4kafka.model.RoleBinding;
+import com.michelin.ns4kafka.model.Topic;
+import com.michelin.ns4kafka.model.connect.cluster.ConnectCluster;
+import com.michelin.ns4kafka.model.connector.Connector;
+import com.michelin.ns4kafka.model.quota.ResourceQuota;
+import com.michelin.ns4kafka.property.Ns4KafkaProperties;
+import com.michelin.ns4kafka.property.Ns4KafkaProperties.StoreProperties.KafkaProperties.SerdeProperties;
+import io.micronaut.configuration.kafka.serde.SerdeRegistry;
+import io.micronaut.core.order.Ordered;
+import io.micronaut.json.JsonMapper;
+import jakarta.inject.Singleton;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.common.serialization.Serde;
+
+/**
+ * Serde registry of the Kafka stores. It takes precedence over the default JSON serde for the types held by the
+ * stores, and uses the format configured for each store.
+ */
+@Slf4j
+@Singleton
+public class KafkaStoreSerdeRegistry implements SerdeRegistry, Ordered {
+    static final Map<Class<?>, String> STORES = Map.of(
+            AccessControlEntry.class, "access-control-entries",
+            ConnectCluster.class, "connect-workers",
+            Connector.class, "connectors",
+            KafkaStream.class, "streams",
+            Namespace.class, "namespaces",
+            ResourceQuota.class, "resource-quotas",
+            RoleBinding.class, "role-bindings",
+            Topic.class, "topics");
+
+    private final SerdeProperties serdeProperties;
+    private final JsonMapper jsonMapper;
+    private final ObjectMapper binaryMapper;
+    private final Map<Class<?>, Serde<?>> serdes = new ConcurrentHashMap<>();
+
+    /**
+     * Constructor.
+     *
+     * @param ns4KafkaProperties The Ns4Kafka properties
+     * @param jsonMapper The JSON mapper
+     * @param objectMapper The object mapper, copied to build the Smile mapper
+     */
+    public KafkaStoreSerdeRegistry(
+            Ns4KafkaProperties ns4KafkaProperties, JsonMapper jsonMapper, ObjectMapper objectMapper) {
+        this.serdeProperties = ns4KafkaProperties.getStore().getKafka().getSerde();
+        this.jsonMapper = jsonMapper;
+        this.binaryMapper = objectMapper.copyWith(SmileFactory.builder()
+                .enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES)
+                .build());
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> Serde<T> getSerde(Class<T> type) {
+        String store = STORES.get(type);
+        if (store == null) {
+            return null;
+        }
+
+        return (Serde<T>) serdes.computeIfAbsent(type, k -> {
+            SerdeProperties.Format format =
+                    serdeProperties.getFormats().getOrDefault(store, serdeProperties.getFormat());
+            log.debug("Using {} format for store {}.", format, store);
+            return new KafkaStoreSerde<>(type, format, jsonMapper, binaryMapper);
+        });
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE;
+    }
+}
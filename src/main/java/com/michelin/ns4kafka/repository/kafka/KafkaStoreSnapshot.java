@@ -0,0 +1,189 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.michelin.ns4kafka.repository.kafka;
+
+import io.micronaut.core.type.Argument;
+import io.micronaut.json.JsonMapper;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * Local snapshot file of a Kafka store.
+ *
+ * <p>The file holds a header (magic number, format version, topic, creation timestamp, last applied offset), the
+ * records as length-prefixed key and value bytes, and a CRC32 of everything before it. It is written to a temporary
+ * file first, then atomically moved in place.
+ *
+ * @param <T> The type of the store
+ */
+class KafkaStoreSnapshot<T> {
+    private static final int MAGIC = 0x4E53344B;
+    private static final int VERSION = 1;
+
+    private final Path path;
+    private final String kafkaTopic;
+    private final JsonMapper jsonMapper;
+    private final Argument<T> valueType;
+
+    /**
+     * Constructor.
+     *
+     * @param directory The snapshot directory
+     * @param kafkaTopic The store topic
+     * @param jsonMapper The JSON mapper used to serialize the values
+     * @param valueType The type of the values
+     */
+    KafkaStoreSnapshot(Path directory, String kafkaTopic, JsonMapper jsonMapper, Argument<T> valueType) {
+        this.path = directory.resolve(kafkaTopic + ".snapshot");
+        this.kafkaTopic = kafkaTopic;
+        this.jsonMapper = jsonMapper;
+        this.valueType = valueType;
+    }
+
+    /**
+     * Write the snapshot.
+     *
+     * @param offset The last offset applied to the records
+     * @param records The records
+     * @throws IOException Any I/O exception
+     */
+    void write(long offset, Map<String, T> records) throws IOException {
+        Files.createDirectories(path.getParent());
+        Path temporaryPath = path.resolveSibling(path.getFileName() + ".tmp");
+
+        CRC32 checksum = new CRC32();
+        try (DataOutputStream out = new DataOutputStream(new CheckedOutputStream(
+                new BufferedOutputStream(Files.newOutputStream(temporaryPath)), checksum))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeUTF(kafkaTopic);
+            out.writeLong(System.currentTimeMillis());
+            out.writeLong(offset);
+            out.writeInt(records.size());
+
+            for (Map.Entry<String, T> entry : records.entrySet()) {
+                writeBytes(out, entry.getKey().getBytes(StandardCharsets.UTF_8));
+                writeBytes(out, jsonMapper.writeValueAsBytes(entry.getValue()));
+            }
+
+            out.writeLong(checksum.getValue());
+        }
+
+        Files.move(temporaryPath, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Read the snapshot.
+     *
+     * @return The snapshot state, or empty if there is no snapshot
+     * @throws IOException Any I/O exception, or a corrupt snapshot
+     */
+    Optional<State<T>> read() throws IOException {
+        if (!Files.exists(path)) {
+            return Optional.empty();
+        }
+
+        long fileSize = Files.size(path);
+        CRC32 checksum = new CRC32();
+        try (DataInputStream in = new DataInputStream(
+                new CheckedInputStream(new BufferedInputStream(Files.newInputStream(path)), checksum))) {
+            if (in.readInt() != MAGIC) {
+                throw new IOException("Invalid magic number in snapshot " + path + ".");
+            }
+
+            int version = in.readInt();
+            if (version != VERSION) {
+                throw new IOException("Unsupported version " + version + " of snapshot " + path + ".");
+            }
+
+            String topic = in.readUTF();
+            if (!kafkaTopic.equals(topic)) {
+                throw new IOException("Snapshot " + path + " belongs to topic " + topic + ".");
+            }
+
+            long timestamp = in.readLong();
+            long offset = in.readLong();
+            int size = in.readInt();
+            if (size < 0 || size > fileSize) {
+                throw new IOException("Invalid record count " + size + " in snapshot " + path + ".");
+            }
+
+            Map<String, T> records = HashMap.newHashMap(size);
+            for (int i = 0; i < size; i++) {
+                String key = new String(readBytes(in, fileSize), StandardCharsets.UTF_8);
+                records.put(key, jsonMapper.readValue(readBytes(in, fileSize), valueType));
+            }
+
+            long expectedChecksum = checksum.getValue();
+            if (in.readLong() != expectedChecksum) {
+                throw new IOException("Checksum mismatch in snapshot " + path + ".");
+            }
+
+            return Optional.of(new State<>(timestamp, offset, records));
+        }
+    }
+
+    /**
+     * Get the snapshot path.
+     *
+     * @return The path
+     */
+    Path getPath() {
+        return path;
+    }
+
+    private static void writeBytes(DataOutputStream out, byte[] bytes) throws IOException {
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static byte[] readBytes(DataInputStream in, long fileSize) throws IOException {
+        int length = in.readInt();
+        if (length < 0 || length > fileSize) {
+            throw new IOException("Invalid record length " + length + " in snapshot.");
+        }
+
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return bytes;
+    }
+
+    /**
+     * Snapshot state.
+     *
+     * @param timestamp The creation timestamp of the snapshot
+     * @param offset The last offset applied to the records
+     * @param records The records
+     * @param <T> The type of the store
+     */
+    record State<T>(long timestamp, long offset, Map<String, T> records) {}
+}
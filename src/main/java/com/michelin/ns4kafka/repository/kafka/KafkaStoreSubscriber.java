@@ -0,0 +1,40 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.michelin.ns4kafka.repository.kafka;
+
+/**
+ * Subscriber to the changes of a Kafka store.
+ *
+ * @param <T> The type of the store
+ */
+@FunctionalInterface
+public interface KafkaStoreSubscriber<T> {
+    /**
+     * Handle a change. Called from the subscriber own thread, in the order of the store topic.
+     *
+     * @param event The change
+     */
+    void onChange(KafkaStoreChangeEvent<T> event);
+
+    /**
+     * Handle lost changes. Called once the pending changes have been handled, when some changes have been dropped
+     * because the subscriber queue was full. The subscriber should rebuild its state from the store.
+     */
+    default void onOverflow() {}
+}
@@ -0,0 +1,38 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.michelin.ns4kafka.repository.kafka;
+
+import java.time.Duration;
+
+/** Subscription to the changes of a Kafka store. */
+public interface KafkaStoreSubscription extends AutoCloseable {
+    /**
+     * Wait for the subscriber to handle the changes published so far, e.g. the changes of the writes acknowledged
+     * before the call.
+     *
+     * @param timeout The maximum time to wait
+     * @return true if the subscriber has handled them, false if the timeout elapsed first
+     * @throws InterruptedException Exception thrown if interrupted while waiting
+     */
+    boolean awaitIdle(Duration timeout) throws InterruptedException;
+
+    /** Unsubscribe. */
+    @Override
+    void close();
+}
@@ -0,0 +1,88 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.michelin.ns4kafka.repository.kafka;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Transaction of the current thread. The records produced to the stores by the thread are buffered in the transaction
+ * instead of being sent, until the transaction commits.
+ */
+class KafkaStoreTransaction {
+    private static final ThreadLocal<KafkaStoreTransaction> CURRENT = new ThreadLocal<>();
+
+    private final List<Write<?>> writes = new ArrayList<>();
+
+    /**
+     * Get the transaction of the current thread.
+     *
+     * @return The transaction, or null if there is none
+     */
+    static KafkaStoreTransaction current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Begin a transaction on the current thread.
+     *
+     * @return The transaction
+     */
+    static KafkaStoreTransaction begin() {
+        KafkaStoreTransaction transaction = new KafkaStoreTransaction();
+        CURRENT.set(transaction);
+        return transaction;
+    }
+
+    /** End the transaction of the current thread. */
+    static void end() {
+        CURRENT.remove();
+    }
+
+    /**
+     * Add a write to the transaction.
+     *
+     * @param store The store
+     * @param key The record key
+     * @param value The record value, or null to delete the record
+     * @param <T> The type of the store
+     */
+    <T> void add(KafkaStore<T> store, String key, T value) {
+        writes.add(new Write<>(store, key, value));
+    }
+
+    /**
+     * Get the writes of the transaction, in order.
+     *
+     * @return The writes
+     */
+    List<Write<?>> getWrites() {
+        return writes;
+    }
+
+    /**
+     * Write to a store.
+     *
+     * @param store The store
+     * @param key The record key
+     * @param value The record value
+     * @param <T> The type of the store
+     */
+    record Write<T>(KafkaStore<T> store, String key, T value) {}
+}
@@ -0,0 +1,224 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.michelin.ns4kafka.repository.kafka;
+
+import com.michelin.ns4kafka.property.Ns4KafkaProperties;
+import com.michelin.ns4kafka.repository.TransactionManager;
+import io.micronaut.configuration.kafka.ProducerRegistry;
+import io.micronaut.core.type.Argument;
+import jakarta.annotation.PostConstruct;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.producer.Producer;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.clients.producer.RecordMetadata;
+import org.apache.kafka.common.KafkaException;
+import org.apache.kafka.common.errors.AuthorizationException;
+import org.apache.kafka.common.errors.OutOfOrderSequenceException;
+import org.apache.kafka.common.errors.ProducerFencedException;
+import org.apache.kafka.common.errors.TimeoutException;
+
+/**
+ * Transaction manager of the Kafka stores.
+ *
+ * <p>The records produced to the stores during a transaction are sent at once with a transactional producer, to one or
+ * several store topics. The stores consume their topic in read_committed mode, so they never read the records of an
+ * aborted transaction. Each store written by the transaction is waited once, for the highest offset written to it.
+ *
+ * <p>When the transactions are disabled, the writes are produced one by one as they are made.
+ */
+@Slf4j
+@Singleton
+public class KafkaStoreTransactionManager implements TransactionManager {
+    private static final int MAX_COMMIT_ATTEMPTS = 3;
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    @Inject
+    private Ns4KafkaProperties ns4KafkaProperties;
+
+    @Inject
+    private ProducerRegistry producerRegistry;
+
+    @Inject
+    private KafkaStoreSerdeRegistry serdeRegistry;
+
+    private volatile Producer<String, byte[]> producer;
+
+    private String transactionalId;
+
+    private int producerGeneration;
+
+    /** Initialize the transactional producer, if the transactions are enabled. */
+    @PostConstruct
+    void init() {
+        Ns4KafkaProperties.StoreProperties.KafkaProperties.TransactionProperties transactionProperties =
+                ns4KafkaProperties.getStore().getKafka().getTransaction();
+        if (transactionProperties.isEnabled()) {
+            transactionalId = transactionProperties.getTransactionalIdPrefix() + "-" + UUID.randomUUID();
+            log.info("Using transactional id {} for the store writes.", transactionalId);
+            producer = createProducer();
+        }
+    }
+
+    /**
+     * Create a transactional producer. The transactional id is kept for the whole life of the replica, so a new
+     * producer fences the previous one and aborts the transaction it left open. The producers are cached by client id
+     * in the registry, so each new producer gets its own client id.
+     *
+     * @return The producer
+     */
+    private Producer<String, byte[]> createProducer() {
+        String clientId = "store-transaction-producer-" + producerGeneration++;
+        return producerRegistry.getTransactionalProducer(
+                clientId, transactionalId, Argument.STRING, Argument.of(byte[].class));
+    }
+
+    @Override
+    public void executeInTransaction(Runnable writes) {
+        if (producer == null || KafkaStoreTransaction.current() != null) {
+            writes.run();
+            return;
+        }
+
+        KafkaStoreTransaction transaction = KafkaStoreTransaction.begin();
+        try {
+            writes.run();
+        } finally {
+            KafkaStoreTransaction.end();
+        }
+
+        if (!transaction.getWrites().isEmpty()) {
+            commit(transaction).forEach(KafkaStore::awaitWritten);
+        }
+    }
+
+    /**
+     * Send the writes of a transaction and commit it.
+     *
+     * @param transaction The transaction
+     * @return The highest offset written to each store
+     * @throws KafkaStoreException Exception thrown if the transaction is aborted
+     */
+    private Map<KafkaStore<?>, Long> commit(KafkaStoreTransaction transaction) throws KafkaStoreException {
+        Map<KafkaStore<?>, Long> offsets = new HashMap<>();
+        lock.lock();
+        try {
+            producer.beginTransaction();
+            List<Future<RecordMetadata>> acks = new ArrayList<>();
+            for (KafkaStoreTransaction.Write<?> write : transaction.getWrites()) {
+                acks.add(producer.send(new ProducerRecord<>(
+                        write.store().getKafkaTopic(), write.key(), serialize(write))));
+            }
+            commitTransaction();
+
+            // The acks are all completed once the transaction is committed
+            for (int i = 0; i < acks.size(); i++) {
+                offsets.merge(transaction.getWrites().get(i).store(), acks.get(i).get().offset(), Math::max);
+            }
+
+            log.debug("Committed {} writes to {} stores.", acks.size(), offsets.size());
+            return offsets;
+        } catch (ProducerFencedException | OutOfOrderSequenceException | AuthorizationException e) {
+            // The producer cannot be used anymore after such errors
+            resetProducer();
+            throw new KafkaStoreException("Transaction failed and cannot be retried", e);
+        } catch (KafkaException e) {
+            abortTransaction(e);
+            throw new KafkaStoreException("Transaction aborted", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new KafkaStoreException("Transaction interrupted while waiting for an ack from Kafka", e);
+        } catch (ExecutionException e) {
+            throw new KafkaStoreException("Transaction failed while waiting for an ack from Kafka", e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Commit the current transaction. A commit timing out is retried, as the producer allows: the commit may still be
+     * completing, so the transaction cannot be aborted. If it keeps timing out, the outcome of the transaction is
+     * unknown and the producer is replaced.
+     *
+     * @throws KafkaStoreException Exception thrown if the commit keeps timing out
+     */
+    private void commitTransaction() throws KafkaStoreException {
+        int attempt = 1;
+        while (true) {
+            try {
+                producer.commitTransaction();
+                return;
+            } catch (TimeoutException e) {
+                if (attempt >= MAX_COMMIT_ATTEMPTS) {
+                    resetProducer();
+                    throw new KafkaStoreException("Transaction commit timed out, its outcome is unknown", e);
+                }
+
+                log.warn("Transaction commit timed out, retrying ({}/{}).", attempt, MAX_COMMIT_ATTEMPTS, e);
+                attempt++;
+            }
+        }
+    }
+
+    /**
+     * Abort the current transaction. A failure to abort is added to the original failure rather than replacing it,
+     * and the producer is replaced as its state is unknown.
+     *
+     * @param cause The failure that aborts the transaction
+     */
+    private void abortTransaction(KafkaException cause) {
+        try {
+            producer.abortTransaction();
+        } catch (KafkaException e) {
+            log.error("Cannot abort the transaction.", e);
+            cause.addSuppressed(e);
+            resetProducer();
+        }
+    }
+
+    /**
+     * Close the transactional producer and replace it with a new one. The new producer keeps the transactional id, so
+     * its initialization aborts the transaction left open by the previous one.
+     */
+    private void resetProducer() {
+        try {
+            producer.close();
+        } catch (KafkaException e) {
+            log.warn("Cannot close the transactional producer.", e);
+        }
+        producer = createProducer();
+    }
+
+    private <T> byte[] serialize(KafkaStoreTransaction.Write<T> write) {
+        return serdeRegistry
+                .getSerde(write.store().getValueType().getType())
+                .serializer()
+                .serialize(write.store().getKafkaTopic(), write.value());
+    }
+}
@@ -0,0 +1,37 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.michelin.ns4kafka.repository.kafka;
+
+/**
+ * Derived view of a Kafka store, such as a secondary index. A view is updated synchronously on every record applied
+ * to the store, before the consumed offset is published, so a reader that waited for an offset sees a view at least
+ * as recent as the store.
+ *
+ * @param <T> The type of the store
+ */
+interface KafkaStoreView<T> {
+    /**
+     * Update the view after a record has been applied to the store.
+     *
+     * @param key The record key
+     * @param previous The value previously held by the store, or null
+     * @param current The value now held by the store, or null for a tombstone
+     */
+    void update(String key, T previous, T current);
+}
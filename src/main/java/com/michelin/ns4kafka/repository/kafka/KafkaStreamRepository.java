@@ -25,24 +25,24 @@ import io.micronaut.configuration.kafka.annotation.KafkaListener;
 import io.micronaut.configuration.kafka.annotation.OffsetReset;
 import io.micronaut.configuration.kafka.annotation.OffsetStrategy;
 import io.micronaut.configuration.kafka.annotation.Topic;
+import io.micronaut.context.annotation.Property;
+import io.micronaut.context.annotation.Requires;
 import io.micronaut.context.annotation.Value;
 import jakarta.inject.Singleton;
 import java.util.List;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.apache.kafka.clients.producer.Producer;
 
 /** Kafka Stream repository. */
 @Singleton
-@KafkaListener(
-        offsetReset = OffsetReset.EARLIEST,
-        groupId = "${ns4kafka.store.kafka.group-id}",
-        offsetStrategy = OffsetStrategy.DISABLED)
 public class KafkaStreamRepository extends KafkaStore<KafkaStream> implements StreamRepository {
 
     public KafkaStreamRepository(
             @Value("${ns4kafka.store.kafka.topics.prefix}.streams") String kafkaTopic,
             @KafkaClient("streams-producer") Producer<String, KafkaStream> kafkaProducer) {
         super(kafkaTopic, kafkaProducer);
+        addIndex(CLUSTER_INDEX, stream -> stream.getMetadata().getCluster());
     }
 
     @Override
@@ -52,9 +52,7 @@ public class KafkaStreamRepository extends KafkaStore<KafkaStream> implements St
 
     @Override
     public List<KafkaStream> findAllForCluster(String cluster) {
-        return getKafkaStore().values().stream()
-                .filter(stream -> stream.getMetadata().getCluster().equals(cluster))
-                .toList();
+        return findAllByIndex(CLUSTER_INDEX, cluster);
     }
 
     @Override
@@ -62,14 +60,27 @@ public class KafkaStreamRepository extends KafkaStore<KafkaStream> implements St
         return this.produce(getMessageKey(stream), stream);
     }
 
-    @Override
-    @Topic(value = "${ns4kafka.store.kafka.topics.prefix}.streams")
-    void receive(ConsumerRecord<String, KafkaStream> message) {
-        super.receive(message);
-    }
-
     @Override
     public void delete(KafkaStream stream) {
         this.produce(getMessageKey(stream), null);
     }
+
+    /** Consumer of the Kafka Streams store, only started with the Kafka backend. */
+    @Requires(property = "ns4kafka.store.kafka.backend", notEquals = "memory")
+    @KafkaListener(
+            offsetReset = OffsetReset.EARLIEST,
+            groupId = "${ns4kafka.store.kafka.group-id}",
+            offsetStrategy = OffsetStrategy.DISABLED,
+            properties = @Property(name = ConsumerConfig.ISOLATION_LEVEL_CONFIG, value = "read_committed"))
+    static class Listener extends KafkaStoreListener<KafkaStream> {
+        Listener(KafkaStreamRepository repository) {
+            super(repository);
+        }
+
+        @Override
+        @Topic(value = "${ns4kafka.store.kafka.topics.prefix}.streams")
+        void receive(ConsumerRecord<String, KafkaStream> message) {
+            super.receive(message);
+        }
+    }
 }
@@ -24,25 +24,28 @@ import io.micronaut.configuration.kafka.annotation.KafkaClient;
 import io.micronaut.configuration.kafka.annotation.KafkaListener;
 import io.micronaut.configuration.kafka.annotation.OffsetReset;
 import io.micronaut.configuration.kafka.annotation.OffsetStrategy;
+import io.micronaut.context.annotation.Property;
+import io.micronaut.context.annotation.Requires;
 import io.micronaut.context.annotation.Value;
 import jakarta.inject.Singleton;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.apache.kafka.clients.producer.Producer;
 
 /** Kafka Topic repository. */
 @Singleton
-@KafkaListener(
-        offsetReset = OffsetReset.EARLIEST,
-        groupId = "${ns4kafka.store.kafka.group-id}",
-        offsetStrategy = OffsetStrategy.DISABLED)
 public class KafkaTopicRepository extends KafkaStore<Topic> implements TopicRepository {
 
     public KafkaTopicRepository(
             @Value("${ns4kafka.store.kafka.topics.prefix}.topics") String kafkaTopic,
             @KafkaClient("topics-producer") Producer<String, Topic> kafkaProducer) {
         super(kafkaTopic, kafkaProducer);
+        addIndex(CLUSTER_INDEX, topic -> topic.getMetadata().getCluster());
     }
 
     @Override
@@ -50,6 +53,23 @@ public class KafkaTopicRepository extends KafkaStore<Topic> implements TopicRepo
         return topic.getMetadata().getCluster() + "/" + topic.getMetadata().getName();
     }
 
+    @Override
+    Topic canonicalize(Topic topic) {
+        super.canonicalize(topic);
+        if (canonicalizer != null && topic.getSpec() != null) {
+            topic.getSpec().setConfigs(canonicalizer.canonicalize(topic.getSpec().getConfigs()));
+        }
+        return topic;
+    }
+
+    @Override
+    void release(Topic topic) {
+        super.release(topic);
+        if (topic.getSpec() != null) {
+            canonicalizer.release(topic.getSpec().getConfigs());
+        }
+    }
+
     /**
      * Create a given topic.
      *
@@ -61,6 +81,33 @@ public class KafkaTopicRepository extends KafkaStore<Topic> implements TopicRepo
         return this.produce(getMessageKey(topic), topic);
     }
 
+    /**
+     * Update a copy of a given topic.
+     *
+     * @param topic The topic to update
+     * @param mutation The update applied to the copy
+     * @return The updated topic
+     */
+    @Override
+    public Topic update(Topic topic, Consumer<Topic> mutation) {
+        return this.produceCopy(topic, mutation);
+    }
+
+    /**
+     * Update copies of given topics as one batch.
+     *
+     * @param topics The topics to update
+     * @param mutations The update applied to the copy of each topic, by topic name
+     * @return The updated topics
+     */
+    @Override
+    public List<Topic> updateAll(List<Topic> topics, Map<String, Consumer<Topic>> mutations) {
+        List<Topic> mutatedTopics = topics.stream()
+                .filter(topic -> mutations.containsKey(topic.getMetadata().getName()))
+                .toList();
+        return this.produceCopies(mutatedTopics, topic -> mutations.get(topic.getMetadata().getName()));
+    }
+
     /**
      * Delete a given topic.
      *
@@ -71,12 +118,6 @@ public class KafkaTopicRepository extends KafkaStore<Topic> implements TopicRepo
         this.produce(getMessageKey(topic), null);
     }
 
-    @Override
-    @io.micronaut.configuration.kafka.annotation.Topic(value = "${ns4kafka.store.kafka.topics.prefix}.topics")
-    void receive(ConsumerRecord<String, Topic> message) {
-        super.receive(message);
-    }
-
     /**
      * Find all topics.
      *
@@ -95,8 +136,37 @@ public class KafkaTopicRepository extends KafkaStore<Topic> implements TopicRepo
      */
     @Override
     public List<Topic> findAllForCluster(String cluster) {
-        return getKafkaStore().values().stream()
-                .filter(topic -> topic.getMetadata().getCluster().equals(cluster))
-                .toList();
+        return findAllByIndex(CLUSTER_INDEX, cluster);
+    }
+
+    /**
+     * Find a topic by cluster and name.
+     *
+     * @param cluster The cluster
+     * @param name The topic name
+     * @return The topic
+     */
+    @Override
+    public Optional<Topic> findByName(String cluster, String name) {
+        return Optional.ofNullable(getKafkaStore().get(cluster + "/" + name));
+    }
+
+    /** Consumer of the topics store, only started with the Kafka backend. */
+    @Requires(property = "ns4kafka.store.kafka.backend", notEquals = "memory")
+    @KafkaListener(
+            offsetReset = OffsetReset.EARLIEST,
+            groupId = "${ns4kafka.store.kafka.group-id}",
+            offsetStrategy = OffsetStrategy.DISABLED,
+            properties = @Property(name = ConsumerConfig.ISOLATION_LEVEL_CONFIG, value = "read_committed"))
+    static class Listener extends KafkaStoreListener<Topic> {
+        Listener(KafkaTopicRepository repository) {
+            super(repository);
+        }
+
+        @Override
+        @io.micronaut.configuration.kafka.annotation.Topic(value = "${ns4kafka.store.kafka.topics.prefix}.topics")
+        void receive(ConsumerRecord<String, Topic> message) {
+            super.receive(message);
+        }
     }
 }
@@ -31,7 +31,9 @@ import static com.michelin.ns4kafka.util.FormatErrorUtils.invalidProtectedNamesp
 import com.michelin.ns4kafka.model.AccessControlEntry;
 import com.michelin.ns4kafka.model.Namespace;
 import com.michelin.ns4kafka.repository.AccessControlEntryRepository;
+import com.michelin.ns4kafka.repository.NamespaceRepository;
 import com.michelin.ns4kafka.service.executor.AccessControlEntryAsyncExecutor;
+import com.michelin.ns4kafka.service.executor.ReconciliationQueue;
 import com.michelin.ns4kafka.util.RegexUtils;
 import io.micronaut.context.ApplicationContext;
 import io.micronaut.inject.qualifiers.Qualifiers;
@@ -50,9 +52,15 @@ public class AclService {
     @Inject
     private AccessControlEntryRepository accessControlEntryRepository;
 
+    @Inject
+    private NamespaceRepository namespaceRepository;
+
     @Inject
     private ApplicationContext applicationContext;
 
+    @Inject
+    private ReconciliationQueue reconciliationQueue;
+
     /**
      * Is public ACL.
      *
@@ -170,7 +178,15 @@ public class AclService {
         //   namespace2 OWNER:PREFIXED:project3_topic1_sub  OK 7
         //   namespace2 OWNER:PREFIXED:project2             OK 8
         //   namespace2 OWNER:LITERAL:proj                  OK 9
-        return findAllForCluster(namespace.getMetadata().getCluster()).stream()
+        //
+        // Only the OWNER ACLs on a prefix of the resource or on a resource starting with it can collide, so they are
+        // read from the owner index instead of checking all the ACLs of the cluster
+        return accessControlEntryRepository
+                .findAllOwnersRelatedTo(
+                        namespace.getMetadata().getCluster(),
+                        accessControlEntry.getSpec().getResourceType(),
+                        accessControlEntry.getSpec().getResource())
+                .stream()
                 // Do not include the ACL if it is itself
                 .filter(ace -> !ace.getMetadata()
                                 .getNamespace()
@@ -300,13 +316,26 @@ public class AclService {
     }
 
     /**
-     * Create an ACL in internal topic.
+     * Create an ACL in internal topic, and enqueue its creation on the broker.
      *
      * @param accessControlEntry The ACL
      * @return The created ACL
      */
     public AccessControlEntry create(AccessControlEntry accessControlEntry) {
-        return accessControlEntryRepository.create(accessControlEntry);
+        AccessControlEntry createdAccessControlEntry = accessControlEntryRepository.create(accessControlEntry);
+
+        String cluster = createdAccessControlEntry.getMetadata().getCluster();
+        reconciliationQueue.enqueue(
+                cluster,
+                "acl",
+                createdAccessControlEntry.getMetadata().getNamespace() + "/"
+                        + createdAccessControlEntry.getMetadata().getName(),
+                ReconciliationQueue.Priority.HIGH,
+                () -> applicationContext
+                        .getBean(AccessControlEntryAsyncExecutor.class, Qualifiers.byName(cluster))
+                        .createAcl(createdAccessControlEntry));
+
+        return createdAccessControlEntry;
     }
 
     /**
@@ -456,10 +485,10 @@ public class AclService {
      */
     public List<AccessControlEntry> findResourceOwnerGrantedToNamespace(
             Namespace namespace, AccessControlEntry.ResourceType resourceType) {
-        return findAllForCluster(namespace.getMetadata().getCluster()).stream()
-                .filter(acl -> acl.getSpec()
-                                .getGrantedTo()
-                                .equals(namespace.getMetadata().getName())
+        return accessControlEntryRepository.findAllGrantedTo(namespace.getMetadata().getName()).stream()
+                .filter(acl -> acl.getMetadata()
+                                .getCluster()
+                                .equals(namespace.getMetadata().getCluster())
                         && acl.getSpec().getPermission() == AccessControlEntry.Permission.OWNER
                         && acl.getSpec().getResourceType() == resourceType)
                 .toList();
@@ -471,9 +500,7 @@ public class AclService {
      * @return A list of ACLs
      */
     public List<AccessControlEntry> findAllPublicGrantedTo() {
-        return accessControlEntryRepository.findAll().stream()
-                .filter(this::isPublicAcl)
-                .toList();
+        return accessControlEntryRepository.findAllGrantedTo(PUBLIC_GRANTED_TO);
     }
 
     /**
@@ -498,10 +525,7 @@ public class AclService {
      * @return A list of ACLs
      */
     public List<AccessControlEntry> findAllForCluster(String cluster) {
-        return accessControlEntryRepository.findAll().stream()
-                .filter(accessControlEntry ->
-                        accessControlEntry.getMetadata().getCluster().equals(cluster))
-                .toList();
+        return accessControlEntryRepository.findAllForCluster(cluster);
     }
 
     /**
@@ -523,19 +547,14 @@ public class AclService {
      */
     public boolean isNamespaceOwnerOfResource(
             String namespace, AccessControlEntry.ResourceType resourceType, String resource) {
-        return accessControlEntryRepository.findAll().stream()
-                .filter(accessControlEntry ->
-                        accessControlEntry.getSpec().getGrantedTo().equals(namespace))
-                .filter(accessControlEntry ->
-                        accessControlEntry.getSpec().getPermission() == AccessControlEntry.Permission.OWNER)
-                .filter(accessControlEntry -> accessControlEntry.getSpec().getResourceType() == resourceType)
-                .anyMatch(accessControlEntry -> switch (accessControlEntry
-                        .getSpec()
-                        .getResourcePatternType()) {
-                    case PREFIXED ->
-                        resource.startsWith(accessControlEntry.getSpec().getResource());
-                    case LITERAL -> resource.equals(accessControlEntry.getSpec().getResource());
-                });
+        return namespaceRepository
+                .findByName(namespace)
+                .map(ns -> accessControlEntryRepository
+                        .findAllOwnersOf(ns.getMetadata().getCluster(), resourceType, resource)
+                        .stream()
+                        .anyMatch(accessControlEntry ->
+                                accessControlEntry.getSpec().getGrantedTo().equals(namespace)))
+                .orElse(false);
     }
 
     /**
@@ -225,6 +225,16 @@ public class ConnectorService {
         return connectorRepository.create(connector);
     }
 
+    /**
+     * Create a given connector without blocking the calling thread.
+     *
+     * @param connector The connector to create
+     * @return The created connector
+     */
+    public Mono<Connector> createOrUpdateAsync(Connector connector) {
+        return connectorRepository.createAsync(connector);
+    }
+
     /**
      * Delete a given connector.
      *
@@ -238,18 +248,18 @@ public class ConnectorService {
                         connector.getSpec().getConnectCluster(),
                         connector.getMetadata().getName())
                 .defaultIfEmpty(HttpResponse.noContent())
-                .map(httpResponse -> {
-                    connectorRepository.delete(connector);
+                .flatMap(httpResponse -> connectorRepository
+                        .deleteAsync(connector)
+                        .then(Mono.fromSupplier(() -> {
+                            if (log.isInfoEnabled()) {
+                                log.info("Success removing Connector ["
+                                        + connector.getMetadata().getName()
+                                        + "] on Kafka [" + namespace.getMetadata().getName()
+                                        + "] Connect [" + connector.getSpec().getConnectCluster() + "]");
+                            }
 
-                    if (log.isInfoEnabled()) {
-                        log.info("Success removing Connector ["
-                                + connector.getMetadata().getName()
-                                + "] on Kafka [" + namespace.getMetadata().getName()
-                                + "] Connect [" + connector.getSpec().getConnectCluster() + "]");
-                    }
-
-                    return httpResponse;
-                });
+                            return httpResponse;
+                        })));
     }
 
     /**
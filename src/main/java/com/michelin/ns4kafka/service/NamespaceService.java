@@ -31,6 +31,7 @@ import com.michelin.ns4kafka.model.AccessControlEntry;
 import com.michelin.ns4kafka.model.Namespace;
 import com.michelin.ns4kafka.property.ManagedClusterProperties;
 import com.michelin.ns4kafka.repository.NamespaceRepository;
+import com.michelin.ns4kafka.repository.TransactionManager;
 import com.michelin.ns4kafka.util.FormatErrorUtils;
 import com.michelin.ns4kafka.util.RegexUtils;
 import jakarta.inject.Inject;
@@ -70,6 +71,9 @@ public class NamespaceService {
     @Inject
     private ResourceQuotaService resourceQuotaService;
 
+    @Inject
+    private TransactionManager transactionManager;
+
     /**
      * List all namespaces.
      *
@@ -171,15 +175,15 @@ public class NamespaceService {
                     .toList());
         }
 
-        if (namespaceRepository.findAllForCluster(namespace.getMetadata().getCluster()).stream()
-                .filter(foundNamespace -> !foundNamespace
+        if (namespaceRepository.findAllForKafkaUser(namespace.getSpec().getKafkaUser()).stream()
+                .filter(foundNamespace -> foundNamespace
+                        .getMetadata()
+                        .getCluster()
+                        .equals(namespace.getMetadata().getCluster()))
+                .anyMatch(foundNamespace -> !foundNamespace
                         .getMetadata()
                         .getName()
-                        .equals(namespace.getMetadata().getName()))
-                .anyMatch(foundNamespace -> foundNamespace
-                        .getSpec()
-                        .getKafkaUser()
-                        .equals(namespace.getSpec().getKafkaUser()))) {
+                        .equals(namespace.getMetadata().getName()))) {
             validationErrors.add(
                     invalidNamespaceUserAlreadyExist(namespace.getSpec().getKafkaUser()));
         }
@@ -203,8 +207,10 @@ public class NamespaceService {
      * @param namespace The namespace to delete
      */
     public void delete(Namespace namespace) {
-        aclService.deleteAllGrantedToNamespace(namespace);
-        namespaceRepository.delete(namespace);
+        transactionManager.executeInTransaction(() -> {
+            aclService.deleteAllGrantedToNamespace(namespace);
+            namespaceRepository.delete(namespace);
+        });
     }
 
     /**
@@ -32,6 +32,7 @@ import com.michelin.ns4kafka.model.Namespace;
 import com.michelin.ns4kafka.model.Topic;
 import com.michelin.ns4kafka.property.ManagedClusterProperties;
 import com.michelin.ns4kafka.repository.TopicRepository;
+import com.michelin.ns4kafka.service.executor.ReconciliationQueue;
 import com.michelin.ns4kafka.service.executor.TopicAsyncExecutor;
 import com.michelin.ns4kafka.util.RegexUtils;
 import io.micronaut.context.ApplicationContext;
@@ -61,6 +62,9 @@ public class TopicService {
     @Inject
     private ApplicationContext applicationContext;
 
+    @Inject
+    private ReconciliationQueue reconciliationQueue;
+
     @Inject
     private List<ManagedClusterProperties> managedClusterProperties;
 
@@ -128,13 +132,31 @@ public class TopicService {
     }
 
     /**
-     * Create a given topic.
+     * Create a given topic. A pending topic is enqueued for creation or update on the broker, the creations first.
      *
      * @param topic The topic to create
      * @return The created topic
      */
     public Topic create(Topic topic) {
-        return topicRepository.create(topic);
+        String cluster = topic.getMetadata().getCluster();
+        String name = topic.getMetadata().getName();
+        boolean exists = topicRepository.findByName(cluster, name).isPresent();
+
+        Topic createdTopic = topicRepository.create(topic);
+
+        if (createdTopic.getStatus() != null
+                && createdTopic.getStatus().getPhase() == Topic.TopicPhase.Pending) {
+            reconciliationQueue.enqueue(
+                    cluster,
+                    "topic",
+                    name,
+                    exists ? ReconciliationQueue.Priority.NORMAL : ReconciliationQueue.Priority.HIGH,
+                    () -> applicationContext
+                            .getBean(TopicAsyncExecutor.class, Qualifiers.byName(cluster))
+                            .synchronizeTopic(name));
+        }
+
+        return createdTopic;
     }
 
     /**
@@ -25,22 +25,39 @@ import static com.michelin.ns4kafka.service.AclService.PUBLIC_GRANTED_TO;
 
 import com.michelin.ns4kafka.model.AccessControlEntry;
 import com.michelin.ns4kafka.model.KafkaStream;
+import com.michelin.ns4kafka.model.MetadataResource;
 import com.michelin.ns4kafka.model.Namespace;
 import com.michelin.ns4kafka.property.ManagedClusterProperties;
+import com.michelin.ns4kafka.repository.AccessControlEntryRepository;
 import com.michelin.ns4kafka.repository.NamespaceRepository;
+import com.michelin.ns4kafka.repository.StreamRepository;
+import com.michelin.ns4kafka.repository.kafka.KafkaStoreChangeEvent;
 import com.michelin.ns4kafka.repository.kafka.KafkaStoreException;
-import com.michelin.ns4kafka.service.AclService;
-import com.michelin.ns4kafka.service.StreamService;
+import com.michelin.ns4kafka.repository.kafka.KafkaStoreSubscriber;
+import com.michelin.ns4kafka.repository.kafka.KafkaStoreSubscription;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
 import io.micronaut.context.annotation.EachBean;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import jakarta.inject.Singleton;
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashSet;
 import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
-import java.util.function.Function;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiConsumer;
 import java.util.stream.Stream;
 import lombok.AllArgsConstructor;
+import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.kafka.clients.admin.Admin;
 import org.apache.kafka.common.acl.AccessControlEntryFilter;
@@ -60,24 +77,131 @@ import org.apache.kafka.common.resource.ResourceType;
 @AllArgsConstructor
 public class AccessControlEntryAsyncExecutor {
     private static final String USER_PRINCIPAL = "User:";
-
+    private static final int SUBSCRIBER_CAPACITY = 10_000;
+    private static final Duration SUBSCRIBER_IDLE_TIMEOUT = Duration.ofMillis(500);
+    private static final Set<ResourceType> SYNCHRONIZED_RESOURCE_TYPES = EnumSet.of(
+            org.apache.kafka.common.resource.ResourceType.TOPIC,
+            org.apache.kafka.common.resource.ResourceType.GROUP,
+            org.apache.kafka.common.resource.ResourceType.TRANSACTIONAL_ID);
+
+    @Getter
     private final ManagedClusterProperties managedClusterProperties;
 
-    private AclService aclService;
+    private final ReentrantLock synchronizationLock = new ReentrantLock();
+
+    private AccessControlEntryRepository accessControlEntryRepository;
 
-    private StreamService streamService;
+    private StreamRepository streamRepository;
 
     private NamespaceRepository namespaceRepository;
 
-    /** Run the ACLs synchronization. */
-    public void run() {
+    private MeterRegistry meterRegistry;
+
+    private final AtomicReference<AclPlan> lastPlan = new AtomicReference<>(AclPlan.EMPTY);
+
+    private final DesiredAclBindings desiredAclBindings = new DesiredAclBindings(new DesiredAclSource());
+
+    private final List<KafkaStoreSubscription> subscriptions = new ArrayList<>();
+
+    /** Register the ACL plan metrics. */
+    @PostConstruct
+    void registerMetrics() {
+        Tags tags = Tags.of("cluster", managedClusterProperties.getName());
+        Gauge.builder("ns4kafka.acl.plan.create", lastPlan, plan -> plan.get().toCreate().size())
+                .description("The number of ACLs to create planned by the last synchronization")
+                .tags(tags)
+                .register(meterRegistry);
+        Gauge.builder("ns4kafka.acl.plan.delete", lastPlan, plan -> plan.get().toDelete().size())
+                .description("The number of ACLs to delete planned by the last synchronization")
+                .tags(tags)
+                .register(meterRegistry);
+        Gauge.builder("ns4kafka.acl.plan.unchanged", lastPlan, plan -> plan.get().unchanged())
+                .description("The number of ACLs already in place found by the last synchronization")
+                .tags(tags)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Subscribe to the changes of the ACLs, Kafka Streams and namespaces, to keep the expected ACL bindings up to date.
+     */
+    @PostConstruct
+    void subscribe() {
+        if (managedClusterProperties.isManageAcls()) {
+            String name = "acl-executor-" + managedClusterProperties.getName();
+            subscriptions.add(accessControlEntryRepository.subscribe(
+                    name, SUBSCRIBER_CAPACITY, subscriber(desiredAclBindings::aclChanged)));
+            subscriptions.add(streamRepository.subscribe(
+                    name, SUBSCRIBER_CAPACITY, subscriber(desiredAclBindings::streamChanged)));
+            subscriptions.add(namespaceRepository.subscribe(
+                    name, SUBSCRIBER_CAPACITY, subscriber((oldValue, newValue) -> desiredAclBindings.invalidate())));
+        }
+    }
+
+    /** Unsubscribe from the changes. */
+    @PreDestroy
+    void unsubscribe() {
+        subscriptions.forEach(KafkaStoreSubscription::close);
+        subscriptions.clear();
+    }
+
+    /**
+     * Build a subscriber forwarding the changes of the cluster resources, and rebuilding the expected ACL bindings
+     * when changes are lost.
+     *
+     * @param onChange The handler of the old and new values of a changed resource
+     * @param <T> The resource type
+     * @return The subscriber
+     */
+    private <T extends MetadataResource> KafkaStoreSubscriber<T> subscriber(BiConsumer<T, T> onChange) {
+        return new KafkaStoreSubscriber<>() {
+            @Override
+            public void onChange(KafkaStoreChangeEvent<T> event) {
+                if (isOnCluster(event.oldValue()) || isOnCluster(event.newValue())) {
+                    onChange.accept(event.oldValue(), event.newValue());
+                }
+            }
+
+            @Override
+            public void onOverflow() {
+                desiredAclBindings.invalidate();
+            }
+        };
+    }
+
+    /**
+     * Is a given resource on the managed cluster.
+     *
+     * @param resource The resource, possibly null
+     * @return true if it is, false otherwise
+     */
+    private boolean isOnCluster(MetadataResource resource) {
+        return resource != null
+                && managedClusterProperties.getName().equals(resource.getMetadata().getCluster());
+    }
+
+    /**
+     * Run the ACLs synchronization.
+     *
+     * @return true if ACLs had to be created or deleted, false otherwise
+     */
+    public boolean run() {
         if (this.managedClusterProperties.isManageAcls()) {
-            synchronizeAcls();
+            synchronizationLock.lock();
+            try {
+                return synchronizeAcls();
+            } finally {
+                synchronizationLock.unlock();
+            }
         }
+        return false;
     }
 
-    /** Start the ACLs synchronization. */
-    private void synchronizeAcls() {
+    /**
+     * Start the ACLs synchronization.
+     *
+     * @return true if ACLs had to be created or deleted, false otherwise
+     */
+    private boolean synchronizeAcls() {
         log.debug("Starting ACL collection for cluster {}", managedClusterProperties.getName());
 
         try {
@@ -85,17 +209,21 @@ public class AccessControlEntryAsyncExecutor {
             List<AclBinding> brokerAcls = collectBrokerAcls(true);
 
             // List ACLs from NS4Kafka
-            List<AclBinding> ns4kafkaAcls = collectNs4KafkaAcls();
+            Set<AclBinding> ns4kafkaAcls = collectNs4KafkaAcls();
 
-            List<AclBinding> toCreate = ns4kafkaAcls.stream()
-                    .filter(aclBinding -> !brokerAcls.contains(aclBinding))
-                    .toList();
+            AclPlan plan = AclPlan.compute(ns4kafkaAcls, brokerAcls);
+            lastPlan.set(plan);
+            log.debug(
+                    "ACL plan for cluster {}: {} to create, {} to delete, {} unchanged",
+                    managedClusterProperties.getName(),
+                    plan.toCreate().size(),
+                    plan.toDelete().size(),
+                    plan.unchanged());
 
-            List<AclBinding> toDelete = brokerAcls.stream()
-                    .filter(aclBinding -> !ns4kafkaAcls.contains(aclBinding))
-                    .toList();
+            List<AclBinding> toCreate = plan.toCreate();
+            List<AclBinding> toDelete = plan.toDelete();
 
-            if (!toCreate.isEmpty()) {
+            if (!toCreate.isEmpty() && log.isDebugEnabled()) {
                 log.debug("ACL(s) to create: "
                         + String.join(
                                 ",", toCreate.stream().map(AclBinding::toString).toList()));
@@ -105,68 +233,52 @@ public class AccessControlEntryAsyncExecutor {
                 if (!managedClusterProperties.isDropUnsyncAcls()) {
                     log.debug("The ACL drop is disabled. The following ACLs won't be deleted.");
                 }
-                log.debug("ACL(s) to delete: "
-                        + String.join(
-                                ",", toDelete.stream().map(AclBinding::toString).toList()));
+                if (log.isDebugEnabled()) {
+                    log.debug("ACL(s) to delete: "
+                            + String.join(
+                                    ",", toDelete.stream().map(AclBinding::toString).toList()));
+                }
             }
 
             // Execute toAdd list BEFORE toDelete list to avoid breaking ACL on connected user
             // such as deleting <LITERAL "toto.titi"> only to add one second later <PREFIX "toto.">
-            createAcls(toCreate);
+            if (!toCreate.isEmpty()) {
+                createAcls(toCreate);
+            }
 
-            if (managedClusterProperties.isDropUnsyncAcls()) {
+            if (managedClusterProperties.isDropUnsyncAcls() && !toDelete.isEmpty()) {
                 deleteAcls(toDelete);
             }
+
+            return !toCreate.isEmpty() || (managedClusterProperties.isDropUnsyncAcls() && !toDelete.isEmpty());
         } catch (KafkaStoreException | ExecutionException | TimeoutException e) {
             log.error("An error occurred collecting ACLs from broker during ACLs synchronization", e);
         } catch (InterruptedException e) {
             log.error("An error occurred during ACLs synchronization", e);
             Thread.currentThread().interrupt();
         }
+        return false;
     }
 
     /**
-     * Collect the ACLs from Ns4Kafka. Whenever the permission is OWNER, create 2 entries (one READ and one WRITE) This
-     * is necessary to translate Ns4Kafka grouped AccessControlEntry (OWNER, WRITE, READ) into Kafka Atomic ACLs (READ
-     * and WRITE)
+     * Collect the ACLs from Ns4Kafka. Only the ACLs, Kafka Streams and namespaces changed since the last
+     * synchronization are converted again.
      *
-     * @return A list of ACLs
+     * @return The set of ACLs
+     * @throws InterruptedException Any interrupted exception while waiting for the changes
      */
-    private List<AclBinding> collectNs4KafkaAcls() {
-        List<Namespace> namespaces = namespaceRepository.findAllForCluster(managedClusterProperties.getName());
-
-        // Converts topic, group and transaction Ns4Kafka ACLs to topic and group Kafka AclBindings
-        Stream<AclBinding> aclBindingsFromAcls = namespaces.stream()
-                .flatMap(namespace -> aclService.findAllGrantedToNamespace(namespace).stream()
-                        .filter(accessControlEntry -> List.of(TOPIC, GROUP, TRANSACTIONAL_ID)
-                                .contains(accessControlEntry.getSpec().getResourceType()))
-                        .flatMap(accessControlEntry ->
-                                convertAccessControlEntryToAclBinding(accessControlEntry).stream())
-                        .distinct());
-
-        // Converts KafkaStream resources to topic (CREATE/DELETE) AclBindings
-        Stream<AclBinding> aclBindingFromKstream = namespaces.stream()
-                .flatMap(namespace -> streamService.findAllForNamespace(namespace).stream()
-                        .flatMap(kafkaStream ->
-                                buildAclBindingsFromKafkaStream(
-                                        kafkaStream, namespace.getSpec().getKafkaUser())
-                                        .stream()));
-
-        // Converts connect ACLs to group AclBindings (connect-)
-        Stream<AclBinding> aclBindingFromConnect = namespaces.stream()
-                .flatMap(namespace -> aclService.findAllGrantedToNamespace(namespace).stream()
-                        .filter(accessControlEntry ->
-                                accessControlEntry.getSpec().getResourceType()
-                                        == AccessControlEntry.ResourceType.CONNECT)
-                        .filter(accessControlEntry ->
-                                accessControlEntry.getSpec().getPermission() == AccessControlEntry.Permission.OWNER)
-                        .map(this::convertConnectorAccessControlEntryToAclBinding));
-
-        List<AclBinding> ns4kafkaAcls = Stream.of(aclBindingsFromAcls, aclBindingFromKstream, aclBindingFromConnect)
-                .flatMap(Function.identity())
-                .toList();
+    private Set<AclBinding> collectNs4KafkaAcls() throws InterruptedException {
+        // Handle the changes of the writes acknowledged so far, or read all the ACLs again from the store
+        for (KafkaStoreSubscription subscription : subscriptions) {
+            if (!subscription.awaitIdle(SUBSCRIBER_IDLE_TIMEOUT)) {
+                desiredAclBindings.invalidate();
+                break;
+            }
+        }
+
+        Set<AclBinding> ns4kafkaAcls = desiredAclBindings.refresh();
 
-        if (!ns4kafkaAcls.isEmpty()) {
+        if (!ns4kafkaAcls.isEmpty() && log.isTraceEnabled()) {
             log.trace("ACL(s) found in Ns4Kafka: "
                     + String.join(
                             ",", ns4kafkaAcls.stream().map(AclBinding::toString).toList()));
@@ -175,6 +287,48 @@ public class AccessControlEntryAsyncExecutor {
         return ns4kafkaAcls;
     }
 
+    /**
+     * Source of the ACLs expected by Ns4Kafka. Whenever the permission is OWNER, an ACL is converted into several Kafka
+     * ACLs (e.g., READ and WRITE). This is necessary to translate Ns4Kafka grouped AccessControlEntry (OWNER, WRITE,
+     * READ) into Kafka Atomic ACLs (READ and WRITE).
+     */
+    private class DesiredAclSource implements DesiredAclBindings.Source {
+        @Override
+        public List<AccessControlEntry> findAllAcls() {
+            return accessControlEntryRepository.findAllForCluster(managedClusterProperties.getName());
+        }
+
+        @Override
+        public List<KafkaStream> findAllStreams() {
+            return streamRepository.findAllForCluster(managedClusterProperties.getName());
+        }
+
+        @Override
+        public List<AclBinding> toAclBindings(AccessControlEntry accessControlEntry) {
+            // Only the ACLs granted to a namespace of the cluster, or public while the cluster has namespaces
+            boolean granted = accessControlEntry.getSpec().getGrantedTo().equals(PUBLIC_GRANTED_TO)
+                    ? !namespaceRepository
+                            .findAllForCluster(managedClusterProperties.getName())
+                            .isEmpty()
+                    : namespaceRepository
+                            .findByName(accessControlEntry.getSpec().getGrantedTo())
+                            .filter(AccessControlEntryAsyncExecutor.this::isOnCluster)
+                            .isPresent();
+
+            return granted ? convertToAclBindings(accessControlEntry) : List.of();
+        }
+
+        @Override
+        public List<AclBinding> toAclBindings(KafkaStream kafkaStream) {
+            return namespaceRepository
+                    .findByName(kafkaStream.getMetadata().getNamespace())
+                    .filter(AccessControlEntryAsyncExecutor.this::isOnCluster)
+                    .map(namespace -> buildAclBindingsFromKafkaStream(
+                            kafkaStream, namespace.getSpec().getKafkaUser()))
+                    .orElse(List.of());
+        }
+    }
+
     /**
      * Collect the ACLs from broker.
      *
@@ -186,11 +340,6 @@ public class AccessControlEntryAsyncExecutor {
      */
     private List<AclBinding> collectBrokerAcls(boolean managedUsersOnly)
             throws ExecutionException, InterruptedException, TimeoutException {
-        List<ResourceType> validResourceTypes = List.of(
-                org.apache.kafka.common.resource.ResourceType.TOPIC,
-                org.apache.kafka.common.resource.ResourceType.GROUP,
-                org.apache.kafka.common.resource.ResourceType.TRANSACTIONAL_ID);
-
         AccessControlEntryFilter accessControlEntryFilter = new AccessControlEntryFilter(
                 managedClusterProperties.getProvider().equals(ManagedClusterProperties.KafkaProvider.CONFLUENT_CLOUD)
                         ? "UserV2:*"
@@ -206,12 +355,12 @@ public class AccessControlEntryAsyncExecutor {
                 .get(managedClusterProperties.getTimeout().getAcl().getDescribe(), TimeUnit.MILLISECONDS)
                 .stream()
                 .filter(aclBinding ->
-                        validResourceTypes.contains(aclBinding.pattern().resourceType()))
+                        SYNCHRONIZED_RESOURCE_TYPES.contains(aclBinding.pattern().resourceType()))
                 .toList();
 
         if (managedUsersOnly) {
             // Collect the list of users managed in Ns4Kafka
-            List<String> managedUsers = new ArrayList<>();
+            Set<String> managedUsers = new HashSet<>();
             managedUsers.add(USER_PRINCIPAL + PUBLIC_GRANTED_TO);
             managedUsers.addAll(namespaceRepository.findAllForCluster(managedClusterProperties.getName()).stream()
                     .flatMap(namespace ->
@@ -224,7 +373,7 @@ public class AccessControlEntryAsyncExecutor {
                             managedUsers.contains(aclBinding.entry().principal()))
                     .toList();
 
-            if (!userAcls.isEmpty()) {
+            if (!userAcls.isEmpty() && log.isTraceEnabled()) {
                 log.trace(
                         "ACL(s) found in broker (managed scope): {}",
                         String.join(
@@ -232,7 +381,7 @@ public class AccessControlEntryAsyncExecutor {
             }
         }
 
-        if (!userAcls.isEmpty()) {
+        if (!userAcls.isEmpty() && log.isTraceEnabled()) {
             log.trace(
                     "ACL(s) found in broker: {}",
                     String.join(",", userAcls.stream().map(AclBinding::toString).toList()));
@@ -386,6 +535,31 @@ public class AccessControlEntryAsyncExecutor {
                 });
     }
 
+    /**
+     * Create a given Ns4Kafka ACL, e.g. right after it has been applied. Convert Ns4Kafka ACL into Kafka ACLs before
+     * creation.
+     *
+     * @param accessControlEntry The ACL
+     */
+    public void createAcl(AccessControlEntry accessControlEntry) {
+        if (managedClusterProperties.isManageAcls()) {
+            synchronizationLock.lock();
+            try {
+                List<AclBinding> results = convertToAclBindings(accessControlEntry);
+                if (!results.isEmpty()) {
+                    createAcls(results);
+                }
+            } catch (KafkaStoreException | NoSuchElementException e) {
+                log.error(
+                        "An error occurred during the creation of ACL {}",
+                        accessControlEntry.getMetadata().getName(),
+                        e);
+            } finally {
+                synchronizationLock.unlock();
+            }
+        }
+    }
+
     /**
      * Delete a given Ns4Kafka ACL. Convert Ns4Kafka ACL into Kafka ACLs before deletion.
      *
@@ -393,20 +567,29 @@ public class AccessControlEntryAsyncExecutor {
      */
     public void deleteAcl(AccessControlEntry accessControlEntry) {
         if (managedClusterProperties.isManageAcls()) {
-            List<AclBinding> results = new ArrayList<>();
+            deleteAcls(convertToAclBindings(accessControlEntry));
+        }
+    }
 
-            if (List.of(TOPIC, GROUP, TRANSACTIONAL_ID)
-                    .contains(accessControlEntry.getSpec().getResourceType())) {
-                results.addAll(convertAccessControlEntryToAclBinding(accessControlEntry));
-            }
+    /**
+     * Convert a given Ns4Kafka ACL into Kafka ACLs.
+     *
+     * @param accessControlEntry The ACL
+     * @return A list of Kafka ACLs
+     */
+    private List<AclBinding> convertToAclBindings(AccessControlEntry accessControlEntry) {
+        List<AclBinding> results = new ArrayList<>();
 
-            if (accessControlEntry.getSpec().getResourceType() == AccessControlEntry.ResourceType.CONNECT
-                    && accessControlEntry.getSpec().getPermission() == AccessControlEntry.Permission.OWNER) {
-                results.add(convertConnectorAccessControlEntryToAclBinding(accessControlEntry));
-            }
+        if (List.of(TOPIC, GROUP, TRANSACTIONAL_ID).contains(accessControlEntry.getSpec().getResourceType())) {
+            results.addAll(convertAccessControlEntryToAclBinding(accessControlEntry));
+        }
 
-            deleteAcls(results);
+        if (accessControlEntry.getSpec().getResourceType() == AccessControlEntry.ResourceType.CONNECT
+                && accessControlEntry.getSpec().getPermission() == AccessControlEntry.Permission.OWNER) {
+            results.add(convertConnectorAccessControlEntryToAclBinding(accessControlEntry));
         }
+
+        return results;
     }
 
     /**
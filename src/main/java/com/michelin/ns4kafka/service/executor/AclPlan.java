@@ -0,0 +1,121 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.michelin.ns4kafka.service.executor;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import org.apache.kafka.common.acl.AclBinding;
+import org.apache.kafka.common.acl.AclOperation;
+import org.apache.kafka.common.acl.AclPermissionType;
+import org.apache.kafka.common.resource.PatternType;
+import org.apache.kafka.common.resource.ResourceType;
+
+/**
+ * Plan of an ACL synchronization: the ACLs to create and to delete on a managed cluster, and the number of ACLs already
+ * in place.
+ *
+ * <p>The plan is computed with hash sets of canonical ACL keys, in linear time of the number of expected and actual
+ * ACLs. The duplicated ACLs are only planned once.
+ *
+ * @param toCreate The ACLs expected by Ns4Kafka and missing on the cluster
+ * @param toDelete The ACLs found on the cluster and no longer expected by Ns4Kafka
+ * @param unchanged The number of ACLs expected by Ns4Kafka and found on the cluster
+ */
+record AclPlan(List<AclBinding> toCreate, List<AclBinding> toDelete, int unchanged) {
+    static final AclPlan EMPTY = new AclPlan(List.of(), List.of(), 0);
+
+    /**
+     * Compute the plan.
+     *
+     * @param expected The ACLs expected by Ns4Kafka
+     * @param actual The ACLs found on the cluster
+     * @return The plan
+     */
+    static AclPlan compute(Collection<AclBinding> expected, Collection<AclBinding> actual) {
+        Set<Key> actualKeys = HashSet.newHashSet(actual.size());
+        for (AclBinding aclBinding : actual) {
+            actualKeys.add(Key.of(aclBinding));
+        }
+
+        Set<Key> expectedKeys = HashSet.newHashSet(expected.size());
+        List<AclBinding> toCreate = new ArrayList<>();
+        int unchanged = 0;
+        for (AclBinding aclBinding : expected) {
+            Key key = Key.of(aclBinding);
+            if (expectedKeys.add(key)) {
+                if (actualKeys.contains(key)) {
+                    unchanged++;
+                } else {
+                    toCreate.add(aclBinding);
+                }
+            }
+        }
+
+        List<AclBinding> toDelete = new ArrayList<>();
+        for (AclBinding aclBinding : actual) {
+            Key key = Key.of(aclBinding);
+            // Removing the key plans a duplicated ACL once
+            if (!expectedKeys.contains(key) && actualKeys.remove(key)) {
+                toDelete.add(aclBinding);
+            }
+        }
+
+        return new AclPlan(toCreate, toDelete, unchanged);
+    }
+
+    /**
+     * Canonical key of an ACL binding, flattening the resource pattern and the access control entry.
+     *
+     * @param resourceType The resource type
+     * @param resourceName The resource name
+     * @param patternType The resource pattern type
+     * @param principal The principal
+     * @param host The host
+     * @param operation The operation
+     * @param permissionType The permission type
+     */
+    record Key(
+            ResourceType resourceType,
+            String resourceName,
+            PatternType patternType,
+            String principal,
+            String host,
+            AclOperation operation,
+            AclPermissionType permissionType) {
+        /**
+         * Build the key of an ACL binding.
+         *
+         * @param aclBinding The ACL binding
+         * @return The key
+         */
+        static Key of(AclBinding aclBinding) {
+            return new Key(
+                    aclBinding.pattern().resourceType(),
+                    aclBinding.pattern().name(),
+                    aclBinding.pattern().patternType(),
+                    aclBinding.entry().principal(),
+                    aclBinding.entry().host(),
+                    aclBinding.entry().operation(),
+                    aclBinding.entry().permissionType());
+        }
+    }
+}
@@ -0,0 +1,212 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.michelin.ns4kafka.service.executor;
+
+import com.michelin.ns4kafka.model.Metadata;
+import com.michelin.ns4kafka.model.Topic;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.apache.kafka.clients.admin.TopicListing;
+import org.apache.kafka.common.Uuid;
+
+/**
+ * Cache of the topics of a managed cluster, as described by the broker, keyed by topic id.
+ *
+ * <p>Only the topics that are new, or invalidated after Ns4Kafka changed them, have to be described again. A topic
+ * deleted and recreated with the same name gets a new id, and is described again as well. The changes made outside of
+ * Ns4Kafka are caught by the periodic full refresh, which describes all the topics and counts the cached ones that
+ * drifted.
+ *
+ * <p>Only the Kafka state of the topics is cached. The Confluent catalog info is not.
+ */
+class BrokerTopicCache {
+    private final Map<Uuid, Entry> entries = new HashMap<>();
+    private final Map<String, Uuid> ids = new HashMap<>();
+    private final Set<String> invalidated = new HashSet<>();
+    private long lastFullRefresh;
+    private long hits;
+    private long misses;
+    private long drifted;
+
+    /**
+     * Is a full refresh due.
+     *
+     * @param now The current time in epoch milliseconds
+     * @param fullRefreshInterval The interval in milliseconds between two full refreshes
+     * @return true if it is, false otherwise
+     */
+    synchronized boolean isFullRefreshDue(long now, long fullRefreshInterval) {
+        return entries.isEmpty() || now - lastFullRefresh >= fullRefreshInterval;
+    }
+
+    /**
+     * Evict the topics no longer listed by the broker, and find the listed topics to describe.
+     *
+     * @param listings The topics listed by the broker
+     * @param fullRefresh Whether all the topics must be described
+     * @return The names of the topics to describe
+     */
+    synchronized List<String> refresh(Collection<TopicListing> listings, boolean fullRefresh) {
+        Map<String, Uuid> listed = listings.stream()
+                .collect(Collectors.toMap(TopicListing::name, TopicListing::topicId));
+
+        entries.keySet().retainAll(listed.values());
+        ids.entrySet().removeIf(id -> !id.getValue().equals(listed.get(id.getKey())));
+
+        if (fullRefresh) {
+            return new ArrayList<>(listed.keySet());
+        }
+
+        List<String> toDescribe = listed.entrySet().stream()
+                .filter(topic -> !entries.containsKey(topic.getValue()) || invalidated.contains(topic.getKey()))
+                .map(Map.Entry::getKey)
+                .toList();
+
+        misses += toDescribe.size();
+        hits += listed.size() - toDescribe.size();
+        return toDescribe;
+    }
+
+    /**
+     * Cache the described topics.
+     *
+     * @param listings The topics listed by the broker
+     * @param described The described topics by name
+     * @param fullRefresh Whether the topics have been described by a full refresh
+     */
+    synchronized void put(Collection<TopicListing> listings, Map<String, Topic> described, boolean fullRefresh) {
+        Map<String, Uuid> listed = listings.stream()
+                .collect(Collectors.toMap(TopicListing::name, TopicListing::topicId));
+
+        described.forEach((name, topic) -> {
+            Uuid id = listed.get(name);
+            if (id == null) {
+                return;
+            }
+
+            Entry entry = new Entry(
+                    name,
+                    topic.getSpec().getPartitions(),
+                    topic.getSpec().getReplicationFactor(),
+                    Collections.unmodifiableMap(topic.getSpec().getConfigs()));
+            Entry previous = entries.put(id, entry);
+            if (fullRefresh && previous != null && !previous.equals(entry) && !invalidated.contains(name)) {
+                drifted++;
+            }
+            ids.put(name, id);
+            invalidated.remove(name);
+        });
+    }
+
+    /**
+     * Record the end of a full refresh, once all the topics have been described.
+     *
+     * @param now The time in epoch milliseconds the full refresh started
+     */
+    synchronized void completeFullRefresh(long now) {
+        lastFullRefresh = now;
+    }
+
+    /**
+     * Invalidate a topic changed by Ns4Kafka, so it is described again at the next synchronization.
+     *
+     * @param name The topic name
+     */
+    synchronized void invalidate(String name) {
+        if (ids.containsKey(name)) {
+            invalidated.add(name);
+        }
+    }
+
+    /**
+     * Get the cached topics.
+     *
+     * @param cluster The managed cluster name
+     * @return The topics by name, built for the caller
+     */
+    synchronized Map<String, Topic> getTopics(String cluster) {
+        return entries.values().stream()
+                .map(entry -> Topic.builder()
+                        .metadata(Metadata.builder()
+                                .cluster(cluster)
+                                .name(entry.name())
+                                .build())
+                        .spec(Topic.TopicSpec.builder()
+                                .replicationFactor(entry.replicationFactor())
+                                .partitions(entry.partitions())
+                                .configs(entry.configs())
+                                .build())
+                        .build())
+                .collect(Collectors.toMap(topic -> topic.getMetadata().getName(), Function.identity()));
+    }
+
+    /**
+     * Get the number of cached topics.
+     *
+     * @return The number of cached topics
+     */
+    synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * Get the number of listed topics found in the cache.
+     *
+     * @return The number of hits
+     */
+    synchronized long getHits() {
+        return hits;
+    }
+
+    /**
+     * Get the number of listed topics described because they were not cached or had been invalidated.
+     *
+     * @return The number of misses
+     */
+    synchronized long getMisses() {
+        return misses;
+    }
+
+    /**
+     * Get the number of cached topics found changed outside of Ns4Kafka by a full refresh.
+     *
+     * @return The number of drifted topics
+     */
+    synchronized long getDrifted() {
+        return drifted;
+    }
+
+    /**
+     * Kafka state of a cached topic.
+     *
+     * @param name The topic name
+     * @param partitions The number of partitions
+     * @param replicationFactor The replication factor
+     * @param configs The dynamic topic configs
+     */
+    record Entry(String name, int partitions, int replicationFactor, Map<String, String> configs) {}
+}
@@ -0,0 +1,270 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.michelin.ns4kafka.service.executor;
+
+import com.michelin.ns4kafka.model.AccessControlEntry;
+import com.michelin.ns4kafka.model.KafkaStream;
+import com.michelin.ns4kafka.model.MetadataResource;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.common.acl.AclBinding;
+
+/**
+ * ACL bindings expected by Ns4Kafka on a managed cluster, materialized from the ACLs and the Kafka Streams of the
+ * cluster.
+ *
+ * <p>The bindings are kept by source resource, and only the sources changed since the last refresh are converted
+ * again. The changes are reported from the store subscribers, and applied by the refresh from the synchronization
+ * thread. A namespace change, which can change the Kafka user of many bindings, or lost changes trigger a rebuild of
+ * all the sources.
+ */
+@Slf4j
+class DesiredAclBindings {
+    private static final String ACL_SOURCE = "acl/";
+    private static final String STREAM_SOURCE = "stream/";
+
+    private final Source source;
+    private final Map<String, List<AclBinding>> bindingsBySource = new HashMap<>();
+    private final Map<AclBinding, Integer> counts = new HashMap<>();
+    private final Map<String, Optional<AccessControlEntry>> pendingAcls = new ConcurrentHashMap<>();
+    private final Map<String, Optional<KafkaStream>> pendingStreams = new ConcurrentHashMap<>();
+    private final AtomicBoolean rebuildNeeded = new AtomicBoolean(true);
+
+    /**
+     * Constructor.
+     *
+     * @param source The source of the bindings
+     */
+    DesiredAclBindings(Source source) {
+        this.source = source;
+    }
+
+    /**
+     * Report a changed ACL of the cluster.
+     *
+     * @param oldValue The ACL before the change, null when created
+     * @param newValue The ACL after the change, null when deleted
+     */
+    void aclChanged(AccessControlEntry oldValue, AccessControlEntry newValue) {
+        pendingAcls.put(sourceKey(ACL_SOURCE, newValue != null ? newValue : oldValue), Optional.ofNullable(newValue));
+    }
+
+    /**
+     * Report a changed Kafka Streams of the cluster.
+     *
+     * @param oldValue The Kafka Streams before the change, null when created
+     * @param newValue The Kafka Streams after the change, null when deleted
+     */
+    void streamChanged(KafkaStream oldValue, KafkaStream newValue) {
+        pendingStreams.put(
+                sourceKey(STREAM_SOURCE, newValue != null ? newValue : oldValue), Optional.ofNullable(newValue));
+    }
+
+    /** Rebuild all the sources on the next refresh. */
+    void invalidate() {
+        rebuildNeeded.set(true);
+    }
+
+    /**
+     * Apply the pending changes, or rebuild all the sources if needed. A rebuild failing to read the sources keeps the
+     * current bindings, and is run again on the next refresh.
+     *
+     * @return The expected bindings, valid until the next refresh
+     * @throws RuntimeException Any exception thrown while reading the sources
+     */
+    Set<AclBinding> refresh() {
+        if (rebuildNeeded.getAndSet(false)) {
+            // The pending changes are cleared before reading the store, so the changes made meanwhile are kept
+            pendingAcls.clear();
+            pendingStreams.clear();
+
+            // The sources are converted aside and swapped in only once all of them have been read
+            Map<String, List<AclBinding>> rebuilt = new HashMap<>();
+            try {
+                for (AccessControlEntry acl : source.findAllAcls()) {
+                    rebuild(ACL_SOURCE, acl, source::toAclBindings, pendingAcls, rebuilt);
+                }
+                for (KafkaStream stream : source.findAllStreams()) {
+                    rebuild(STREAM_SOURCE, stream, source::toAclBindings, pendingStreams, rebuilt);
+                }
+            } catch (RuntimeException e) {
+                invalidate();
+                throw e;
+            }
+
+            bindingsBySource.clear();
+            counts.clear();
+            rebuilt.forEach(this::put);
+
+            log.debug("Rebuilt {} ACL binding(s) from {} source(s)", counts.size(), bindingsBySource.size());
+        } else {
+            applyPending(pendingAcls, source::toAclBindings);
+            applyPending(pendingStreams, source::toAclBindings);
+        }
+
+        return Collections.unmodifiableSet(counts.keySet());
+    }
+
+    /**
+     * Get the number of expected bindings.
+     *
+     * @return The number of bindings
+     */
+    int size() {
+        return counts.size();
+    }
+
+    /**
+     * Convert a source during a rebuild. A source failing to convert keeps its current bindings, and is converted
+     * again on the next refresh.
+     *
+     * @param prefix The source type prefix
+     * @param value The source
+     * @param converter The conversion of the source into bindings
+     * @param pending The pending changes of the source type
+     * @param rebuilt The rebuilt bindings by source
+     * @param <T> The source type
+     */
+    private <T extends MetadataResource> void rebuild(
+            String prefix,
+            T value,
+            Function<T, List<AclBinding>> converter,
+            Map<String, Optional<T>> pending,
+            Map<String, List<AclBinding>> rebuilt) {
+        String key = sourceKey(prefix, value);
+        try {
+            rebuilt.put(key, converter.apply(value));
+        } catch (RuntimeException e) {
+            log.warn("Cannot convert {} into ACL bindings, it will be converted again", key, e);
+            rebuilt.put(key, bindingsBySource.getOrDefault(key, List.of()));
+            pending.putIfAbsent(key, Optional.of(value));
+        }
+    }
+
+    /**
+     * Apply the pending changes of a source type. A source failing to convert keeps its previous bindings, and is
+     * converted again on the next refresh.
+     *
+     * @param pending The pending changes
+     * @param converter The conversion of a source into bindings
+     * @param <T> The source type
+     */
+    private <T extends MetadataResource> void applyPending(
+            Map<String, Optional<T>> pending, Function<T, List<AclBinding>> converter) {
+        Map<String, Optional<T>> failed = new HashMap<>();
+        for (String key : pending.keySet()) {
+            Optional<T> value = pending.remove(key);
+            if (value == null) {
+                continue;
+            }
+
+            if (value.isEmpty()) {
+                remove(key);
+                continue;
+            }
+
+            try {
+                put(key, converter.apply(value.get()));
+            } catch (RuntimeException e) {
+                log.warn("Cannot convert {} into ACL bindings, it will be converted again", key, e);
+                failed.put(key, value);
+            }
+        }
+        failed.forEach(pending::putIfAbsent);
+    }
+
+    /**
+     * Replace the bindings of a source.
+     *
+     * @param key The source key
+     * @param bindings The new bindings of the source
+     */
+    private void put(String key, List<AclBinding> bindings) {
+        remove(key);
+        if (!bindings.isEmpty()) {
+            bindingsBySource.put(key, bindings);
+            bindings.forEach(aclBinding -> counts.merge(aclBinding, 1, Integer::sum));
+        }
+    }
+
+    /**
+     * Remove the bindings of a source. A binding is kept as long as another source expects it.
+     *
+     * @param key The source key
+     */
+    private void remove(String key) {
+        List<AclBinding> bindings = bindingsBySource.remove(key);
+        if (bindings != null) {
+            bindings.forEach(aclBinding ->
+                    counts.computeIfPresent(aclBinding, (binding, count) -> count == 1 ? null : count - 1));
+        }
+    }
+
+    /**
+     * Build the key of a source.
+     *
+     * @param prefix The source type prefix
+     * @param value The source
+     * @return The key
+     */
+    private static String sourceKey(String prefix, MetadataResource value) {
+        return prefix + value.getMetadata().getNamespace() + "/" + value.getMetadata().getName();
+    }
+
+    /** Source of the expected bindings. */
+    interface Source {
+        /**
+         * Find all the ACLs of the cluster.
+         *
+         * @return The ACLs
+         */
+        List<AccessControlEntry> findAllAcls();
+
+        /**
+         * Find all the Kafka Streams of the cluster.
+         *
+         * @return The Kafka Streams
+         */
+        List<KafkaStream> findAllStreams();
+
+        /**
+         * Convert an ACL into the bindings expected on the cluster.
+         *
+         * @param accessControlEntry The ACL
+         * @return The bindings, empty if the ACL is not synchronized
+         */
+        List<AclBinding> toAclBindings(AccessControlEntry accessControlEntry);
+
+        /**
+         * Convert a Kafka Streams into the bindings expected on the cluster.
+         *
+         * @param kafkaStream The Kafka Streams
+         * @return The bindings, empty if the Kafka Streams is not synchronized
+         */
+        List<AclBinding> toAclBindings(KafkaStream kafkaStream);
+    }
+}
@@ -18,23 +18,38 @@
  */
 package com.michelin.ns4kafka.service.executor;
 
+import com.michelin.ns4kafka.property.Ns4KafkaProperties;
+import io.micrometer.core.instrument.MeterRegistry;
 import io.micronaut.runtime.event.ApplicationStartupEvent;
 import io.micronaut.runtime.event.annotation.EventListener;
 import io.micronaut.scheduling.annotation.Scheduled;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.atomic.AtomicBoolean;
 import lombok.extern.slf4j.Slf4j;
 import reactor.core.publisher.Flux;
 
-/** Schedule the asynchronous executors. */
+/**
+ * Schedule the asynchronous executors.
+ *
+ * <p>The topics, ACLs and users of each managed cluster are reconciled by independent jobs running on virtual threads.
+ */
 @Slf4j
 @Singleton
 public class KafkaAsyncExecutorScheduler {
     private final AtomicBoolean ready = new AtomicBoolean(false);
 
+    private final ExecutorService reconciliationExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+    private final List<ReconciliationJob> reconciliationJobs = new ArrayList<>();
+
     @Inject
     private List<TopicAsyncExecutor> topicAsyncExecutors;
 
@@ -47,6 +62,33 @@ public class KafkaAsyncExecutorScheduler {
     @Inject
     private List<UserAsyncExecutor> userAsyncExecutors;
 
+    @Inject
+    private LeaderElection leaderElection;
+
+    @Inject
+    private MeterRegistry meterRegistry;
+
+    @Inject
+    private Ns4KafkaProperties ns4KafkaProperties;
+
+    /** Create a reconciliation job per managed cluster and resource type. */
+    @PostConstruct
+    void init() {
+        Ns4KafkaProperties.ReconciliationProperties properties = ns4KafkaProperties.getReconciliation();
+        topicAsyncExecutors.forEach(executor -> reconciliationJobs.add(new ReconciliationJob(
+                executor.getManagedClusterProperties().getName(), "topic", executor::run, properties, meterRegistry)));
+        accessControlEntryAsyncExecutors.forEach(executor -> reconciliationJobs.add(new ReconciliationJob(
+                executor.getManagedClusterProperties().getName(), "acl", executor::run, properties, meterRegistry)));
+        userAsyncExecutors.forEach(executor -> reconciliationJobs.add(new ReconciliationJob(
+                executor.getManagedClusterProperties().getName(), "user", executor::run, properties, meterRegistry)));
+    }
+
+    /** Stop the running reconciliation jobs. */
+    @PreDestroy
+    void close() {
+        reconciliationExecutor.shutdownNow();
+    }
+
     /**
      * Register when the application is ready.
      *
@@ -59,23 +101,30 @@ public class KafkaAsyncExecutorScheduler {
         scheduleConnectorSynchronization();
     }
 
-    /** Schedule resource synchronization. */
-    @Scheduled(initialDelay = "12s", fixedDelay = "20s")
+    /**
+     * Schedule resource synchronization. Only the leader synchronizes the resources.
+     *
+     * <p>Every second, the jobs whose interval has elapsed are submitted on their own virtual thread, unless their
+     * previous run is still in progress.
+     */
+    @Scheduled(initialDelay = "12s", fixedDelay = "1s")
     public void schedule() {
-        if (ready.get()) {
-            topicAsyncExecutors.forEach(TopicAsyncExecutor::run);
-            accessControlEntryAsyncExecutors.forEach(AccessControlEntryAsyncExecutor::run);
-            userAsyncExecutors.forEach(UserAsyncExecutor::run);
+        if (!leaderElection.isLeader()) {
+            log.trace("Skipping resource synchronization. The replica is not the leader.");
+        } else if (ready.get()) {
+            long now = System.currentTimeMillis();
+            reconciliationJobs.forEach(job -> job.trySubmitIfDue(reconciliationExecutor, now));
         } else {
             log.warn("Scheduled jobs did not start because Micronaut is not ready yet");
         }
     }
 
-    /** Schedule connector synchronization. */
+    /** Schedule connector synchronization. Only the leader synchronizes the connectors. */
     public void scheduleConnectorSynchronization() {
         Flux.interval(Duration.ofSeconds(12), Duration.ofSeconds(30))
                 .onBackpressureDrop(onDropped ->
                         log.debug("Skipping next connector synchronization. The previous one is still running."))
+                .filter(tick -> leaderElection.isLeader())
                 .concatMap(mapper -> Flux.fromIterable(connectorAsyncExecutors).flatMap(ConnectorAsyncExecutor::run))
                 .onErrorContinue((error, body) ->
                         log.trace("Continue connector synchronization after error: {}.", error.getMessage()))
@@ -0,0 +1,139 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.michelin.ns4kafka.service.executor;
+
+import com.michelin.ns4kafka.property.Ns4KafkaProperties;
+import com.michelin.ns4kafka.repository.kafka.KafkaStoreException;
+import io.micronaut.configuration.kafka.annotation.KafkaListener;
+import io.micronaut.configuration.kafka.annotation.OffsetReset;
+import io.micronaut.configuration.kafka.annotation.OffsetStrategy;
+import io.micronaut.configuration.kafka.annotation.Topic;
+import io.micronaut.context.annotation.Property;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.context.annotation.Value;
+import io.micronaut.core.util.StringUtils;
+import jakarta.annotation.PostConstruct;
+import jakarta.inject.Inject;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.admin.AdminClient;
+import org.apache.kafka.clients.admin.NewTopic;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRebalanceListener;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.errors.TopicExistsException;
+
+/**
+ * Leader election through a Kafka consumer group. All the replicas join the same group on a coordination topic with a
+ * single partition, and the replica the partition is assigned to is the leader.
+ *
+ * <p>A replica shutting down leaves the group right away, and a crashed replica is evicted after the session timeout,
+ * so the leadership fails over within the session timeout.
+ */
+@Slf4j
+@KafkaListener(
+        groupId = "${ns4kafka.leader-election.group-id}",
+        offsetReset = OffsetReset.LATEST,
+        offsetStrategy = OffsetStrategy.DISABLED,
+        properties = {
+            @Property(
+                    name = ConsumerConfig.SESSION_TIMEOUT_MS_CONFIG,
+                    value = "${ns4kafka.leader-election.session-timeout}"),
+            // Only the partitions actually moving are revoked, so the leader keeps its leadership on rebalances
+            @Property(
+                    name = ConsumerConfig.PARTITION_ASSIGNMENT_STRATEGY_CONFIG,
+                    value = "org.apache.kafka.clients.consumer.CooperativeStickyAssignor")
+        })
+@Requires(property = "ns4kafka.leader-election.enabled", value = StringUtils.TRUE)
+public class KafkaLeaderElectionListener implements ConsumerRebalanceListener {
+    @Inject
+    private AdminClient adminClient;
+
+    @Inject
+    private Ns4KafkaProperties ns4KafkaProperties;
+
+    @Inject
+    private LeaderElection leaderElection;
+
+    @Value("${ns4kafka.store.kafka.topics.prefix}.leader")
+    String kafkaTopic;
+
+    /**
+     * Create the coordination topic if it does not exist yet. The startup fails if the topic cannot be created, as no
+     * replica would be elected leader without it.
+     *
+     * @throws KafkaStoreException Exception thrown if the topic cannot be created
+     */
+    @PostConstruct
+    void createTopic() throws KafkaStoreException {
+        try {
+            if (!adminClient
+                    .listTopics()
+                    .names()
+                    .get(ns4KafkaProperties.getStore().getKafka().getInitTimeout(), TimeUnit.MILLISECONDS)
+                    .contains(kafkaTopic)) {
+                log.info("Creating topic {}.", kafkaTopic);
+                short replicationFactor =
+                        (short) ns4KafkaProperties.getStore().getKafka().getTopics().getReplicationFactor();
+                adminClient
+                        .createTopics(Collections.singleton(new NewTopic(kafkaTopic, 1, replicationFactor)))
+                        .all()
+                        .get(ns4KafkaProperties.getStore().getKafka().getInitTimeout(), TimeUnit.MILLISECONDS);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new KafkaStoreException("Thread interrupted trying to create topic " + kafkaTopic + ".", e);
+        } catch (ExecutionException e) {
+            if (!(e.getCause() instanceof TopicExistsException)) {
+                throw new KafkaStoreException("Execution error trying to create topic " + kafkaTopic + ".", e);
+            }
+        } catch (TimeoutException e) {
+            throw new KafkaStoreException("Timed out trying to create topic " + kafkaTopic + ".", e);
+        }
+    }
+
+    /**
+     * Nothing is written to the coordination topic, the consumer only keeps the replica in the group.
+     *
+     * @param message The record
+     */
+    @Topic("${ns4kafka.store.kafka.topics.prefix}.leader")
+    void receive(ConsumerRecord<String, String> message) {
+        // Nothing to do
+    }
+
+    @Override
+    public void onPartitionsAssigned(Collection<TopicPartition> partitions) {
+        if (!partitions.isEmpty()) {
+            leaderElection.setLeader(true);
+        }
+    }
+
+    @Override
+    public void onPartitionsRevoked(Collection<TopicPartition> partitions) {
+        if (!partitions.isEmpty()) {
+            leaderElection.setLeader(false);
+        }
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.michelin.ns4kafka.service.executor;
+
+import com.michelin.ns4kafka.property.Ns4KafkaProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Leadership of the current replica. Only the leader runs the synchronization executors.
+ *
+ * <p>When the leader election is disabled, every replica is the leader.
+ */
+@Slf4j
+@Singleton
+public class LeaderElection {
+    private final AtomicBoolean leader = new AtomicBoolean(false);
+
+    @Inject
+    private Ns4KafkaProperties ns4KafkaProperties;
+
+    @Inject
+    private MeterRegistry meterRegistry;
+
+    private Counter leadershipChanges;
+
+    /** Register the leadership metrics. */
+    @PostConstruct
+    void init() {
+        leader.set(!ns4KafkaProperties.getLeaderElection().isEnabled());
+        Gauge.builder("ns4kafka.leader", leader, isLeader -> isLeader.get() ? 1 : 0)
+                .description("Whether the replica is the leader running the synchronization executors")
+                .register(meterRegistry);
+        leadershipChanges = Counter.builder("ns4kafka.leader.changes")
+                .description("Number of times the replica gained or lost the leadership")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Is the current replica the leader.
+     *
+     * @return true if it is, false otherwise
+     */
+    public boolean isLeader() {
+        return leader.get();
+    }
+
+    /**
+     * Update the leadership of the current replica.
+     *
+     * @param isLeader true if the replica is now the leader, false otherwise
+     */
+    public void setLeader(boolean isLeader) {
+        if (leader.compareAndSet(!isLeader, isLeader)) {
+            leadershipChanges.increment();
+            if (isLeader) {
+                log.info("Leadership acquired, starting the synchronization executors.");
+            } else {
+                log.info("Leadership lost, stopping the synchronization executors.");
+            }
+        }
+    }
+}
@@ -0,0 +1,226 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.michelin.ns4kafka.service.executor;
+
+import com.michelin.ns4kafka.property.Ns4KafkaProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Reconciliation of one resource type with one managed cluster.
+ *
+ * <p>Each job runs independently of the others, so a slow cluster does not delay the other ones. A job is never run
+ * twice at the same time: it is skipped while its previous run is still in progress.
+ *
+ * <p>The interval between two runs adapts to the drift of the cluster. It falls back to the minimum interval when a
+ * run finds resources to create, update or delete, and doubles up to the maximum interval when a run finds nothing to
+ * do. A random jitter is applied to each interval, so the jobs of the different clusters do not load the brokers at the
+ * same time. The first run is also delayed randomly within the minimum interval, so the jobs do not all start on the
+ * same scheduler tick.
+ */
+@Slf4j
+public class ReconciliationJob {
+    @Getter
+    private final String cluster;
+
+    @Getter
+    private final String resourceType;
+
+    private final BooleanSupplier reconciliation;
+    private final Ns4KafkaProperties.ReconciliationProperties reconciliationProperties;
+    private final AtomicBoolean running = new AtomicBoolean(false);
+    private final AtomicLong lastSuccess = new AtomicLong(0);
+    private final AtomicLong interval;
+    private final AtomicLong nextRun;
+    private final Timer duration;
+    private final Counter skipped;
+
+    /**
+     * Constructor.
+     *
+     * @param cluster The managed cluster name
+     * @param resourceType The reconciled resource type
+     * @param reconciliation The reconciliation, returning true if it found a drift with the cluster
+     * @param reconciliationProperties The reconciliation properties
+     * @param meterRegistry The meter registry
+     */
+    public ReconciliationJob(
+            String cluster,
+            String resourceType,
+            BooleanSupplier reconciliation,
+            Ns4KafkaProperties.ReconciliationProperties reconciliationProperties,
+            MeterRegistry meterRegistry) {
+        this.cluster = cluster;
+        this.resourceType = resourceType;
+        this.reconciliation = reconciliation;
+        this.reconciliationProperties = reconciliationProperties;
+        this.interval = new AtomicLong(reconciliationProperties.getMinInterval());
+
+        long minInterval = Math.max(1, reconciliationProperties.getMinInterval());
+        long initialDelay = ThreadLocalRandom.current().nextLong(minInterval);
+        this.nextRun = new AtomicLong(System.currentTimeMillis() + initialDelay);
+
+        Tags tags = Tags.of("cluster", cluster, "resource", resourceType);
+        this.duration = Timer.builder("ns4kafka.reconciliation.duration")
+                .description("The duration of the reconciliation runs")
+                .tags(tags)
+                .register(meterRegistry);
+        this.skipped = Counter.builder("ns4kafka.reconciliation.skipped")
+                .description("The number of reconciliation runs skipped because the previous one was still running")
+                .tags(tags)
+                .register(meterRegistry);
+        Gauge.builder("ns4kafka.reconciliation.last.success", lastSuccess, AtomicLong::get)
+                .description("The time in epoch milliseconds of the last successful reconciliation run")
+                .tags(tags)
+                .register(meterRegistry);
+        Gauge.builder("ns4kafka.reconciliation.interval", interval, AtomicLong::get)
+                .description("The current interval in milliseconds between two reconciliation runs")
+                .tags(tags)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Submit a run of the job if it is due, unless the previous one is still in progress.
+     *
+     * @param executor The executor running the job
+     * @param now The current time in epoch milliseconds
+     * @return true if the run has been submitted, false otherwise
+     */
+    public boolean trySubmitIfDue(Executor executor, long now) {
+        if (now < nextRun.get()) {
+            return false;
+        }
+
+        if (running.get()) {
+            nextRun.set(now + interval.get());
+        }
+
+        return trySubmit(executor);
+    }
+
+    /**
+     * Submit a run of the job, unless the previous one is still in progress.
+     *
+     * @param executor The executor running the job
+     * @return true if the run has been submitted, false if it has been skipped
+     */
+    public boolean trySubmit(Executor executor) {
+        if (!running.compareAndSet(false, true)) {
+            skipped.increment();
+            log.debug(
+                    "Skipping {} reconciliation for cluster {}. The previous one is still running.",
+                    resourceType,
+                    cluster);
+            return false;
+        }
+
+        try {
+            executor.execute(this::run);
+            return true;
+        } catch (RejectedExecutionException e) {
+            running.set(false);
+            log.warn("Cannot submit {} reconciliation for cluster {}.", resourceType, cluster, e);
+            return false;
+        }
+    }
+
+    /**
+     * Is a run of the job in progress.
+     *
+     * @return true if it is, false otherwise
+     */
+    public boolean isRunning() {
+        return running.get();
+    }
+
+    /**
+     * Get the time of the last successful run.
+     *
+     * @return The time in epoch milliseconds, 0 if the job never succeeded
+     */
+    public long getLastSuccess() {
+        return lastSuccess.get();
+    }
+
+    /**
+     * Get the current interval between two runs, before the jitter.
+     *
+     * @return The interval in milliseconds
+     */
+    public long getInterval() {
+        return interval.get();
+    }
+
+    /**
+     * Get the time of the next run.
+     *
+     * @return The time in epoch milliseconds
+     */
+    public long getNextRun() {
+        return nextRun.get();
+    }
+
+    /** Run the reconciliation, record its duration and schedule the next run. */
+    private void run() {
+        long start = System.nanoTime();
+        boolean drift = false;
+        try {
+            drift = reconciliation.getAsBoolean();
+            lastSuccess.set(System.currentTimeMillis());
+        } catch (Exception e) {
+            log.error("Error during {} reconciliation for cluster {}.", resourceType, cluster, e);
+        } finally {
+            duration.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            scheduleNextRun(drift);
+            running.set(false);
+        }
+    }
+
+    /**
+     * Adapt the interval to the drift found by the last run, and schedule the next run with a random jitter.
+     *
+     * @param drift true if the last run found a drift with the cluster, false otherwise
+     */
+    private void scheduleNextRun(boolean drift) {
+        long next = drift
+                ? reconciliationProperties.getMinInterval()
+                : Math.min(interval.get() * 2, reconciliationProperties.getMaxInterval());
+        interval.set(next);
+
+        double jitter = reconciliationProperties.getJitter();
+        long jittered = jitter > 0
+                ? Math.round(next * (1 + ThreadLocalRandom.current().nextDouble(-jitter, jitter)))
+                : next;
+        nextRun.set(System.currentTimeMillis() + jittered);
+
+        log.trace("Next {} reconciliation for cluster {} in {}ms.", resourceType, cluster, jittered);
+    }
+}
@@ -0,0 +1,192 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.michelin.ns4kafka.service.executor;
+
+import com.michelin.ns4kafka.property.Ns4KafkaProperties;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Queue of targeted reconciliations, enqueued by the API writes to reconcile a single resource right away instead of
+ * waiting for the next periodic reconciliation of the whole cluster. The periodic reconciliation still catches up with
+ * the resources whose targeted reconciliation failed or has been skipped.
+ *
+ * <p>The reconciliations are run by priority, then in the order they have been enqueued. A reconciliation already
+ * waiting for the same resource is replaced by the latest one.
+ */
+@Slf4j
+@Singleton
+public class ReconciliationQueue {
+    private static final List<String> RESOURCE_TYPES = List.of("topic", "acl");
+
+    private final PriorityBlockingQueue<Task> queue = new PriorityBlockingQueue<>(
+            16, Comparator.comparing(Task::priority).thenComparingLong(Task::sequence));
+
+    private final Map<String, Task> pending = new ConcurrentHashMap<>();
+
+    private final AtomicLong sequence = new AtomicLong();
+
+    private final Map<String, Timer> latencies = new ConcurrentHashMap<>();
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    @Inject
+    private Ns4KafkaProperties ns4KafkaProperties;
+
+    @Inject
+    private LeaderElection leaderElection;
+
+    @Inject
+    private MeterRegistry meterRegistry;
+
+    private Semaphore permits;
+
+    private Thread dispatcher;
+
+    /** Priority of a targeted reconciliation. */
+    public enum Priority {
+        HIGH,
+        NORMAL
+    }
+
+    /** Start dispatching the reconciliations. */
+    @PostConstruct
+    void init() {
+        permits = new Semaphore(ns4KafkaProperties.getReconciliation().getTargetedConcurrency());
+        Gauge.builder("ns4kafka.reconciliation.queue.size", queue, PriorityBlockingQueue::size)
+                .description("The number of targeted reconciliations waiting to run")
+                .register(meterRegistry);
+        RESOURCE_TYPES.forEach(resourceType -> latencies.computeIfAbsent(resourceType, this::registerLatency));
+        dispatcher = Thread.ofVirtual().name("reconciliation-queue").start(this::dispatch);
+    }
+
+    /** Stop dispatching the reconciliations. */
+    @PreDestroy
+    void close() {
+        dispatcher.interrupt();
+        executor.shutdownNow();
+    }
+
+    /**
+     * Enqueue the reconciliation of a single resource. It is only run by the leader: on the other replicas, the
+     * reconciliation is dropped and the resource is only reconciled by the next periodic run of the leader.
+     *
+     * @param cluster The managed cluster name
+     * @param resourceType The resource type
+     * @param name The resource name
+     * @param priority The priority
+     * @param reconciliation The reconciliation
+     */
+    public void enqueue(
+            String cluster, String resourceType, String name, Priority priority, Runnable reconciliation) {
+        if (!leaderElection.isLeader()) {
+            log.trace(
+                    "Skipping {} {} reconciliation on {}. The replica is not the leader.", resourceType, name, cluster);
+            return;
+        }
+
+        String key = cluster + "/" + resourceType + "/" + name;
+        Task task = new Task(
+                key, resourceType, priority, sequence.incrementAndGet(), System.nanoTime(), reconciliation);
+        Task replaced = pending.put(key, task);
+        if (replaced != null) {
+            queue.remove(replaced);
+        }
+        queue.add(task);
+    }
+
+    /** Take the reconciliations by priority and run each of them on a virtual thread. */
+    private void dispatch() {
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                // Wait for a free slot before taking a task, so the tasks enqueued meanwhile are still sorted
+                permits.acquire();
+                Task task;
+                try {
+                    task = queue.take();
+                } catch (InterruptedException e) {
+                    permits.release();
+                    throw e;
+                }
+                pending.remove(task.key(), task);
+                executor.execute(() -> {
+                    try {
+                        task.reconciliation().run();
+                    } catch (Exception e) {
+                        log.error("Error during the targeted reconciliation of {}.", task.key(), e);
+                    } finally {
+                        permits.release();
+                        latencies
+                                .computeIfAbsent(task.resourceType(), this::registerLatency)
+                                .record(System.nanoTime() - task.enqueuedAt(), TimeUnit.NANOSECONDS);
+                    }
+                });
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Register the latency timer of a resource type.
+     *
+     * @param resourceType The resource type
+     * @return The timer
+     */
+    private Timer registerLatency(String resourceType) {
+        return Timer.builder("ns4kafka.reconciliation.targeted.latency")
+                .description("The time from the API write to the end of its targeted reconciliation")
+                .tag("resource", resourceType)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Targeted reconciliation waiting in the queue.
+     *
+     * @param key The resource key
+     * @param resourceType The resource type
+     * @param priority The priority
+     * @param sequence The order of enqueuing
+     * @param enqueuedAt The enqueuing time in nanoseconds
+     * @param reconciliation The reconciliation
+     */
+    record Task(
+            String key,
+            String resourceType,
+            Priority priority,
+            long sequence,
+            long enqueuedAt,
+            Runnable reconciliation) {}
+}
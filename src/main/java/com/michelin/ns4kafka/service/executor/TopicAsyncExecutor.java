@@ -32,29 +32,47 @@ import com.michelin.ns4kafka.service.client.schema.entities.TopicDescriptionUpda
 import com.michelin.ns4kafka.service.client.schema.entities.TopicDescriptionUpdateBody;
 import com.michelin.ns4kafka.service.client.schema.entities.TopicDescriptionUpdateEntity;
 import com.michelin.ns4kafka.service.client.schema.entities.TopicListResponse;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
 import io.micronaut.context.annotation.EachBean;
+import jakarta.annotation.PostConstruct;
 import jakarta.inject.Singleton;
 import java.time.Instant;
 import java.util.AbstractMap;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import lombok.AllArgsConstructor;
+import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.kafka.clients.admin.Admin;
 import org.apache.kafka.clients.admin.AlterConfigOp;
 import org.apache.kafka.clients.admin.AlterConfigsResult;
+import org.apache.kafka.clients.admin.Config;
 import org.apache.kafka.clients.admin.ConfigEntry;
 import org.apache.kafka.clients.admin.CreateTopicsResult;
 import org.apache.kafka.clients.admin.NewTopic;
@@ -62,8 +80,10 @@ import org.apache.kafka.clients.admin.OffsetSpec;
 import org.apache.kafka.clients.admin.RecordsToDelete;
 import org.apache.kafka.clients.admin.TopicDescription;
 import org.apache.kafka.clients.admin.TopicListing;
+import org.apache.kafka.common.KafkaFuture;
 import org.apache.kafka.common.TopicPartition;
 import org.apache.kafka.common.config.ConfigResource;
+import org.apache.kafka.common.errors.UnknownTopicOrPartitionException;
 import reactor.core.publisher.Mono;
 
 /** Topic executor. */
@@ -75,106 +95,212 @@ public class TopicAsyncExecutor {
     public static final String CLUSTER_ID = "cluster.id";
     public static final String TOPIC_ENTITY_TYPE = "kafka_topic";
 
+    @Getter
     private final ManagedClusterProperties managedClusterProperties;
 
+    private final ReentrantLock synchronizationLock = new ReentrantLock();
+
     private TopicRepository topicRepository;
 
     private SchemaRegistryClient schemaRegistryClient;
 
     private Ns4KafkaProperties ns4KafkaProperties;
 
+    private MeterRegistry meterRegistry;
+
+    private final BrokerTopicCache brokerTopicCache = new BrokerTopicCache();
+
+    private final Map<String, Timer> batchDurations = new ConcurrentHashMap<>();
+
     private Admin getAdminClient() {
         return managedClusterProperties.getAdminClient();
     }
 
-    /** Run the topic synchronization. */
-    public void run() {
+    /** Register the broker topic cache and batch metrics. */
+    @PostConstruct
+    void registerMetrics() {
+        Tags tags = Tags.of("cluster", managedClusterProperties.getName());
+        FunctionCounter.builder("ns4kafka.topic.cache.hits", brokerTopicCache, BrokerTopicCache::getHits)
+                .description("The number of broker topics found in the cache")
+                .tags(tags)
+                .register(meterRegistry);
+        FunctionCounter.builder("ns4kafka.topic.cache.misses", brokerTopicCache, BrokerTopicCache::getMisses)
+                .description("The number of broker topics described because they were new or changed by Ns4Kafka")
+                .tags(tags)
+                .register(meterRegistry);
+        FunctionCounter.builder("ns4kafka.topic.cache.drifted", brokerTopicCache, BrokerTopicCache::getDrifted)
+                .description("The number of cached broker topics found changed by a full refresh")
+                .tags(tags)
+                .register(meterRegistry);
+        Gauge.builder("ns4kafka.topic.cache.size", brokerTopicCache, BrokerTopicCache::size)
+                .description("The number of cached broker topics")
+                .tags(tags)
+                .register(meterRegistry);
+        for (String operation : List.of("create", "alter")) {
+            Timer batchDuration = Timer.builder("ns4kafka.topic.batch.duration")
+                    .description("The duration of a batch of topic operations, including the persisted statuses")
+                    .tags(tags.and("operation", operation))
+                    .register(meterRegistry);
+            batchDurations.put(operation, batchDuration);
+        }
+    }
+
+    /**
+     * Run the topic synchronization.
+     *
+     * @return true if topics had to be created or updated, false otherwise
+     */
+    public boolean run() {
         if (this.managedClusterProperties.isManageTopics()) {
-            synchronizeTopics();
+            synchronizationLock.lock();
+            try {
+                return synchronizeTopics();
+            } finally {
+                synchronizationLock.unlock();
+            }
         }
+        return false;
     }
 
-    /** Start the topic synchronization. */
-    public void synchronizeTopics() {
-        log.debug("Starting topic collection for cluster {}", managedClusterProperties.getName());
+    /**
+     * Run the synchronization of a single topic, e.g. right after it has been applied. The whole cluster is not
+     * scanned: only the given topic is described.
+     *
+     * @param topicName The topic name
+     * @return true if the topic had to be created or updated, false otherwise
+     */
+    public boolean synchronizeTopic(String topicName) {
+        if (!this.managedClusterProperties.isManageTopics()) {
+            return false;
+        }
 
+        synchronizationLock.lock();
         try {
-            Map<String, Topic> brokerTopics = collectBrokerTopics();
-            List<Topic> ns4kafkaTopics = topicRepository.findAllForCluster(managedClusterProperties.getName());
-
-            List<Topic> createTopics = ns4kafkaTopics.stream()
-                    .filter(topic ->
-                            !brokerTopics.containsKey(topic.getMetadata().getName()))
-                    .toList();
-
-            List<Topic> checkTopics = ns4kafkaTopics.stream()
-                    .filter(topic ->
-                            brokerTopics.containsKey(topic.getMetadata().getName()))
-                    .toList();
-
-            Map<ConfigResource, Collection<AlterConfigOp>> updateTopics = checkTopics.stream()
-                    .map(topic -> {
-                        Map<String, String> actualConf = brokerTopics
-                                .get(topic.getMetadata().getName())
-                                .getSpec()
-                                .getConfigs();
-
-                        Map<String, String> expectedConf = topic.getSpec().getConfigs() == null
-                                ? Map.of()
-                                : topic.getSpec().getConfigs();
-
-                        Collection<AlterConfigOp> topicConfigChanges = computeConfigChanges(expectedConf, actualConf);
-                        if (!topicConfigChanges.isEmpty()) {
-                            ConfigResource cr = new ConfigResource(
-                                    ConfigResource.Type.TOPIC,
-                                    topic.getMetadata().getName());
-                            return Map.entry(cr, topicConfigChanges);
-                        }
-                        return null;
-                    })
-                    .filter(Objects::nonNull)
-                    .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
-
-            if (!createTopics.isEmpty()) {
-                log.debug(
-                        "Topic(s) to create: {}",
-                        String.join(
-                                ", ",
-                                createTopics.stream()
-                                        .map(topic -> topic.getMetadata().getName())
-                                        .toList()));
+            Optional<Topic> topic = topicRepository.findByName(managedClusterProperties.getName(), topicName);
+            if (topic.isEmpty()) {
+                return false;
             }
 
-            if (!updateTopics.isEmpty()) {
-                log.debug(
-                        "Topic(s) to update: {}",
-                        String.join(
-                                ", ",
-                                updateTopics.keySet().stream()
-                                        .map(ConfigResource::name)
-                                        .toList()));
-                for (Map.Entry<ConfigResource, Collection<AlterConfigOp>> e : updateTopics.entrySet()) {
-                    for (AlterConfigOp op : e.getValue()) {
-                        log.debug(
-                                "{} {} {}({})",
-                                e.getKey().name(),
-                                op.opType().toString(),
-                                op.configEntry().name(),
-                                op.configEntry().value());
-                    }
+            Map<String, Topic> brokerTopics;
+            try {
+                brokerTopics = collectBrokerTopicsFromNames(List.of(topicName));
+            } catch (ExecutionException e) {
+                if (!(e.getCause() instanceof UnknownTopicOrPartitionException)) {
+                    throw e;
                 }
+                brokerTopics = Map.of();
             }
 
-            createTopics(createTopics);
-            alterTopics(updateTopics, checkTopics);
-            alterCatalogInfo(checkTopics, brokerTopics);
+            return synchronizeTopics(brokerTopics, List.of(topic.get()));
+        } catch (ExecutionException | TimeoutException | CancellationException | KafkaStoreException e) {
+            log.error("An error occurred during the synchronization of topic {}", topicName, e);
+        } catch (InterruptedException e) {
+            log.error("Thread interrupted during the synchronization of topic {}", topicName, e);
+            Thread.currentThread().interrupt();
+        } finally {
+            synchronizationLock.unlock();
+        }
+        return false;
+    }
+
+    /**
+     * Start the topic synchronization.
+     *
+     * @return true if topics had to be created or updated, false otherwise
+     */
+    public boolean synchronizeTopics() {
+        log.debug("Starting topic collection for cluster {}", managedClusterProperties.getName());
+
+        try {
+            Map<String, Topic> brokerTopics = collectBrokerTopics();
+            List<Topic> ns4kafkaTopics = topicRepository.findAllForCluster(managedClusterProperties.getName());
 
+            return synchronizeTopics(brokerTopics, ns4kafkaTopics);
         } catch (ExecutionException | TimeoutException | CancellationException | KafkaStoreException e) {
             log.error("An error occurred during the topic synchronization", e);
         } catch (InterruptedException e) {
             log.error("Thread interrupted during the topic synchronization", e);
             Thread.currentThread().interrupt();
         }
+        return false;
+    }
+
+    /**
+     * Create the given Ns4Kafka topics missing from the broker, and update those whose configs differ.
+     *
+     * @param brokerTopics The topics from the broker
+     * @param ns4kafkaTopics The topics from Ns4Kafka
+     * @return true if topics had to be created or updated, false otherwise
+     */
+    private boolean synchronizeTopics(Map<String, Topic> brokerTopics, List<Topic> ns4kafkaTopics) {
+        List<Topic> createTopics = ns4kafkaTopics.stream()
+                .filter(topic ->
+                        !brokerTopics.containsKey(topic.getMetadata().getName()))
+                .toList();
+
+        List<Topic> checkTopics = ns4kafkaTopics.stream()
+                .filter(topic ->
+                        brokerTopics.containsKey(topic.getMetadata().getName()))
+                .toList();
+
+        Map<ConfigResource, Collection<AlterConfigOp>> updateTopics = checkTopics.stream()
+                .map(topic -> {
+                    Map<String, String> actualConf = brokerTopics
+                            .get(topic.getMetadata().getName())
+                            .getSpec()
+                            .getConfigs();
+
+                    Map<String, String> expectedConf = topic.getSpec().getConfigs() == null
+                            ? Map.of()
+                            : topic.getSpec().getConfigs();
+
+                    Collection<AlterConfigOp> topicConfigChanges = computeConfigChanges(expectedConf, actualConf);
+                    if (!topicConfigChanges.isEmpty()) {
+                        ConfigResource cr = new ConfigResource(
+                                ConfigResource.Type.TOPIC,
+                                topic.getMetadata().getName());
+                        return Map.entry(cr, topicConfigChanges);
+                    }
+                    return null;
+                })
+                .filter(Objects::nonNull)
+                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+
+        if (!createTopics.isEmpty()) {
+            log.debug(
+                    "Topic(s) to create: {}",
+                    String.join(
+                            ", ",
+                            createTopics.stream()
+                                    .map(topic -> topic.getMetadata().getName())
+                                    .toList()));
+        }
+
+        if (!updateTopics.isEmpty()) {
+            log.debug(
+                    "Topic(s) to update: {}",
+                    String.join(
+                            ", ",
+                            updateTopics.keySet().stream()
+                                    .map(ConfigResource::name)
+                                    .toList()));
+            for (Map.Entry<ConfigResource, Collection<AlterConfigOp>> e : updateTopics.entrySet()) {
+                for (AlterConfigOp op : e.getValue()) {
+                    log.debug(
+                            "{} {} {}({})",
+                            e.getKey().name(),
+                            op.opType().toString(),
+                            op.configEntry().name(),
+                            op.configEntry().value());
+                }
+            }
+        }
+
+        createTopics(createTopics);
+        alterTopics(updateTopics, checkTopics);
+        alterCatalogInfo(checkTopics, brokerTopics);
+
+        return !createTopics.isEmpty() || !updateTopics.isEmpty();
     }
 
     /**
@@ -242,6 +368,7 @@ public class TopicAsyncExecutor {
         List<String> topicsNames =
                 topics.stream().map(topic -> topic.getMetadata().getName()).toList();
 
+        topicsNames.forEach(brokerTopicCache::invalidate);
         getAdminClient()
                 .deleteTopics(topicsNames)
                 .all()
@@ -254,10 +381,41 @@ public class TopicAsyncExecutor {
     /**
      * Collect all topics on broker.
      *
+     * <p>With the topic cache, only the topics that are new or that have been changed by Ns4Kafka are described. All
+     * the topics are described again at each full refresh.
+     *
      * @return All topics by name
      */
     public Map<String, Topic> collectBrokerTopics() throws ExecutionException, InterruptedException, TimeoutException {
-        return collectBrokerTopicsFromNames(listBrokerTopicNames());
+        Ns4KafkaProperties.ReconciliationProperties.TopicCacheProperties topicCacheProperties =
+                ns4KafkaProperties.getReconciliation().getTopicCache();
+        if (!topicCacheProperties.isEnabled()) {
+            return collectBrokerTopicsFromNames(listBrokerTopicNames());
+        }
+
+        long now = System.currentTimeMillis();
+        Collection<TopicListing> listings = listBrokerTopicListings();
+        boolean fullRefresh = brokerTopicCache.isFullRefreshDue(now, topicCacheProperties.getFullRefreshInterval());
+        List<String> topicNames = brokerTopicCache.refresh(listings, fullRefresh);
+
+        if (!topicNames.isEmpty()) {
+            log.debug(
+                    "Describing {} of {} topics on {}{}",
+                    topicNames.size(),
+                    listings.size(),
+                    managedClusterProperties.getName(),
+                    fullRefresh ? " for a full refresh" : "");
+            describeBrokerTopics(topicNames, described -> brokerTopicCache.put(listings, described, fullRefresh));
+        }
+
+        if (fullRefresh) {
+            brokerTopicCache.completeFullRefresh(now);
+        }
+
+        Map<String, Topic> topics = brokerTopicCache.getTopics(managedClusterProperties.getName());
+        enrichWithCatalogInfo(topics);
+
+        return topics;
     }
 
     /**
@@ -266,13 +424,20 @@ public class TopicAsyncExecutor {
      * @return All topic names
      */
     public List<String> listBrokerTopicNames() throws InterruptedException, ExecutionException, TimeoutException {
+        return listBrokerTopicListings().stream().map(TopicListing::name).toList();
+    }
+
+    /**
+     * List all topics on broker, with their id.
+     *
+     * @return All topic listings
+     */
+    private Collection<TopicListing> listBrokerTopicListings()
+            throws InterruptedException, ExecutionException, TimeoutException {
         return getAdminClient()
                 .listTopics()
                 .listings()
-                .get(managedClusterProperties.getTimeout().getTopic().getList(), TimeUnit.MILLISECONDS)
-                .stream()
-                .map(TopicListing::name)
-                .toList();
+                .get(managedClusterProperties.getTimeout().getTopic().getList(), TimeUnit.MILLISECONDS);
     }
 
     /**
@@ -309,10 +474,16 @@ public class TopicAsyncExecutor {
                                             managedClusterProperties.getConfig().getProperty(CLUSTER_ID) + ":"
                                                     + topic.getMetadata().getName() + ": "
                                                     + topic.getSpec().getDescription()));
-                                    topic.getMetadata()
-                                            .setGeneration(topic.getMetadata().getGeneration() + 1);
-                                    topic.setStatus(Topic.TopicStatus.ofSuccess("Topic description updated"));
-                                    topicRepository.create(topic);
+                                    topicRepository.update(topic, updatedTopic -> {
+                                        updatedTopic
+                                                .getMetadata()
+                                                .setGeneration(updatedTopic
+                                                                .getMetadata()
+                                                                .getGeneration()
+                                                        + 1);
+                                        updatedTopic.setStatus(
+                                                Topic.TopicStatus.ofSuccess("Topic description updated"));
+                                    });
                                 },
                                 error -> {
                                     log.error(
@@ -325,9 +496,11 @@ public class TopicAsyncExecutor {
                                                                     .getName() + ": "
                                                             + topic.getSpec().getDescription()),
                                             error);
-                                    topic.setStatus(Topic.TopicStatus.ofFailed(
-                                            "Error while updating topic description: " + error.getMessage()));
-                                    topicRepository.create(topic);
+                                    topicRepository.update(
+                                            topic,
+                                            updatedTopic -> updatedTopic.setStatus(Topic.TopicStatus.ofFailed(
+                                                    "Error while updating topic description: "
+                                                            + error.getMessage())));
                                 });
             }
         }
@@ -433,14 +606,141 @@ public class TopicAsyncExecutor {
      */
     public Map<String, Topic> collectBrokerTopicsFromNames(List<String> topicNames)
             throws InterruptedException, ExecutionException, TimeoutException {
-        Map<String, TopicDescription> topicDescriptions =
-                getAdminClient().describeTopics(topicNames).allTopicNames().get();
+        Map<String, Topic> topics = new ConcurrentHashMap<>();
+        describeBrokerTopics(topicNames, topics::putAll);
 
-        Map<String, Topic> topics = getAdminClient()
+        enrichWithCatalogInfo(topics);
+
+        return topics;
+    }
+
+    /**
+     * Describe the partitions, replication factor and dynamic configs of topics on broker.
+     *
+     * <p>The topics are described by chunks, with a bounded number of chunks described at the same time. Each chunk is
+     * handed to the given consumer as soon as it is described, from any thread. A failed chunk is retried, and the
+     * first error is thrown once all the other chunks are described.
+     *
+     * @param topicNames The topic names
+     * @param onDescribed The consumer of the described topics by name
+     * @throws InterruptedException Any interrupted exception
+     * @throws ExecutionException Any execution exception
+     * @throws TimeoutException Any timeout exception
+     */
+    private void describeBrokerTopics(List<String> topicNames, Consumer<Map<String, Topic>> onDescribed)
+            throws InterruptedException, ExecutionException, TimeoutException {
+        Ns4KafkaProperties.ReconciliationProperties.TopicDescribeProperties topicDescribeProperties =
+                ns4KafkaProperties.getReconciliation().getTopicDescribe();
+        int chunkSize = topicDescribeProperties.getChunkSize();
+        List<List<String>> chunks = IntStream.range(0, (topicNames.size() + chunkSize - 1) / chunkSize)
+                .mapToObj(index ->
+                        topicNames.subList(index * chunkSize, Math.min(topicNames.size(), (index + 1) * chunkSize)))
+                .toList();
+
+        if (chunks.size() <= 1) {
+            onDescribed.accept(topicNames.isEmpty() ? Map.of() : describeBrokerTopicsWithRetries(topicNames));
+            return;
+        }
+
+        Semaphore permits = new Semaphore(topicDescribeProperties.getConcurrency());
+        List<Future<?>> futures = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (List<String> chunk : chunks) {
+                futures.add(executor.submit(() -> {
+                    permits.acquire();
+                    try {
+                        onDescribed.accept(describeBrokerTopicsWithRetries(chunk));
+                        return null;
+                    } finally {
+                        permits.release();
+                    }
+                }));
+            }
+
+            Exception failure = null;
+            for (Future<?> future : futures) {
+                try {
+                    future.get();
+                } catch (ExecutionException e) {
+                    Exception cause = e.getCause() instanceof Exception exception ? exception : e;
+                    if (failure == null) {
+                        failure = cause;
+                    } else {
+                        failure.addSuppressed(cause);
+                    }
+                }
+            }
+
+            if (failure instanceof ExecutionException executionException) {
+                throw executionException;
+            } else if (failure instanceof TimeoutException timeoutException) {
+                throw timeoutException;
+            } else if (failure instanceof InterruptedException interruptedException) {
+                throw interruptedException;
+            } else if (failure != null) {
+                throw new ExecutionException(failure);
+            }
+        }
+    }
+
+    /**
+     * Describe a chunk of topics on broker, retrying on failure. The retries are delayed by the Ns4Kafka retry delay,
+     * multiplied at each attempt.
+     *
+     * @param topicNames The topic names
+     * @return The described topics by name
+     * @throws InterruptedException Any interrupted exception
+     * @throws ExecutionException Any execution exception
+     * @throws TimeoutException Any timeout exception
+     */
+    private Map<String, Topic> describeBrokerTopicsWithRetries(List<String> topicNames)
+            throws InterruptedException, ExecutionException, TimeoutException {
+        int retries = ns4KafkaProperties.getReconciliation().getTopicDescribe().getRetries();
+        for (int attempt = 0; ; attempt++) {
+            try {
+                return describeBrokerTopicChunk(topicNames);
+            } catch (ExecutionException | TimeoutException e) {
+                if (attempt >= retries || e.getCause() instanceof UnknownTopicOrPartitionException) {
+                    throw e;
+                }
+                log.warn(
+                        "Error describing {} topics on {}, retrying ({}/{}): {}",
+                        topicNames.size(),
+                        managedClusterProperties.getName(),
+                        attempt + 1,
+                        retries,
+                        e.getMessage());
+
+                Ns4KafkaProperties.RetryProperties retryProperties = ns4KafkaProperties.getRetry();
+                long delay = retryProperties.getDelay().toMillis();
+                Thread.sleep((long) (delay * Math.pow(retryProperties.getMultiplier(), attempt)));
+            }
+        }
+    }
+
+    /**
+     * Describe a chunk of topics on broker.
+     *
+     * @param topicNames The topic names
+     * @return The described topics by name
+     * @throws InterruptedException Any interrupted exception
+     * @throws ExecutionException Any execution exception
+     * @throws TimeoutException Any timeout exception
+     */
+    private Map<String, Topic> describeBrokerTopicChunk(List<String> topicNames)
+            throws InterruptedException, ExecutionException, TimeoutException {
+        KafkaFuture<Map<String, TopicDescription>> topicDescriptionsFuture =
+                getAdminClient().describeTopics(topicNames).allTopicNames();
+        KafkaFuture<Map<ConfigResource, Config>> topicConfigsFuture = getAdminClient()
                 .describeConfigs(topicNames.stream()
                         .map(topicName -> new ConfigResource(ConfigResource.Type.TOPIC, topicName))
                         .toList())
-                .all()
+                .all();
+
+        Map<String, TopicDescription> topicDescriptions = topicDescriptionsFuture.get(
+                managedClusterProperties.getTimeout().getTopic().getDescribe(), TimeUnit.MILLISECONDS);
+
+        return topicConfigsFuture
                 .get(managedClusterProperties.getTimeout().getTopic().getDescribeConfigs(), TimeUnit.MILLISECONDS)
                 .entrySet()
                 .stream()
@@ -473,10 +773,6 @@ public class TopicAsyncExecutor {
                                 .build())
                         .build())
                 .collect(Collectors.toMap(topic -> topic.getMetadata().getName(), Function.identity()));
-
-        enrichWithCatalogInfo(topics);
-
-        return topics;
     }
 
     /**
@@ -485,21 +781,25 @@ public class TopicAsyncExecutor {
      * @param toUpdate The topics to update
      * @param topics The current topics
      */
-    private void alterTopics(Map<ConfigResource, Collection<AlterConfigOp>> toUpdate, List<Topic> topics) {
+    void alterTopics(Map<ConfigResource, Collection<AlterConfigOp>> toUpdate, List<Topic> topics) {
+        if (toUpdate.isEmpty()) {
+            return;
+        }
+
+        Timer.Sample sample = Timer.start();
+        Map<String, Consumer<Topic>> mutations = new HashMap<>();
+        toUpdate.keySet().forEach(configResource -> brokerTopicCache.invalidate(configResource.name()));
         AlterConfigsResult alterConfigsResult = getAdminClient().incrementalAlterConfigs(toUpdate);
         alterConfigsResult.values().forEach((key, value) -> {
-            Topic updatedTopic = topics.stream()
-                    .filter(topic -> topic.getMetadata().getName().equals(key.name()))
-                    .findFirst()
-                    .get();
-
             try {
                 value.get(managedClusterProperties.getTimeout().getTopic().getAlterConfigs(), TimeUnit.MILLISECONDS);
-                updatedTopic.getMetadata().setCreationTimestamp(Date.from(Instant.now()));
-                updatedTopic
-                        .getMetadata()
-                        .setGeneration(updatedTopic.getMetadata().getGeneration() + 1);
-                updatedTopic.setStatus(Topic.TopicStatus.ofSuccess("Topic configs updated"));
+                mutations.put(key.name(), updatedTopic -> {
+                    updatedTopic.getMetadata().setCreationTimestamp(Date.from(Instant.now()));
+                    updatedTopic
+                            .getMetadata()
+                            .setGeneration(updatedTopic.getMetadata().getGeneration() + 1);
+                    updatedTopic.setStatus(Topic.TopicStatus.ofSuccess("Topic configs updated"));
+                });
 
                 log.info(
                         "Success updating topic configs {} on {}: [{}]",
@@ -510,16 +810,23 @@ public class TopicAsyncExecutor {
                 log.error("Error", e);
                 Thread.currentThread().interrupt();
             } catch (Exception e) {
-                updatedTopic.setStatus(
-                        Topic.TopicStatus.ofFailed("Error while updating topic configs: " + e.getMessage()));
+                mutations.put(
+                        key.name(),
+                        updatedTopic -> updatedTopic.setStatus(
+                                Topic.TopicStatus.ofFailed("Error while updating topic configs: " + e.getMessage())));
                 log.error(
                         "Error while updating topic configs {} on {}",
                         key.name(),
                         managedClusterProperties.getName(),
                         e);
             }
-            topicRepository.create(updatedTopic);
         });
+
+        try {
+            topicRepository.updateAll(topics, mutations);
+        } finally {
+            recordBatchDuration("alter", sample);
+        }
     }
 
     /**
@@ -527,7 +834,13 @@ public class TopicAsyncExecutor {
      *
      * @param topics The topics to create
      */
-    private void createTopics(List<Topic> topics) {
+    void createTopics(List<Topic> topics) {
+        if (topics.isEmpty()) {
+            return;
+        }
+
+        Timer.Sample sample = Timer.start();
+        Map<String, Consumer<Topic>> mutations = new HashMap<>();
         List<NewTopic> newTopics = topics.stream()
                 .map(topic -> {
                     log.debug(
@@ -544,26 +857,41 @@ public class TopicAsyncExecutor {
 
         CreateTopicsResult createTopicsResult = getAdminClient().createTopics(newTopics);
         createTopicsResult.values().forEach((key, value) -> {
-            Topic createdTopic = topics.stream()
-                    .filter(t -> t.getMetadata().getName().equals(key))
-                    .findFirst()
-                    .get();
-
             try {
                 value.get(managedClusterProperties.getTimeout().getTopic().getCreate(), TimeUnit.MILLISECONDS);
-                createdTopic.getMetadata().setCreationTimestamp(Date.from(Instant.now()));
-                createdTopic.getMetadata().setGeneration(1);
-                createdTopic.setStatus(Topic.TopicStatus.ofSuccess("Topic created"));
+                mutations.put(key, createdTopic -> {
+                    createdTopic.getMetadata().setCreationTimestamp(Date.from(Instant.now()));
+                    createdTopic.getMetadata().setGeneration(1);
+                    createdTopic.setStatus(Topic.TopicStatus.ofSuccess("Topic created"));
+                });
                 log.info("Success creating topic {} on {}", key, managedClusterProperties.getName());
             } catch (InterruptedException e) {
                 log.error("Error", e);
                 Thread.currentThread().interrupt();
             } catch (Exception e) {
-                createdTopic.setStatus(Topic.TopicStatus.ofFailed("Error while creating topic: " + e.getMessage()));
+                mutations.put(
+                        key,
+                        createdTopic -> createdTopic.setStatus(
+                                Topic.TopicStatus.ofFailed("Error while creating topic: " + e.getMessage())));
                 log.error("Error while creating topic {} on {}", key, managedClusterProperties.getName(), e);
             }
-            topicRepository.create(createdTopic);
         });
+
+        try {
+            topicRepository.updateAll(topics, mutations);
+        } finally {
+            recordBatchDuration("create", sample);
+        }
+    }
+
+    /**
+     * Record the duration of a batch of topic operations, from the Admin request to the persisted statuses.
+     *
+     * @param operation The operation
+     * @param sample The sample started with the batch
+     */
+    private void recordBatchDuration(String operation, Timer.Sample sample) {
+        sample.stop(batchDurations.get(operation));
     }
 
     /**
@@ -605,12 +933,16 @@ public class TopicAsyncExecutor {
                                                                         tags.stream()
                                                                                 .map(TagTopicInfo::typeName)
                                                                                 .toList())));
-                                                topic.getMetadata()
-                                                        .setGeneration(topic.getMetadata()
-                                                                        .getGeneration()
-                                                                + 1);
-                                                topic.setStatus(Topic.TopicStatus.ofSuccess("Topic tags updated"));
-                                                topicRepository.create(topic);
+                                                topicRepository.update(topic, updatedTopic -> {
+                                                    updatedTopic
+                                                            .getMetadata()
+                                                            .setGeneration(updatedTopic
+                                                                            .getMetadata()
+                                                                            .getGeneration()
+                                                                    + 1);
+                                                    updatedTopic.setStatus(
+                                                            Topic.TopicStatus.ofSuccess("Topic tags updated"));
+                                                });
                                             }),
                                             error -> topicTagsMapping.forEach((topic, tags) -> {
                                                 log.error(
@@ -628,9 +960,12 @@ public class TopicAsyncExecutor {
                                                                                         .map(TagTopicInfo::typeName)
                                                                                         .toList())),
                                                         error);
-                                                topic.setStatus(Topic.TopicStatus.ofFailed(
-                                                        "Error while associating topic tags: " + error.getMessage()));
-                                                topicRepository.create(topic);
+                                                topicRepository.update(
+                                                        topic,
+                                                        updatedTopic -> updatedTopic.setStatus(
+                                                                Topic.TopicStatus.ofFailed(
+                                                                        "Error while associating topic tags: "
+                                                                                + error.getMessage())));
                                             }));
                         },
                         error -> log.error(String.format("Error creating tag %s.", tagsListString), error));
@@ -655,10 +990,12 @@ public class TopicAsyncExecutor {
                                     "Success dissociating tag %s.",
                                     managedClusterProperties.getConfig().getProperty(CLUSTER_ID) + ":"
                                             + topic.getMetadata().getName() + "/" + tag));
-                            topic.getMetadata()
-                                    .setGeneration(topic.getMetadata().getGeneration() + 1);
-                            topic.setStatus(Topic.TopicStatus.ofSuccess("Topic tags updated"));
-                            topicRepository.create(topic);
+                            topicRepository.update(topic, updatedTopic -> {
+                                updatedTopic
+                                        .getMetadata()
+                                        .setGeneration(updatedTopic.getMetadata().getGeneration() + 1);
+                                updatedTopic.setStatus(Topic.TopicStatus.ofSuccess("Topic tags updated"));
+                            });
                         },
                         error -> {
                             log.error(
@@ -667,9 +1004,10 @@ public class TopicAsyncExecutor {
                                             managedClusterProperties.getConfig().getProperty(CLUSTER_ID) + ":"
                                                     + topic.getMetadata().getName() + "/" + tag),
                                     error);
-                            topic.setStatus(Topic.TopicStatus.ofFailed(
-                                    "Error while dissociating topic tags: " + error.getMessage()));
-                            topicRepository.create(topic);
+                            topicRepository.update(
+                                    topic,
+                                    updatedTopic -> updatedTopic.setStatus(Topic.TopicStatus.ofFailed(
+                                            "Error while dissociating topic tags: " + error.getMessage())));
                         }));
     }
 
@@ -38,6 +38,7 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
+import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.kafka.clients.admin.ScramCredentialInfo;
 import org.apache.kafka.clients.admin.ScramMechanism;
@@ -56,6 +57,7 @@ public class UserAsyncExecutor {
 
     private static final String USER_QUOTA_PREFIX = "user/";
 
+    @Getter
     private final ManagedClusterProperties managedClusterProperties;
 
     private final AbstractUserSynchronizer userExecutor;
@@ -81,15 +83,24 @@ public class UserAsyncExecutor {
         }
     }
 
-    /** Run the user synchronization. */
-    public void run() {
+    /**
+     * Run the user synchronization.
+     *
+     * @return true if user quotas had to be created or updated, false otherwise
+     */
+    public boolean run() {
         if (this.managedClusterProperties.isManageUsers() && userExecutor.canSynchronizeQuotas()) {
-            synchronizeUsers();
+            return synchronizeUsers();
         }
+        return false;
     }
 
-    /** Start the user synchronization. */
-    public void synchronizeUsers() {
+    /**
+     * Start the user synchronization.
+     *
+     * @return true if user quotas had to be created or updated, false otherwise
+     */
+    public boolean synchronizeUsers() {
         log.debug("Starting user collection for cluster {}", managedClusterProperties.getName());
 
         // List user details from broker
@@ -117,6 +128,8 @@ public class UserAsyncExecutor {
 
         createUserQuotas(toCreate);
         createUserQuotas(toUpdate);
+
+        return !toCreate.isEmpty() || !toUpdate.isEmpty();
     }
 
     /**
@@ -0,0 +1,330 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.michelin.ns4kafka.util;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Radix trie mapping string keys to sets of values. The edges are compressed, so a lookup costs the length of the
+ * looked up string whatever the number of keys. Not thread-safe.
+ *
+ * @param <V> The type of the values
+ */
+public class PrefixTrie<V> {
+    private final Node<V> root = new Node<>("");
+    private int size;
+
+    /**
+     * Add a value to a key.
+     *
+     * @param key The key
+     * @param value The value
+     * @return true if the value was not already mapped to the key, false otherwise
+     */
+    public boolean put(String key, V value) {
+        Node<V> node = root;
+        int offset = 0;
+        while (offset < key.length()) {
+            Node<V> child = node.child(key.charAt(offset));
+            if (child == null) {
+                child = new Node<>(key.substring(offset));
+                node.addChild(child);
+                node = child;
+                break;
+            }
+
+            int common = commonPrefixLength(child.label, key, offset);
+            if (common < child.label.length()) {
+                Node<V> middle = new Node<>(child.label.substring(0, common));
+                child.label = child.label.substring(common);
+                middle.addChild(child);
+                node.addChild(middle);
+                child = middle;
+            }
+
+            node = child;
+            offset += common;
+        }
+
+        if (node.values == null) {
+            node.values = new HashSet<>(1);
+        }
+
+        boolean added = node.values.add(value);
+        if (added) {
+            size++;
+        }
+        return added;
+    }
+
+    /**
+     * Remove a value from a key.
+     *
+     * @param key The key
+     * @param value The value
+     * @return true if the value was mapped to the key, false otherwise
+     */
+    public boolean remove(String key, V value) {
+        List<Node<V>> path = new ArrayList<>();
+        Node<V> node = root;
+        path.add(node);
+        int offset = 0;
+        while (offset < key.length()) {
+            node = node.child(key.charAt(offset));
+            if (node == null || !key.startsWith(node.label, offset)) {
+                return false;
+            }
+
+            path.add(node);
+            offset += node.label.length();
+        }
+
+        if (node.values == null || !node.values.remove(value)) {
+            return false;
+        }
+
+        size--;
+        compact(path);
+        return true;
+    }
+
+    /**
+     * Get the values of a key.
+     *
+     * @param key The key
+     * @return The values mapped to the key, empty if none
+     */
+    public Set<V> get(String key) {
+        Node<V> node = root;
+        int offset = 0;
+        while (offset < key.length()) {
+            node = node.child(key.charAt(offset));
+            if (node == null || !key.startsWith(node.label, offset)) {
+                return Collections.emptySet();
+            }
+
+            offset += node.label.length();
+        }
+
+        return node.values == null ? Collections.emptySet() : Collections.unmodifiableSet(node.values);
+    }
+
+    /**
+     * Visit the values of all the keys that are a prefix of the given string, the string itself included.
+     *
+     * @param name The string
+     * @param action The action to apply to each value
+     */
+    public void forEachPrefixOf(String name, Consumer<? super V> action) {
+        Node<V> node = root;
+        node.forEachValue(action);
+        int offset = 0;
+        while (offset < name.length()) {
+            node = node.child(name.charAt(offset));
+            if (node == null || !name.startsWith(node.label, offset)) {
+                return;
+            }
+
+            node.forEachValue(action);
+            offset += node.label.length();
+        }
+    }
+
+    /**
+     * Visit the values of all the keys starting with the given prefix, the prefix itself included.
+     *
+     * @param prefix The prefix
+     * @param action The action to apply to each value
+     */
+    public void forEachWithPrefix(String prefix, Consumer<? super V> action) {
+        Node<V> node = root;
+        int offset = 0;
+        while (offset < prefix.length()) {
+            node = node.child(prefix.charAt(offset));
+            int remaining = prefix.length() - offset;
+            if (node == null
+                    || !node.label.regionMatches(
+                            0, prefix, offset, Math.min(remaining, node.label.length()))) {
+                return;
+            }
+
+            offset += node.label.length();
+        }
+
+        forEachInSubtree(node, action);
+    }
+
+    /**
+     * Visit the values of all the keys that are a prefix of the given key or start with it, in a single walk down the
+     * key.
+     *
+     * @param key The key
+     * @param action The action to apply to each value
+     */
+    public void forEachRelatedTo(String key, Consumer<? super V> action) {
+        Node<V> node = root;
+        int offset = 0;
+        while (offset < key.length()) {
+            node.forEachValue(action);
+            node = node.child(key.charAt(offset));
+            int remaining = key.length() - offset;
+            if (node == null
+                    || !node.label.regionMatches(
+                            0, key, offset, Math.min(remaining, node.label.length()))) {
+                return;
+            }
+
+            offset += node.label.length();
+        }
+
+        forEachInSubtree(node, action);
+    }
+
+    /**
+     * Get the number of key-value mappings.
+     *
+     * @return The number of mappings
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Is the trie empty.
+     *
+     * @return true if it is, false otherwise
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Remove the nodes left useless by a removal, from the removed key up to the root: the empty leaves are dropped
+     * and a node left with a single child and no value is merged with it.
+     *
+     * @param path The nodes from the root to the removed key
+     */
+    private void compact(List<Node<V>> path) {
+        for (int i = path.size() - 1; i > 0; i--) {
+            Node<V> node = path.get(i);
+            if (node.hasValues()) {
+                return;
+            }
+
+            if (node.children == null || node.children.isEmpty()) {
+                path.get(i - 1).removeChild(node);
+                continue;
+            }
+
+            if (node.children.size() == 1) {
+                Node<V> child = node.children.values().iterator().next();
+                node.label = node.label + child.label;
+                node.children = child.children;
+                node.values = child.values;
+            }
+            return;
+        }
+    }
+
+    /**
+     * Visit the values of a node and of all its descendants.
+     *
+     * @param node The node
+     * @param action The action to apply to each value
+     */
+    private static <V> void forEachInSubtree(Node<V> node, Consumer<? super V> action) {
+        Deque<Node<V>> pending = new ArrayDeque<>();
+        pending.push(node);
+        while (!pending.isEmpty()) {
+            Node<V> current = pending.pop();
+            current.forEachValue(action);
+            if (current.children != null) {
+                current.children.values().forEach(pending::push);
+            }
+        }
+    }
+
+    /**
+     * Get the length of the common prefix of a label and a key from a given offset.
+     *
+     * @param label The label
+     * @param key The key
+     * @param offset The offset in the key
+     * @return The common prefix length
+     */
+    private static int commonPrefixLength(String label, String key, int offset) {
+        int max = Math.min(label.length(), key.length() - offset);
+        int length = 0;
+        while (length < max && label.charAt(length) == key.charAt(offset + length)) {
+            length++;
+        }
+        return length;
+    }
+
+    /**
+     * Trie node. The children and the values are allocated on first use, as most nodes have either one or the other.
+     *
+     * @param <V> The type of the values
+     */
+    private static final class Node<V> {
+        private String label;
+        private Map<Character, Node<V>> children;
+        private Set<V> values;
+
+        private Node(String label) {
+            this.label = label;
+        }
+
+        private Node<V> child(char first) {
+            return children == null ? null : children.get(first);
+        }
+
+        private void addChild(Node<V> child) {
+            if (children == null) {
+                children = new HashMap<>(4);
+            }
+            children.put(child.label.charAt(0), child);
+        }
+
+        private void removeChild(Node<V> child) {
+            if (children != null) {
+                children.remove(child.label.charAt(0));
+            }
+        }
+
+        private boolean hasValues() {
+            return values != null && !values.isEmpty();
+        }
+
+        private void forEachValue(Consumer<? super V> action) {
+            if (values != null) {
+                values.forEach(action);
+            }
+        }
+    }
+}
@@ -478,7 +478,7 @@ class ConnectorControllerTest {
         when(securityService.username()).thenReturn(Optional.of("test-user"));
         when(securityService.hasRole(ResourceBasedSecurityRule.IS_ADMIN)).thenReturn(false);
         doNothing().when(applicationEventPublisher).publishEvent(any());
-        when(connectorService.createOrUpdate(connector)).thenReturn(expected);
+        when(connectorService.createOrUpdateAsync(connector)).thenReturn(Mono.just(expected));
 
         StepVerifier.create(connectorController.apply("test", connector, false))
                 .consumeNextWith(response -> {
@@ -566,7 +566,7 @@ class ConnectorControllerTest {
                 })
                 .verifyComplete();
 
-        verify(connectorService, never()).createOrUpdate(ArgumentMatchers.any());
+        verify(connectorService, never()).createOrUpdateAsync(ArgumentMatchers.any());
     }
 
     @Test
@@ -608,7 +608,7 @@ class ConnectorControllerTest {
         when(securityService.username()).thenReturn(Optional.of("test-user"));
         when(securityService.hasRole(ResourceBasedSecurityRule.IS_ADMIN)).thenReturn(false);
         doNothing().when(applicationEventPublisher).publishEvent(any());
-        when(connectorService.createOrUpdate(connector)).thenReturn(expected);
+        when(connectorService.createOrUpdateAsync(connector)).thenReturn(Mono.just(expected));
 
         StepVerifier.create(connectorController.apply("test", connector, false))
                 .consumeNextWith(response -> {
@@ -641,7 +641,7 @@ class ConnectorControllerTest {
                 .consumeNextWith(response -> assertEquals("created", response.header("X-Ns4kafka-Result")))
                 .verifyComplete();
 
-        verify(connectorService, never()).createOrUpdate(connector);
+        verify(connectorService, never()).createOrUpdateAsync(connector);
     }
 
     @Test
@@ -661,8 +661,8 @@ class ConnectorControllerTest {
         when(namespaceService.findByName("test")).thenReturn(Optional.of(ns));
         when(connectorService.listUnsynchronizedConnectors(ns))
                 .thenReturn(Flux.fromIterable(List.of(connector1, connector2)));
-        when(connectorService.createOrUpdate(connector1)).thenReturn(connector1);
-        when(connectorService.createOrUpdate(connector2)).thenReturn(connector2);
+        when(connectorService.createOrUpdateAsync(connector1)).thenReturn(Mono.just(connector1));
+        when(connectorService.createOrUpdateAsync(connector2)).thenReturn(Mono.just(connector2));
 
         StepVerifier.create(connectorController.importResources("test", false))
                 .consumeNextWith(connect1 ->
@@ -699,9 +699,9 @@ class ConnectorControllerTest {
                         assertEquals("connect2", connect2.getMetadata().getName()))
                 .verifyComplete();
 
-        verify(connectorService, never()).createOrUpdate(connector1);
-        verify(connectorService, never()).createOrUpdate(connector2);
-        verify(connectorService, never()).createOrUpdate(connector3);
+        verify(connectorService, never()).createOrUpdateAsync(connector1);
+        verify(connectorService, never()).createOrUpdateAsync(connector2);
+        verify(connectorService, never()).createOrUpdateAsync(connector3);
     }
 
     @Test
@@ -0,0 +1,197 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.michelin.ns4kafka.repository.kafka;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.michelin.ns4kafka.model.AccessControlEntry;
+import com.michelin.ns4kafka.model.Metadata;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+class AccessControlEntryOwnerIndexTest {
+    @Test
+    void shouldFindOwnersOfResource() {
+        AccessControlEntryOwnerIndex index = new AccessControlEntryOwnerIndex();
+        index.update("ns1/prefixed", null, buildAcl(
+                "local",
+                AccessControlEntry.ResourceType.TOPIC,
+                AccessControlEntry.ResourcePatternType.PREFIXED,
+                AccessControlEntry.Permission.OWNER,
+                "app1."));
+        index.update("ns2/literal", null, buildAcl(
+                "local",
+                AccessControlEntry.ResourceType.TOPIC,
+                AccessControlEntry.ResourcePatternType.LITERAL,
+                AccessControlEntry.Permission.OWNER,
+                "app1.topic"));
+        index.update("ns3/other-cluster", null, buildAcl(
+                "other",
+                AccessControlEntry.ResourceType.TOPIC,
+                AccessControlEntry.ResourcePatternType.PREFIXED,
+                AccessControlEntry.Permission.OWNER,
+                "app1."));
+        index.update("ns4/connect", null, buildAcl(
+                "local",
+                AccessControlEntry.ResourceType.CONNECT,
+                AccessControlEntry.ResourcePatternType.PREFIXED,
+                AccessControlEntry.Permission.OWNER,
+                "app1."));
+        index.update("ns5/read", null, buildAcl(
+                "local",
+                AccessControlEntry.ResourceType.TOPIC,
+                AccessControlEntry.ResourcePatternType.PREFIXED,
+                AccessControlEntry.Permission.READ,
+                "app1."));
+
+        assertEquals(
+                Set.of("ns1/prefixed", "ns2/literal"),
+                index.findOwnerKeys("local", AccessControlEntry.ResourceType.TOPIC, "app1.topic"));
+        assertEquals(
+                Set.of("ns1/prefixed"),
+                index.findOwnerKeys("local", AccessControlEntry.ResourceType.TOPIC, "app1.topic2"));
+        assertEquals(Set.of(), index.findOwnerKeys("local", AccessControlEntry.ResourceType.TOPIC, "app2.topic"));
+        assertEquals(Set.of(), index.findOwnerKeys("unknown", AccessControlEntry.ResourceType.TOPIC, "app1.topic"));
+        assertEquals(
+                Set.of("ns4/connect"),
+                index.findOwnerKeys("local", AccessControlEntry.ResourceType.CONNECT, "app1.connector"));
+    }
+
+    @Test
+    void shouldUpdateOwnersOnChangesAndTombstones() {
+        AccessControlEntryOwnerIndex index = new AccessControlEntryOwnerIndex();
+        AccessControlEntry prefixed = buildAcl(
+                "local",
+                AccessControlEntry.ResourceType.TOPIC,
+                AccessControlEntry.ResourcePatternType.PREFIXED,
+                AccessControlEntry.Permission.OWNER,
+                "app1.");
+        AccessControlEntry literal = buildAcl(
+                "local",
+                AccessControlEntry.ResourceType.TOPIC,
+                AccessControlEntry.ResourcePatternType.LITERAL,
+                AccessControlEntry.Permission.OWNER,
+                "app1.topic");
+
+        index.update("ns1/acl", null, prefixed);
+        index.update("ns1/acl", prefixed, literal);
+
+        assertEquals(
+                Set.of("ns1/acl"), index.findOwnerKeys("local", AccessControlEntry.ResourceType.TOPIC, "app1.topic"));
+        assertEquals(Set.of(), index.findOwnerKeys("local", AccessControlEntry.ResourceType.TOPIC, "app1.topic2"));
+
+        index.update("ns1/acl", literal, null);
+
+        assertEquals(Set.of(), index.findOwnerKeys("local", AccessControlEntry.ResourceType.TOPIC, "app1.topic"));
+    }
+
+    @Test
+    void shouldFindOwnersRelatedToResource() {
+        AccessControlEntryOwnerIndex index = new AccessControlEntryOwnerIndex();
+        index.update("ns1/prefixed", null, buildAcl(
+                "local",
+                AccessControlEntry.ResourceType.TOPIC,
+                AccessControlEntry.ResourcePatternType.PREFIXED,
+                AccessControlEntry.Permission.OWNER,
+                "project1."));
+        index.update("ns2/literal", null, buildAcl(
+                "local",
+                AccessControlEntry.ResourceType.TOPIC,
+                AccessControlEntry.ResourcePatternType.LITERAL,
+                AccessControlEntry.Permission.OWNER,
+                "project2_t1"));
+        index.update("ns3/connect", null, buildAcl(
+                "local",
+                AccessControlEntry.ResourceType.CONNECT,
+                AccessControlEntry.ResourcePatternType.PREFIXED,
+                AccessControlEntry.Permission.OWNER,
+                "project1."));
+
+        assertEquals(
+                Set.of("ns1/prefixed"),
+                index.findRelatedOwnerKeys("local", AccessControlEntry.ResourceType.TOPIC, "project1_sub"));
+        assertEquals(
+                Set.of("ns1/prefixed", "ns2/literal"),
+                index.findRelatedOwnerKeys("local", AccessControlEntry.ResourceType.TOPIC, "proj"));
+        assertEquals(
+                Set.of("ns2/literal"),
+                index.findRelatedOwnerKeys("local", AccessControlEntry.ResourceType.TOPIC, "project2.t1"));
+        assertEquals(
+                Set.of(), index.findRelatedOwnerKeys("local", AccessControlEntry.ResourceType.TOPIC, "project3"));
+        assertEquals(
+                Set.of(),
+                index.findRelatedOwnerKeys("local", AccessControlEntry.ResourceType.CONNECT, "project1_sub"));
+
+        index.update("ns1/prefixed", buildAcl(
+                "local",
+                AccessControlEntry.ResourceType.TOPIC,
+                AccessControlEntry.ResourcePatternType.PREFIXED,
+                AccessControlEntry.Permission.OWNER,
+                "project1."), null);
+
+        assertEquals(
+                Set.of(), index.findRelatedOwnerKeys("local", AccessControlEntry.ResourceType.TOPIC, "project1_sub"));
+    }
+
+    @Test
+    void shouldCheckOwnerOfResource() {
+        AccessControlEntry prefixed = buildAcl(
+                "local",
+                AccessControlEntry.ResourceType.TOPIC,
+                AccessControlEntry.ResourcePatternType.PREFIXED,
+                AccessControlEntry.Permission.OWNER,
+                "app1.");
+
+        assertTrue(AccessControlEntryOwnerIndex.isOwnerOf(
+                prefixed, "local", AccessControlEntry.ResourceType.TOPIC, "app1.topic"));
+        assertFalse(AccessControlEntryOwnerIndex.isOwnerOf(
+                prefixed, "other", AccessControlEntry.ResourceType.TOPIC, "app1.topic"));
+        assertFalse(AccessControlEntryOwnerIndex.isOwnerOf(
+                prefixed, "local", AccessControlEntry.ResourceType.GROUP, "app1.topic"));
+        assertFalse(AccessControlEntryOwnerIndex.isOwnerOf(
+                prefixed, "local", AccessControlEntry.ResourceType.TOPIC, "app2.topic"));
+
+        assertTrue(AccessControlEntryOwnerIndex.isRelatedTo(
+                prefixed, "local", AccessControlEntry.ResourceType.TOPIC, "app1_topic"));
+        assertTrue(AccessControlEntryOwnerIndex.isRelatedTo(
+                prefixed, "local", AccessControlEntry.ResourceType.TOPIC, "app"));
+        assertFalse(AccessControlEntryOwnerIndex.isRelatedTo(
+                prefixed, "local", AccessControlEntry.ResourceType.TOPIC, "app2"));
+    }
+
+    private static AccessControlEntry buildAcl(
+            String cluster,
+            AccessControlEntry.ResourceType resourceType,
+            AccessControlEntry.ResourcePatternType resourcePatternType,
+            AccessControlEntry.Permission permission,
+            String resource) {
+        return AccessControlEntry.builder()
+                .metadata(Metadata.builder().cluster(cluster).build())
+                .spec(AccessControlEntry.AccessControlEntrySpec.builder()
+                        .resourceType(resourceType)
+                        .resourcePatternType(resourcePatternType)
+                        .permission(permission)
+                        .resource(resource)
+                        .grantedTo("namespace")
+                        .build())
+                .build();
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.michelin.ns4kafka.repository.kafka;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.michelin.ns4kafka.model.Metadata;
+import com.michelin.ns4kafka.model.Namespace;
+import com.michelin.ns4kafka.repository.NamespaceRepository;
+import io.micronaut.context.ApplicationContext;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.apache.kafka.clients.admin.OffsetSpec;
+import org.apache.kafka.clients.producer.Producer;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.junit.jupiter.api.Test;
+
+class InMemoryStoreBackendTest {
+    private static final String TOPIC = "ns4kafka.test";
+
+    @Test
+    void shouldHandRecordsBackToTheStoreInOrder() throws Exception {
+        InMemoryStoreBackend backend = new InMemoryStoreBackend();
+        KafkaStore<String> store = new KafkaStore<>(TOPIC, null) {
+            @Override
+            String getMessageKey(String message) {
+                return message;
+            }
+        };
+        Producer<String, String> producer = backend.getProducer(store, null);
+
+        assertEquals(0, producer.send(new ProducerRecord<>(TOPIC, "key1", "value1")).get().offset());
+        assertEquals(1, producer.send(new ProducerRecord<>(TOPIC, "key2", "value2")).get().offset());
+        assertEquals(2, producer.send(new ProducerRecord<>(TOPIC, "key1", null)).get().offset());
+
+        long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(5);
+        while (store.getOffset() < 2 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+
+        assertEquals(2, store.getOffset());
+        assertEquals(1, store.getKafkaStore().size());
+        assertEquals("value2", store.getKafkaStore().get("key2"));
+        assertEquals(0, backend.listOffset(TOPIC, OffsetSpec.earliest()).get());
+        assertEquals(3, backend.listOffset(TOPIC, OffsetSpec.latest()).get());
+
+        backend.close();
+    }
+
+    @Test
+    void shouldStartEmpty() throws Exception {
+        InMemoryStoreBackend backend = new InMemoryStoreBackend();
+
+        assertEquals(0, backend.listOffset(TOPIC, OffsetSpec.latest()).get());
+    }
+
+    @Test
+    void shouldNotStartStoreListenersWithMemoryBackend() {
+        try (ApplicationContext context = ApplicationContext.builder()
+                .deduceEnvironment(false)
+                .properties(Map.of("ns4kafka.store.kafka.backend", "memory"))
+                .start()) {
+            assertTrue(context.getBeansOfType(KafkaStoreListener.class).isEmpty());
+
+            NamespaceRepository namespaceRepository = context.getBean(NamespaceRepository.class);
+            namespaceRepository.createNamespace(Namespace.builder()
+                    .metadata(Metadata.builder().name("namespace").cluster("local").build())
+                    .spec(Namespace.NamespaceSpec.builder().kafkaUser("user").build())
+                    .build());
+
+            assertTrue(namespaceRepository.findByName("namespace").isPresent());
+        }
+    }
+
+    @Test
+    void shouldRejectTransactions() {
+        InMemoryStoreBackend backend = new InMemoryStoreBackend();
+        KafkaStore<String> store = new KafkaStore<>(TOPIC, null) {
+            @Override
+            String getMessageKey(String message) {
+                return message;
+            }
+        };
+
+        Producer<String, String> producer = backend.getProducer(store, null);
+
+        assertThrows(UnsupportedOperationException.class, producer::beginTransaction);
+        assertTrue(producer.toString().contains(TOPIC));
+        backend.close();
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.michelin.ns4kafka.repository.kafka;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.michelin.ns4kafka.model.Metadata;
+import com.michelin.ns4kafka.model.Topic;
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class KafkaStoreCanonicalizerTest {
+    @Test
+    void shouldCanonicalizeMetadataStrings() {
+        KafkaStoreCanonicalizer canonicalizer = new KafkaStoreCanonicalizer(10, 10);
+
+        Topic topic1 = topic(new String("local"), new String("namespace"));
+        Topic topic2 = topic(new String("local"), new String("namespace"));
+        canonicalizer.canonicalizeMetadata(topic1);
+        canonicalizer.canonicalizeMetadata(topic2);
+
+        assertSame(topic1.getMetadata().getCluster(), topic2.getMetadata().getCluster());
+        assertSame(topic1.getMetadata().getNamespace(), topic2.getMetadata().getNamespace());
+        assertEquals(2, canonicalizer.getCanonicalStrings());
+        assertEquals(2, canonicalizer.getSharedReferences());
+        assertTrue(canonicalizer.getSavedBytes() > 0);
+    }
+
+    @Test
+    void shouldShareIdenticalConfigs() {
+        KafkaStoreCanonicalizer canonicalizer = new KafkaStoreCanonicalizer(10, 10);
+
+        Map<String, String> configs1 = canonicalizer.canonicalize(configs("delete"));
+        Map<String, String> configs2 = canonicalizer.canonicalize(configs("delete"));
+        Map<String, String> configs3 = canonicalizer.canonicalize(configs("compact"));
+
+        assertSame(configs1, configs2);
+        assertNotSame(configs1, configs3);
+        assertEquals(configs("delete"), configs1);
+        assertEquals(2, canonicalizer.getSharedConfigs());
+        assertEquals(2, canonicalizer.getCanonicalStrings());
+        assertThrows(UnsupportedOperationException.class, () -> configs1.put("retention.ms", "1"));
+        assertNull(canonicalizer.canonicalize((Map<String, String>) null));
+    }
+
+    @Test
+    void shouldNotCanonicalizeConfigValues() {
+        KafkaStoreCanonicalizer canonicalizer = new KafkaStoreCanonicalizer(10, 10);
+
+        Map<String, String> configs = canonicalizer.canonicalize(configs("delete"));
+
+        assertEquals(2, canonicalizer.getCanonicalStrings());
+        assertNotSame("delete", configs.get("cleanup.policy"));
+    }
+
+    @Test
+    void shouldReleaseCanonicalInstances() {
+        KafkaStoreCanonicalizer canonicalizer = new KafkaStoreCanonicalizer(10, 10);
+
+        Map<String, String> configs1 = canonicalizer.canonicalize(configs("delete"));
+        Map<String, String> configs2 = canonicalizer.canonicalize(configs("delete"));
+        long savedBytes = canonicalizer.getSavedBytes();
+        assertTrue(savedBytes > 0);
+
+        canonicalizer.release(configs1);
+        assertEquals(1, canonicalizer.getSharedConfigs());
+        assertEquals(0, canonicalizer.getSharedReferences());
+        assertEquals(0, canonicalizer.getSavedBytes());
+
+        canonicalizer.release(configs2);
+        assertEquals(0, canonicalizer.getSharedConfigs());
+        assertEquals(0, canonicalizer.getCanonicalStrings());
+        assertEquals(0, canonicalizer.getCanonicalBytes());
+    }
+
+    @Test
+    void shouldShareConfigsAgainOnceReleased() {
+        KafkaStoreCanonicalizer canonicalizer = new KafkaStoreCanonicalizer(10, 1);
+
+        Map<String, String> deleteConfigs = canonicalizer.canonicalize(configs("delete"));
+        Map<String, String> configs1 = canonicalizer.canonicalize(configs("compact"));
+        Map<String, String> configs2 = canonicalizer.canonicalize(configs("compact"));
+
+        assertNotSame(configs1, configs2);
+        assertEquals(configs1, configs2);
+        assertEquals(1, canonicalizer.getSharedConfigs());
+
+        // Releasing a map that was not shared leaves the shared ones unchanged
+        canonicalizer.release(configs1);
+        assertEquals(1, canonicalizer.getSharedConfigs());
+
+        canonicalizer.release(deleteConfigs);
+        Map<String, String> configs3 = canonicalizer.canonicalize(configs("compact"));
+        Map<String, String> configs4 = canonicalizer.canonicalize(configs("compact"));
+
+        assertSame(configs3, configs4);
+    }
+
+    private static Topic topic(String cluster, String namespace) {
+        return Topic.builder()
+                .metadata(Metadata.builder()
+                        .name("prefix.topic")
+                        .cluster(cluster)
+                        .namespace(namespace)
+                        .build())
+                .build();
+    }
+
+    private static Map<String, String> configs(String cleanupPolicy) {
+        Map<String, String> configs = new HashMap<>();
+        configs.put(new String("cleanup.policy"), new String(cleanupPolicy));
+        configs.put(new String("retention.ms"), new String("604800000"));
+        return configs;
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.michelin.ns4kafka.repository.kafka;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.micronaut.context.ApplicationContext;
+import io.micronaut.http.HttpRequest;
+import io.micronaut.http.MutableHttpRequest;
+import io.micronaut.http.context.ServerRequestContext;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class KafkaStoreConsistencyTokenTest {
+    @Test
+    void shouldEncodeAndParseToken() {
+        KafkaStoreConsistencyToken token = new KafkaStoreConsistencyToken();
+        token.advance("ns4kafka.topics", 12);
+        token.advance("ns4kafka.access-control-entries", 40);
+
+        KafkaStoreConsistencyToken parsed = KafkaStoreConsistencyToken.parse(token.encode());
+
+        assertEquals(12, parsed.getOffset("ns4kafka.topics"));
+        assertEquals(40, parsed.getOffset("ns4kafka.access-control-entries"));
+        assertEquals(-1, parsed.getOffset("ns4kafka.namespaces"));
+        assertEquals(token.encode(), parsed.encode());
+    }
+
+    @Test
+    void shouldOnlyMoveOffsetsForward() {
+        KafkaStoreConsistencyToken token = new KafkaStoreConsistencyToken();
+        assertTrue(token.isEmpty());
+
+        token.advance("ns4kafka.topics", 12);
+        token.advance("ns4kafka.topics", 5);
+
+        assertEquals(12, token.getOffset("ns4kafka.topics"));
+    }
+
+    @Test
+    void shouldRejectMalformedToken() {
+        assertThrows(IllegalArgumentException.class, () -> KafkaStoreConsistencyToken.parse("not base64!"));
+        assertThrows(IllegalArgumentException.class, () -> KafkaStoreConsistencyToken.parse(encode("ns4kafka.topics")));
+        assertThrows(
+                IllegalArgumentException.class, () -> KafkaStoreConsistencyToken.parse(encode("ns4kafka.topics:abc")));
+    }
+
+    @Test
+    void shouldIgnoreOffsetBeyondTheEndOfTheStoreTopic() {
+        try (ApplicationContext context = ApplicationContext.builder()
+                .deduceEnvironment(false)
+                .properties(Map.of("ns4kafka.store.kafka.backend", "memory"))
+                .start()) {
+            KafkaNamespaceRepository namespaceRepository = context.getBean(KafkaNamespaceRepository.class);
+            KafkaStoreConsistencyToken token = new KafkaStoreConsistencyToken();
+            token.advance(namespaceRepository.getKafkaTopic(), Long.MAX_VALUE);
+            MutableHttpRequest<?> request = HttpRequest.GET("/api/namespaces");
+            request.setAttribute(KafkaStoreConsistencyToken.ATTRIBUTE, token);
+
+            ServerRequestContext.with(request, () -> assertTrue(namespaceRepository.findByName("namespace").isEmpty()));
+        }
+    }
+
+    private static String encode(String decoded) {
+        return Base64.getUrlEncoder().encodeToString(decoded.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,165 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.michelin.ns4kafka.repository.kafka;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class KafkaStoreEventBusTest {
+    private static final String TOPIC = "ns4kafka.topics";
+
+    @Test
+    void shouldBuildChangeEvents() {
+        assertEquals(
+                KafkaStoreChangeEvent.Type.CREATED,
+                KafkaStoreChangeEvent.of(TOPIC, "key", null, "value", 0).type());
+        assertEquals(
+                KafkaStoreChangeEvent.Type.UPDATED,
+                KafkaStoreChangeEvent.of(TOPIC, "key", "old", "value", 1).type());
+        assertEquals(
+                KafkaStoreChangeEvent.Type.DELETED,
+                KafkaStoreChangeEvent.of(TOPIC, "key", "old", null, 2).type());
+        assertNull(KafkaStoreChangeEvent.of(TOPIC, "key", null, null, 3));
+    }
+
+    @Test
+    void shouldDeliverChangesInOrder() throws Exception {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        KafkaStoreEventBus<String> eventBus = new KafkaStoreEventBus<>(TOPIC, meterRegistry);
+        assertFalse(eventBus.hasSubscribers());
+
+        List<String> keys = new CopyOnWriteArrayList<>();
+        CountDownLatch latch = new CountDownLatch(3);
+        try (AutoCloseable subscription = eventBus.subscribe("test", 10, event -> {
+            keys.add(event.key());
+            latch.countDown();
+        })) {
+            assertTrue(eventBus.hasSubscribers());
+
+            eventBus.publish(KafkaStoreChangeEvent.of(TOPIC, "key1", null, "value1", 0));
+            eventBus.publish(KafkaStoreChangeEvent.of(TOPIC, "key2", null, "value2", 1));
+            eventBus.publish(KafkaStoreChangeEvent.of(TOPIC, "key1", "value1", null, 2));
+
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+            assertEquals(List.of("key1", "key2", "key1"), keys);
+        }
+
+        assertFalse(eventBus.hasSubscribers());
+    }
+
+    @Test
+    void shouldAwaitSubscriberIdle() throws Exception {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        KafkaStoreEventBus<String> eventBus = new KafkaStoreEventBus<>(TOPIC, meterRegistry);
+
+        CountDownLatch blocked = new CountDownLatch(1);
+        List<String> keys = new CopyOnWriteArrayList<>();
+        try (KafkaStoreSubscription subscription = eventBus.subscribe("test", 10, event -> {
+            try {
+                blocked.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            keys.add(event.key());
+        })) {
+            assertTrue(subscription.awaitIdle(Duration.ZERO));
+
+            eventBus.publish(KafkaStoreChangeEvent.of(TOPIC, "key1", null, "value1", 0));
+            eventBus.publish(KafkaStoreChangeEvent.of(TOPIC, "key2", null, "value2", 1));
+            assertFalse(subscription.awaitIdle(Duration.ofMillis(10)));
+
+            blocked.countDown();
+            assertTrue(subscription.awaitIdle(Duration.ofSeconds(5)));
+            assertEquals(List.of("key1", "key2"), keys);
+        }
+    }
+
+    @Test
+    void shouldDropChangesAndNotifyOverflowWhenQueueIsFull() throws Exception {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        KafkaStoreEventBus<String> eventBus = new KafkaStoreEventBus<>(TOPIC, meterRegistry);
+
+        CountDownLatch blocked = new CountDownLatch(1);
+        CountDownLatch overflow = new CountDownLatch(1);
+        eventBus.subscribe("slow", 1, new KafkaStoreSubscriber<>() {
+            @Override
+            public void onChange(KafkaStoreChangeEvent<String> event) {
+                try {
+                    blocked.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+
+            @Override
+            public void onOverflow() {
+                overflow.countDown();
+            }
+        });
+
+        for (int i = 0; i < 10; i++) {
+            eventBus.publish(KafkaStoreChangeEvent.of(TOPIC, "key" + i, null, "value", i));
+        }
+
+        assertTrue(meterRegistry
+                        .get("ns4kafka.store.subscriber.dropped")
+                        .tag("subscriber", "slow")
+                        .counter()
+                        .count()
+                >= 8);
+
+        blocked.countDown();
+        assertTrue(overflow.await(5, TimeUnit.SECONDS));
+        eventBus.close();
+    }
+
+    @Test
+    void shouldNotifySubscriberWhenItFailsToHandleChange() throws Exception {
+        KafkaStoreEventBus<String> eventBus = new KafkaStoreEventBus<>(TOPIC, new SimpleMeterRegistry());
+
+        CountDownLatch overflow = new CountDownLatch(1);
+        KafkaStoreSubscription subscription = eventBus.subscribe("failing", 10, new KafkaStoreSubscriber<>() {
+            @Override
+            public void onChange(KafkaStoreChangeEvent<String> event) {
+                throw new IllegalStateException("failure");
+            }
+
+            @Override
+            public void onOverflow() {
+                overflow.countDown();
+            }
+        });
+
+        eventBus.publish(KafkaStoreChangeEvent.of(TOPIC, "key", null, "value", 0));
+
+        assertTrue(overflow.await(5, TimeUnit.SECONDS));
+        assertTrue(subscription.awaitIdle(Duration.ofSeconds(5)));
+        eventBus.close();
+    }
+}
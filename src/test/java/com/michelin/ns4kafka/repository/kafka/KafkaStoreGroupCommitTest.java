@@ -0,0 +1,148 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.michelin.ns4kafka.repository.kafka;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.kafka.clients.producer.Producer;
+import org.apache.kafka.clients.producer.RecordMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class KafkaStoreGroupCommitTest {
+    private static final String TOPIC = "ns4kafka.topics";
+
+    @Mock
+    Producer<String, String> kafkaProducer;
+
+    KafkaStoreGroupCommit<String> groupCommit;
+
+    @AfterEach
+    void tearDown() {
+        if (groupCommit != null) {
+            groupCommit.close();
+        }
+    }
+
+    @Test
+    void shouldWaitOnceForHighestOffsetOfBatch() throws Exception {
+        AtomicLong nextOffset = new AtomicLong();
+        when(kafkaProducer.send(any()))
+                .thenAnswer(invocation -> CompletableFuture.completedFuture(
+                        new RecordMetadata(new TopicPartition(TOPIC, 0), nextOffset.getAndIncrement(), 0, 0, 0, 0)));
+
+        List<Long> waitedOffsets = new ArrayList<>();
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        groupCommit = new KafkaStoreGroupCommit<>(
+                TOPIC, kafkaProducer, waitedOffsets::add, 10, 500, 1000, meterRegistry);
+
+        CompletableFuture<Long> first = groupCommit.submit("key1", "value1");
+        CompletableFuture<Long> second = groupCommit.submit("key2", "value2");
+        CompletableFuture<Long> third = groupCommit.submit("key3", null);
+
+        assertEquals(0L, first.get(5, TimeUnit.SECONDS));
+        assertEquals(1L, second.get(5, TimeUnit.SECONDS));
+        assertEquals(2L, third.get(5, TimeUnit.SECONDS));
+        assertEquals(List.of(2L), waitedOffsets);
+        assertEquals(
+                3.0,
+                meterRegistry
+                        .get("ns4kafka.store.group.commit.batch.size")
+                        .tag("topic", TOPIC)
+                        .summary()
+                        .totalAmount());
+        assertEquals(
+                1L,
+                meterRegistry
+                        .get("ns4kafka.store.group.commit.latency")
+                        .tag("topic", TOPIC)
+                        .timer()
+                        .count());
+    }
+
+    @Test
+    void shouldSplitBatchesOnMaxBatchSize() throws Exception {
+        AtomicLong nextOffset = new AtomicLong();
+        when(kafkaProducer.send(any()))
+                .thenAnswer(invocation -> CompletableFuture.completedFuture(
+                        new RecordMetadata(new TopicPartition(TOPIC, 0), nextOffset.getAndIncrement(), 0, 0, 0, 0)));
+
+        List<Long> waitedOffsets = new ArrayList<>();
+        groupCommit = new KafkaStoreGroupCommit<>(
+                TOPIC, kafkaProducer, waitedOffsets::add, 2, 500, 1000, new SimpleMeterRegistry());
+
+        CompletableFuture<Long> first = groupCommit.submit("key1", "value1");
+        CompletableFuture<Long> second = groupCommit.submit("key2", "value2");
+        CompletableFuture<Long> third = groupCommit.submit("key3", "value3");
+
+        CompletableFuture.allOf(first, second, third).get(5, TimeUnit.SECONDS);
+        assertEquals(List.of(1L, 2L), waitedOffsets);
+    }
+
+    @Test
+    void shouldFailBatchWhenStoreDoesNotCatchUp() {
+        when(kafkaProducer.send(any()))
+                .thenReturn(CompletableFuture.completedFuture(
+                        new RecordMetadata(new TopicPartition(TOPIC, 0), 0, 0, 0, 0, 0)));
+
+        groupCommit = new KafkaStoreGroupCommit<>(
+                TOPIC,
+                kafkaProducer,
+                offset -> {
+                    throw new KafkaStoreException("Failed to reach target offset");
+                },
+                10,
+                0,
+                1000,
+                new SimpleMeterRegistry());
+
+        CompletableFuture<Long> result = groupCommit.submit("key1", "value1");
+
+        ExecutionException exception = assertThrows(ExecutionException.class, () -> result.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(KafkaStoreException.class, exception.getCause());
+    }
+
+    @Test
+    void shouldFailWritesOnceClosed() {
+        groupCommit = new KafkaStoreGroupCommit<>(
+                TOPIC, kafkaProducer, offset -> {}, 10, 0, 1000, new SimpleMeterRegistry());
+        groupCommit.close();
+
+        CompletableFuture<Long> result = groupCommit.submit("key1", "value1");
+
+        ExecutionException exception = assertThrows(ExecutionException.class, result::get);
+        assertInstanceOf(KafkaStoreException.class, exception.getCause());
+    }
+}
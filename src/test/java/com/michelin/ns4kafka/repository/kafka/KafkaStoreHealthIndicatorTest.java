@@ -0,0 +1,65 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.michelin.ns4kafka.repository.kafka;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.when;
+
+import com.michelin.ns4kafka.model.Topic;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class KafkaStoreHealthIndicatorTest {
+    @Mock
+    KafkaStore<Topic> kafkaStore;
+
+    @InjectMocks
+    KafkaStoreHealthIndicator kafkaStoreHealthIndicator;
+
+    @Test
+    void shouldReportStoreProgress() {
+        kafkaStoreHealthIndicator.kafkaStores = List.of(kafkaStore);
+
+        when(kafkaStore.getKafkaTopic()).thenReturn("ns4kafka.topics");
+        when(kafkaStore.isInitialized()).thenReturn(false);
+        when(kafkaStore.getKafkaStore()).thenReturn(Map.of());
+        when(kafkaStore.getOffset()).thenReturn(50L);
+        when(kafkaStore.getInitTargetOffset()).thenReturn(100L);
+        when(kafkaStore.getReplayRate()).thenReturn(25.4);
+
+        Map<String, Object> details = kafkaStoreHealthIndicator.getHealthInformation();
+
+        assertEquals(
+                Map.of(
+                        "ns4kafka.topics",
+                        Map.of(
+                                "initialized", false,
+                                "records", 0,
+                                "offset", 50L,
+                                "targetOffset", 100L,
+                                "replayRate", 25L)),
+                details);
+    }
+}
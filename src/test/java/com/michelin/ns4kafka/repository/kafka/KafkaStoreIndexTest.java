@@ -0,0 +1,75 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.michelin.ns4kafka.repository.kafka;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.michelin.ns4kafka.model.Metadata;
+import com.michelin.ns4kafka.model.Topic;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+class KafkaStoreIndexTest {
+    @Test
+    void shouldIndexNewValues() {
+        KafkaStoreIndex<Topic> index =
+                new KafkaStoreIndex<>(topic -> topic.getMetadata().getCluster());
+
+        index.update("local/topic1", null, buildTopic("local", "topic1"));
+        index.update("local/topic2", null, buildTopic("local", "topic2"));
+        index.update("other/topic1", null, buildTopic("other", "topic1"));
+
+        assertEquals(Set.of("local/topic1", "local/topic2"), index.get("local"));
+        assertEquals(Set.of("other/topic1"), index.get("other"));
+        assertTrue(index.get("unknown").isEmpty());
+        assertTrue(index.get(null).isEmpty());
+    }
+
+    @Test
+    void shouldMoveUpdatedValues() {
+        KafkaStoreIndex<Topic> index =
+                new KafkaStoreIndex<>(topic -> topic.getMetadata().getCluster());
+
+        Topic previous = buildTopic("local", "topic1");
+        index.update("topic1", null, previous);
+        index.update("topic1", previous, buildTopic("other", "topic1"));
+
+        assertTrue(index.get("local").isEmpty());
+        assertEquals(Set.of("topic1"), index.get("other"));
+    }
+
+    @Test
+    void shouldRemoveTombstonedValues() {
+        KafkaStoreIndex<Topic> index =
+                new KafkaStoreIndex<>(topic -> topic.getMetadata().getCluster());
+
+        Topic previous = buildTopic("local", "topic1");
+        index.update("local/topic1", null, previous);
+        index.update("local/topic1", previous, null);
+
+        assertTrue(index.get("local").isEmpty());
+    }
+
+    private Topic buildTopic(String cluster, String name) {
+        return Topic.builder()
+                .metadata(Metadata.builder().cluster(cluster).name(name).build())
+                .build();
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.michelin.ns4kafka.repository.kafka;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+class KafkaStoreMetricsTest {
+    private static final String TOPIC = "ns4kafka.topics";
+
+    @Test
+    void shouldReportStoreSizeAndLag() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        AtomicLong records = new AtomicLong();
+        AtomicLong offset = new AtomicLong(-1);
+        KafkaStoreMetrics metrics = new KafkaStoreMetrics(TOPIC, meterRegistry, records::get, offset::get);
+
+        assertEquals(0, gauge(meterRegistry, "ns4kafka.store.lag"));
+        assertEquals(0, gauge(meterRegistry, "ns4kafka.store.bytes"));
+
+        metrics.updateEndOffset(10);
+        metrics.recordConsumed(100);
+        metrics.recordConsumed(300);
+        records.set(2);
+        offset.set(3);
+
+        assertEquals(2, gauge(meterRegistry, "ns4kafka.store.records"));
+        assertEquals(400, gauge(meterRegistry, "ns4kafka.store.bytes"));
+        assertEquals(3, gauge(meterRegistry, "ns4kafka.store.offset"));
+        assertEquals(10, gauge(meterRegistry, "ns4kafka.store.end.offset"));
+        assertEquals(6, gauge(meterRegistry, "ns4kafka.store.lag"));
+
+        metrics.updateEndOffset(5);
+        offset.set(9);
+
+        assertEquals(10, gauge(meterRegistry, "ns4kafka.store.end.offset"));
+        assertEquals(0, gauge(meterRegistry, "ns4kafka.store.lag"));
+    }
+
+    @Test
+    void shouldCountTimeouts() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        KafkaStoreMetrics metrics = new KafkaStoreMetrics(TOPIC, meterRegistry, () -> 0, () -> -1);
+
+        metrics.recordTimeout();
+        metrics.recordTimeout();
+
+        assertEquals(
+                2,
+                meterRegistry
+                        .get("ns4kafka.store.timeouts")
+                        .tag("topic", TOPIC)
+                        .counter()
+                        .count());
+    }
+
+    private static double gauge(SimpleMeterRegistry meterRegistry, String name) {
+        return meterRegistry.get(name).tag("topic", TOPIC).gauge().value();
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.michelin.ns4kafka.repository.kafka;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.Test;
+
+class KafkaStoreOffsetTrackerTest {
+    @Test
+    void shouldStartBeforeFirstOffset() {
+        KafkaStoreOffsetTracker tracker = new KafkaStoreOffsetTracker();
+
+        assertEquals(-1, tracker.get());
+        assertFalse(tracker.whenReached(0).isDone());
+    }
+
+    @Test
+    void shouldCompleteImmediatelyWhenOffsetAlreadyReached() {
+        KafkaStoreOffsetTracker tracker = new KafkaStoreOffsetTracker();
+        tracker.advance(10);
+
+        assertTrue(tracker.whenReached(5).isDone());
+        assertTrue(tracker.whenReached(10).isDone());
+        assertEquals(0, tracker.pendingWaiters());
+    }
+
+    @Test
+    void shouldCompleteOnlyReachedWaiters() {
+        KafkaStoreOffsetTracker tracker = new KafkaStoreOffsetTracker();
+        CompletableFuture<Void> first = tracker.whenReached(1);
+        CompletableFuture<Void> second = tracker.whenReached(2);
+        CompletableFuture<Void> third = tracker.whenReached(5);
+
+        tracker.advance(2);
+
+        assertTrue(first.isDone());
+        assertTrue(second.isDone());
+        assertFalse(third.isDone());
+        assertEquals(1, tracker.pendingWaiters());
+
+        tracker.advance(5);
+
+        assertTrue(third.isDone());
+        assertEquals(0, tracker.pendingWaiters());
+    }
+
+    @Test
+    void shouldShareWaiterOfSameOffset() {
+        KafkaStoreOffsetTracker tracker = new KafkaStoreOffsetTracker();
+
+        assertSame(tracker.whenReached(3), tracker.whenReached(3));
+        assertEquals(1, tracker.pendingWaiters());
+    }
+
+    @Test
+    void shouldAwaitOffsetReachedByAnotherThread() throws InterruptedException {
+        KafkaStoreOffsetTracker tracker = new KafkaStoreOffsetTracker();
+
+        Thread consumer = Thread.ofPlatform().start(() -> {
+            for (long offset = 0; offset <= 100; offset++) {
+                tracker.advance(offset);
+            }
+        });
+
+        assertTrue(tracker.await(100, 5000));
+        consumer.join();
+        assertEquals(0, tracker.pendingWaiters());
+    }
+
+    @Test
+    void shouldTimeOutWhenOffsetNotReached() throws InterruptedException {
+        KafkaStoreOffsetTracker tracker = new KafkaStoreOffsetTracker();
+        tracker.advance(1);
+
+        assertFalse(tracker.await(2, 10));
+    }
+}
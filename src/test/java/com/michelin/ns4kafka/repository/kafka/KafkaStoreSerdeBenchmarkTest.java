@@ -0,0 +1,119 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.michelin.ns4kafka.repository.kafka;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+import com.michelin.ns4kafka.model.Metadata;
+import com.michelin.ns4kafka.model.Topic;
+import com.michelin.ns4kafka.property.Ns4KafkaProperties.StoreProperties.KafkaProperties.SerdeProperties.Format;
+import io.micronaut.jackson.ObjectMapperFactory;
+import io.micronaut.jackson.databind.JacksonDatabindMapper;
+import io.micronaut.json.JsonMapper;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+/**
+ * Replay throughput and topic size of the store formats. Run with
+ * {@code ./gradlew test -Pbenchmark=true --tests KafkaStoreSerdeBenchmarkTest}.
+ */
+@Slf4j
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class KafkaStoreSerdeBenchmarkTest {
+    private static final int RECORDS = 100_000;
+    private static final int ROUNDS = 5;
+
+    @Test
+    void shouldCompareJsonAndBinaryFormats() {
+        // Same settings as the application: pretty-printed JSON
+        ObjectMapper objectMapper =
+                new ObjectMapperFactory().objectMapper(null, null).enable(SerializationFeature.INDENT_OUTPUT);
+        JsonMapper jsonMapper = new JacksonDatabindMapper(objectMapper);
+        ObjectMapper binaryMapper = objectMapper.copyWith(SmileFactory.builder()
+                .enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES)
+                .build());
+
+        List<Topic> topics = new ArrayList<>(RECORDS);
+        for (int i = 0; i < RECORDS; i++) {
+            topics.add(Topic.builder()
+                    .metadata(Metadata.builder()
+                            .name("prefix.topic" + i)
+                            .namespace("namespace" + (i % 100))
+                            .cluster("local")
+                            .build())
+                    .spec(Topic.TopicSpec.builder()
+                            .partitions(6)
+                            .replicationFactor(3)
+                            .configs(Map.of(
+                                    "cleanup.policy", "delete",
+                                    "min.insync.replicas", "2",
+                                    "retention.ms", "604800000"))
+                            .build())
+                    .build());
+        }
+
+        long jsonSize = benchmark(Format.JSON, jsonMapper, binaryMapper, topics);
+        long binarySize = benchmark(Format.BINARY, jsonMapper, binaryMapper, topics);
+
+        assertTrue(binarySize < jsonSize);
+    }
+
+    private long benchmark(Format format, JsonMapper jsonMapper, ObjectMapper binaryMapper, List<Topic> topics) {
+        KafkaStoreSerde<Topic> serde = new KafkaStoreSerde<>(Topic.class, format, jsonMapper, binaryMapper);
+
+        List<byte[]> records = new ArrayList<>(topics.size());
+        long size = 0;
+        for (Topic topic : topics) {
+            byte[] bytes = serde.serialize(topic);
+            records.add(bytes);
+            size += bytes.length;
+        }
+
+        // Warm up, then measure the replay of the whole topic
+        for (byte[] bytes : records) {
+            serde.deserialize(bytes);
+        }
+
+        long start = System.nanoTime();
+        for (int round = 0; round < ROUNDS; round++) {
+            for (byte[] bytes : records) {
+                serde.deserialize(bytes);
+            }
+        }
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        log.info(
+                "{}: {} bytes for {} records ({} bytes/record), replay {} records/s",
+                format,
+                size,
+                topics.size(),
+                size / topics.size(),
+                elapsedMs == 0 ? "n/a" : (long) ROUNDS * topics.size() * 1000 / elapsedMs);
+        return size;
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.michelin.ns4kafka.repository.kafka;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.michelin.ns4kafka.model.Metadata;
+import com.michelin.ns4kafka.model.Topic;
+import com.michelin.ns4kafka.property.Ns4KafkaProperties.StoreProperties.KafkaProperties.SerdeProperties.Format;
+import io.micronaut.jackson.ObjectMapperFactory;
+import io.micronaut.jackson.databind.JacksonDatabindMapper;
+import io.micronaut.json.JsonMapper;
+import java.util.List;
+import java.util.Map;
+import org.apache.kafka.common.errors.SerializationException;
+import org.junit.jupiter.api.Test;
+
+class KafkaStoreSerdeTest {
+    private final ObjectMapper objectMapper = new ObjectMapperFactory().objectMapper(null, null);
+    private final JsonMapper jsonMapper = new JacksonDatabindMapper(objectMapper);
+    private final ObjectMapper binaryMapper = objectMapper.copyWith(new SmileFactory());
+
+    @Test
+    void shouldWriteAndReadJson() {
+        KafkaStoreSerde<Topic> serde = new KafkaStoreSerde<>(Topic.class, Format.JSON, jsonMapper, binaryMapper);
+
+        byte[] bytes = serde.serializer().serialize("ns4kafka.topics", buildTopic());
+
+        assertEquals('{', bytes[0]);
+        assertEquals(buildTopic(), serde.deserializer().deserialize("ns4kafka.topics", bytes));
+    }
+
+    @Test
+    void shouldWriteAndReadBinary() {
+        KafkaStoreSerde<Topic> serde = new KafkaStoreSerde<>(Topic.class, Format.BINARY, jsonMapper, binaryMapper);
+
+        byte[] bytes = serde.serializer().serialize("ns4kafka.topics", buildTopic());
+
+        assertEquals(KafkaStoreSerde.MAGIC_BYTE, bytes[0]);
+        assertEquals(KafkaStoreSerde.VERSION, bytes[1]);
+        assertEquals(buildTopic(), serde.deserializer().deserialize("ns4kafka.topics", bytes));
+    }
+
+    @Test
+    void shouldReadLegacyJsonWhenWritingBinary() {
+        KafkaStoreSerde<Topic> jsonSerde =
+                new KafkaStoreSerde<>(Topic.class, Format.JSON, jsonMapper, binaryMapper);
+        KafkaStoreSerde<Topic> binarySerde =
+                new KafkaStoreSerde<>(Topic.class, Format.BINARY, jsonMapper, binaryMapper);
+
+        byte[] legacy = jsonSerde.serializer().serialize("ns4kafka.topics", buildTopic());
+
+        assertEquals(buildTopic(), binarySerde.deserializer().deserialize("ns4kafka.topics", legacy));
+    }
+
+    @Test
+    void shouldReadBinaryWhenWritingJson() {
+        KafkaStoreSerde<Topic> jsonSerde =
+                new KafkaStoreSerde<>(Topic.class, Format.JSON, jsonMapper, binaryMapper);
+        KafkaStoreSerde<Topic> binarySerde =
+                new KafkaStoreSerde<>(Topic.class, Format.BINARY, jsonMapper, binaryMapper);
+
+        byte[] binary = binarySerde.serializer().serialize("ns4kafka.topics", buildTopic());
+
+        assertEquals(buildTopic(), jsonSerde.deserializer().deserialize("ns4kafka.topics", binary));
+    }
+
+    @Test
+    void shouldBeSmallerInBinary() {
+        KafkaStoreSerde<Topic> jsonSerde =
+                new KafkaStoreSerde<>(Topic.class, Format.JSON, jsonMapper, binaryMapper);
+        KafkaStoreSerde<Topic> binarySerde =
+                new KafkaStoreSerde<>(Topic.class, Format.BINARY, jsonMapper, binaryMapper);
+
+        assertTrue(binarySerde.serializer().serialize("ns4kafka.topics", buildTopic()).length
+                < jsonSerde.serializer().serialize("ns4kafka.topics", buildTopic()).length);
+    }
+
+    @Test
+    void shouldHandleTombstones() {
+        KafkaStoreSerde<Topic> serde = new KafkaStoreSerde<>(Topic.class, Format.BINARY, jsonMapper, binaryMapper);
+
+        assertNull(serde.serializer().serialize("ns4kafka.topics", null));
+        assertNull(serde.deserializer().deserialize("ns4kafka.topics", null));
+    }
+
+    @Test
+    void shouldNotReadUnknownVersion() {
+        KafkaStoreSerde<Topic> serde = new KafkaStoreSerde<>(Topic.class, Format.BINARY, jsonMapper, binaryMapper);
+
+        byte[] bytes = serde.serializer().serialize("ns4kafka.topics", buildTopic());
+        bytes[1] = 2;
+
+        assertThrows(
+                SerializationException.class, () -> serde.deserializer().deserialize("ns4kafka.topics", bytes));
+    }
+
+    private Topic buildTopic() {
+        return Topic.builder()
+                .metadata(Metadata.builder()
+                        .name("prefix.topic1")
+                        .namespace("namespace")
+                        .cluster("local")
+                        .labels(Map.of("label", "value"))
+                        .build())
+                .spec(Topic.TopicSpec.builder()
+                        .partitions(3)
+                        .replicationFactor(1)
+                        .tags(List.of("PII"))
+                        .description("A topic")
+                        .configs(Map.of("cleanup.policy", "delete", "retention.ms", "60000"))
+                        .build())
+                .build();
+    }
+}
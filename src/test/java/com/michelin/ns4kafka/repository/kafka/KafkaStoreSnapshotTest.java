@@ -0,0 +1,95 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.michelin.ns4kafka.repository.kafka;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.michelin.ns4kafka.model.Metadata;
+import com.michelin.ns4kafka.model.Topic;
+import io.micronaut.core.type.Argument;
+import io.micronaut.json.JsonMapper;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class KafkaStoreSnapshotTest {
+    @TempDir
+    Path directory;
+
+    @Test
+    void shouldBeEmptyWhenNoSnapshot() throws IOException {
+        KafkaStoreSnapshot<Topic> snapshot = buildSnapshot("ns4kafka.topics");
+
+        assertTrue(snapshot.read().isEmpty());
+    }
+
+    @Test
+    void shouldWriteAndReadSnapshot() throws IOException {
+        KafkaStoreSnapshot<Topic> snapshot = buildSnapshot("ns4kafka.topics");
+
+        Topic topic = Topic.builder()
+                .metadata(Metadata.builder()
+                        .name("topic1")
+                        .namespace("namespace")
+                        .cluster("local")
+                        .build())
+                .spec(Topic.TopicSpec.builder()
+                        .partitions(3)
+                        .replicationFactor(1)
+                        .configs(Map.of("cleanup.policy", "delete"))
+                        .build())
+                .build();
+
+        snapshot.write(42L, Map.of("local/topic1", topic));
+
+        KafkaStoreSnapshot.State<Topic> state = snapshot.read().orElseThrow();
+        assertEquals(42L, state.offset());
+        assertEquals(Map.of("local/topic1", topic), state.records());
+    }
+
+    @Test
+    void shouldNotReadCorruptSnapshot() throws IOException {
+        KafkaStoreSnapshot<Topic> snapshot = buildSnapshot("ns4kafka.topics");
+        snapshot.write(42L, Map.of());
+
+        byte[] content = Files.readAllBytes(snapshot.getPath());
+        content[content.length - 1] ^= 1;
+        Files.write(snapshot.getPath(), content);
+
+        assertThrows(IOException.class, snapshot::read);
+    }
+
+    @Test
+    void shouldNotReadSnapshotOfAnotherTopic() throws IOException {
+        buildSnapshot("ns4kafka.topics").write(42L, Map.of());
+        Files.move(
+                directory.resolve("ns4kafka.topics.snapshot"), directory.resolve("ns4kafka.namespaces.snapshot"));
+
+        assertThrows(IOException.class, buildSnapshot("ns4kafka.namespaces")::read);
+    }
+
+    private KafkaStoreSnapshot<Topic> buildSnapshot(String kafkaTopic) {
+        return new KafkaStoreSnapshot<>(directory, kafkaTopic, JsonMapper.createDefault(), Argument.of(Topic.class));
+    }
+}
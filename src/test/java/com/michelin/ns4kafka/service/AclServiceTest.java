@@ -23,7 +23,9 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertLinesMatch;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
@@ -34,6 +36,7 @@ import com.michelin.ns4kafka.model.AccessControlEntry;
 import com.michelin.ns4kafka.model.Metadata;
 import com.michelin.ns4kafka.model.Namespace;
 import com.michelin.ns4kafka.repository.AccessControlEntryRepository;
+import com.michelin.ns4kafka.repository.NamespaceRepository;
 import com.michelin.ns4kafka.service.executor.AccessControlEntryAsyncExecutor;
 import io.micronaut.context.ApplicationContext;
 import io.micronaut.inject.qualifiers.Qualifiers;
@@ -55,6 +58,9 @@ class AclServiceTest {
     @Mock
     AccessControlEntryAsyncExecutor accessControlEntryAsyncExecutor;
 
+    @Mock
+    NamespaceRepository namespaceRepository;
+
     @Mock
     ApplicationContext applicationContext;
 
@@ -87,7 +93,7 @@ class AclServiceTest {
 
         when(applicationContext.getBean(NamespaceService.class)).thenReturn(namespaceService);
         when(namespaceService.findByName("target-ns")).thenReturn(Optional.empty());
-        when(accessControlEntryRepository.findAll()).thenReturn(List.of());
+        when(accessControlEntryRepository.findAllForCluster("local")).thenReturn(List.of());
 
         List<String> actual = aclService.validate(badAcl, namespace);
         assertLinesMatch(
@@ -124,7 +130,7 @@ class AclServiceTest {
 
         when(applicationContext.getBean(NamespaceService.class)).thenReturn(namespaceService);
         when(namespaceService.findByName("namespace")).thenReturn(Optional.of(namespace));
-        when(accessControlEntryRepository.findAll()).thenReturn(List.of());
+        when(accessControlEntryRepository.findAllForCluster("local")).thenReturn(List.of());
 
         List<String> actual = aclService.validate(badAcl, namespace);
         assertLinesMatch(
@@ -163,7 +169,7 @@ class AclServiceTest {
 
         when(applicationContext.getBean(NamespaceService.class)).thenReturn(namespaceService);
         when(namespaceService.findByName("target-ns")).thenReturn(Optional.of(targetNamespace));
-        when(accessControlEntryRepository.findAll())
+        when(accessControlEntryRepository.findAllForCluster("local"))
                 .thenReturn(List.of(AccessControlEntry.builder()
                         .spec(AccessControlEntry.AccessControlEntrySpec.builder()
                                 .resourceType(AccessControlEntry.ResourceType.TOPIC)
@@ -210,7 +216,7 @@ class AclServiceTest {
 
         when(applicationContext.getBean(NamespaceService.class)).thenReturn(namespaceService);
         when(namespaceService.findByName("target-ns")).thenReturn(Optional.of(targetNamespace));
-        when(accessControlEntryRepository.findAll())
+        when(accessControlEntryRepository.findAllForCluster("local"))
                 .thenReturn(List.of(AccessControlEntry.builder()
                         .spec(AccessControlEntry.AccessControlEntrySpec.builder()
                                 .resourceType(AccessControlEntry.ResourceType.TOPIC)
@@ -258,7 +264,7 @@ class AclServiceTest {
 
         when(applicationContext.getBean(NamespaceService.class)).thenReturn(namespaceService);
         when(namespaceService.findByName("target-ns")).thenReturn(Optional.of(targetNamespace));
-        when(accessControlEntryRepository.findAll())
+        when(accessControlEntryRepository.findAllForCluster("local"))
                 .thenReturn(List.of(AccessControlEntry.builder()
                         .spec(AccessControlEntry.AccessControlEntrySpec.builder()
                                 .resourceType(AccessControlEntry.ResourceType.TOPIC)
@@ -303,7 +309,7 @@ class AclServiceTest {
 
         when(applicationContext.getBean(NamespaceService.class)).thenReturn(namespaceService);
         when(namespaceService.findByName("target-ns")).thenReturn(Optional.of(targetNamespace));
-        when(accessControlEntryRepository.findAll())
+        when(accessControlEntryRepository.findAllForCluster("local"))
                 .thenReturn(List.of(AccessControlEntry.builder()
                         .spec(AccessControlEntry.AccessControlEntrySpec.builder()
                                 .resourceType(AccessControlEntry.ResourceType.TOPIC)
@@ -343,7 +349,7 @@ class AclServiceTest {
 
         when(applicationContext.getBean(NamespaceService.class)).thenReturn(namespaceService);
         when(namespaceService.findByName("*")).thenReturn(Optional.empty());
-        when(accessControlEntryRepository.findAll())
+        when(accessControlEntryRepository.findAllForCluster("local"))
                 .thenReturn(List.of(AccessControlEntry.builder()
                         .spec(AccessControlEntry.AccessControlEntrySpec.builder()
                                 .resourceType(AccessControlEntry.ResourceType.TOPIC)
@@ -385,7 +391,7 @@ class AclServiceTest {
 
         when(applicationContext.getBean(NamespaceService.class)).thenReturn(namespaceService);
         when(namespaceService.findByName("*")).thenReturn(Optional.empty());
-        when(accessControlEntryRepository.findAll())
+        when(accessControlEntryRepository.findAllForCluster("local"))
                 .thenReturn(List.of(AccessControlEntry.builder()
                         .spec(AccessControlEntry.AccessControlEntrySpec.builder()
                                 .resourceType(AccessControlEntry.ResourceType.TOPIC)
@@ -437,7 +443,7 @@ class AclServiceTest {
 
         when(applicationContext.getBean(NamespaceService.class)).thenReturn(namespaceService);
         when(namespaceService.findByName("public-ns")).thenReturn(Optional.of(publicNamespace));
-        when(accessControlEntryRepository.findAll())
+        when(accessControlEntryRepository.findAllForCluster("local"))
                 .thenReturn(List.of(AccessControlEntry.builder()
                         .spec(AccessControlEntry.AccessControlEntrySpec.builder()
                                 .resourceType(AccessControlEntry.ResourceType.TOPIC)
@@ -495,7 +501,7 @@ class AclServiceTest {
 
         when(applicationContext.getBean(NamespaceService.class)).thenReturn(namespaceService);
         when(namespaceService.findByName("protected-ns2")).thenReturn(Optional.of(protectedNamespace2));
-        when(accessControlEntryRepository.findAll())
+        when(accessControlEntryRepository.findAllForCluster("local"))
                 .thenReturn(List.of(AccessControlEntry.builder()
                         .spec(AccessControlEntry.AccessControlEntrySpec.builder()
                                 .resourceType(AccessControlEntry.ResourceType.TOPIC)
@@ -532,7 +538,9 @@ class AclServiceTest {
                 .metadata(Metadata.builder().name("target-ns").cluster("local").build())
                 .build();
 
-        when(accessControlEntryRepository.findAll()).thenReturn(List.of(accessControlEntry));
+        when(accessControlEntryRepository.findAllOwnersRelatedTo(
+                        "local", AccessControlEntry.ResourceType.TOPIC, "main.sub"))
+                .thenReturn(List.of(accessControlEntry));
 
         List<String> actual = aclService.validateSelfAssignedAdmin(accessControlEntry, namespace);
 
@@ -607,7 +615,8 @@ class AclServiceTest {
                         .build())
                 .build();
 
-        when(accessControlEntryRepository.findAll())
+        when(accessControlEntryRepository.findAllOwnersRelatedTo(
+                        eq("local"), eq(AccessControlEntry.ResourceType.TOPIC), anyString()))
                 .thenReturn(List.of(aceTopicPrefixedOwnerOtherNsToOtherNs, aceTopicLiteralOwnerOtherNsToOtherNs));
 
         List<String> actual = aclService.validateSelfAssignedAdmin(aceTopicPrefixedOwnerTargetNsToTargetNs, namespace);
@@ -707,7 +716,8 @@ class AclServiceTest {
                         .build())
                 .build();
 
-        when(accessControlEntryRepository.findAll())
+        when(accessControlEntryRepository.findAllOwnersRelatedTo(
+                        eq("local"), eq(AccessControlEntry.ResourceType.TOPIC), anyString()))
                 .thenReturn(List.of(aceTopicPrefixedOwnerOtherNsToOtherNs, aceTopicLiteralOwnerOtherNsToOtherNs));
 
         List<String> actual = aclService.validateSelfAssignedAdmin(aceTopicPrefixedOwnerTargetNsToTargetNs, namespace);
@@ -802,7 +812,8 @@ class AclServiceTest {
                         .build())
                 .build();
 
-        when(accessControlEntryRepository.findAll())
+        when(accessControlEntryRepository.findAllOwnersRelatedTo(
+                        eq("local"), eq(AccessControlEntry.ResourceType.TOPIC), anyString()))
                 .thenReturn(List.of(
                         aceTopicPrefixedOwnerOtherNsToOtherNs,
                         aceTopicLiteralOwnerOtherNsToOtherNs,
@@ -883,7 +894,7 @@ class AclServiceTest {
                 .metadata(Metadata.builder().cluster("cluster").build())
                 .build();
 
-        when(accessControlEntryRepository.findAll()).thenReturn(List.of(ace1, ace2, ace3, ace4));
+        when(accessControlEntryRepository.findAllForCluster("cluster")).thenReturn(List.of(ace1, ace2, ace3, ace4));
 
         List<AccessControlEntry> actual = aclService.findAllGrantedToNamespace(namespace);
         assertEquals(3, actual.size());
@@ -915,7 +926,7 @@ class AclServiceTest {
                         .build())
                 .build();
 
-        when(accessControlEntryRepository.findAll()).thenReturn(List.of(ace1, ace2, ace3, ace4));
+        when(accessControlEntryRepository.findAllGrantedTo("*")).thenReturn(List.of(ace4));
 
         List<AccessControlEntry> actual = aclService.findAllPublicGrantedTo();
         assertEquals(1, actual.size());
@@ -957,7 +968,7 @@ class AclServiceTest {
                         .build())
                 .build();
 
-        when(accessControlEntryRepository.findAll()).thenReturn(List.of(ace1, ace2, ace3));
+        when(accessControlEntryRepository.findAllForCluster("local")).thenReturn(List.of(ace1, ace2, ace3));
 
         List<AccessControlEntry> actual = aclService.findAllForNamespace(ns);
         assertEquals(2, actual.size());
@@ -1014,18 +1025,22 @@ class AclServiceTest {
                         .build())
                 .build();
 
-        AccessControlEntry aceConnectLiteralWrite = AccessControlEntry.builder()
-                .spec(AccessControlEntry.AccessControlEntrySpec.builder()
-                        .resourceType(AccessControlEntry.ResourceType.CONNECT)
-                        .resourcePatternType(AccessControlEntry.ResourcePatternType.LITERAL)
-                        .permission(AccessControlEntry.Permission.WRITE)
-                        .resource("connect")
-                        .grantedTo("namespace-other")
-                        .build())
-                .build();
-
-        when(accessControlEntryRepository.findAll())
-                .thenReturn(List.of(aceTopicPrefixedOwner, aceConnectLiteralOwner, aceConnectLiteralWrite));
+        when(namespaceRepository.findByName("namespace"))
+                .thenReturn(Optional.of(Namespace.builder()
+                        .metadata(Metadata.builder().name("namespace").cluster("local").build())
+                        .build()));
+        when(namespaceRepository.findByName("namespace-other"))
+                .thenReturn(Optional.of(Namespace.builder()
+                        .metadata(Metadata.builder().name("namespace-other").cluster("local").build())
+                        .build()));
+        when(namespaceRepository.findByName("namespace-unknown")).thenReturn(Optional.empty());
+        when(accessControlEntryRepository.findAllOwnersOf("local", AccessControlEntry.ResourceType.CONNECT, "connect"))
+                .thenReturn(List.of(aceConnectLiteralOwner));
+        when(accessControlEntryRepository.findAllOwnersOf("local", AccessControlEntry.ResourceType.TOPIC, "main"))
+                .thenReturn(List.of(aceTopicPrefixedOwner));
+        when(accessControlEntryRepository.findAllOwnersOf(
+                        "local", AccessControlEntry.ResourceType.TOPIC, "main.sub"))
+                .thenReturn(List.of(aceTopicPrefixedOwner));
 
         assertTrue(
                 aclService.isNamespaceOwnerOfResource("namespace", AccessControlEntry.ResourceType.CONNECT, "connect"));
@@ -1041,6 +1056,9 @@ class AclServiceTest {
 
         assertFalse(aclService.isNamespaceOwnerOfResource(
                 "namespace-other", AccessControlEntry.ResourceType.CONNECT, "connect"));
+
+        assertFalse(aclService.isNamespaceOwnerOfResource(
+                "namespace-unknown", AccessControlEntry.ResourceType.TOPIC, "main"));
     }
 
     @Test
@@ -1143,7 +1161,8 @@ class AclServiceTest {
                         .build())
                 .build();
 
-        when(accessControlEntryRepository.findAll()).thenReturn(List.of(acl1, acl2, acl3, acl4, acl5));
+        when(accessControlEntryRepository.findAllForCluster("cluster"))
+                .thenReturn(List.of(acl1, acl2, acl3, acl4, acl5));
 
         assertEquals(List.of(acl2, acl3, acl4, acl5), aclService.findAllGrantedToNamespaceByWildcardName(ns, "*"));
         assertEquals(List.of(acl2), aclService.findAllGrantedToNamespaceByWildcardName(ns, "acl-ns1-read-to-ns2"));
@@ -1224,7 +1243,7 @@ class AclServiceTest {
                         .build())
                 .build();
 
-        when(accessControlEntryRepository.findAll()).thenReturn(List.of(acl1, acl2, acl3, acl4, acl5));
+        when(accessControlEntryRepository.findAllForCluster("local")).thenReturn(List.of(acl1, acl2, acl3, acl4, acl5));
 
         assertEquals(List.of(acl1, acl2, acl3), aclService.findAllGrantedByNamespaceByWildcardName(ns, "*"));
         assertEquals(List.of(acl2), aclService.findAllGrantedByNamespaceByWildcardName(ns, "ns1-read-ns2"));
@@ -1305,7 +1324,7 @@ class AclServiceTest {
                         .build())
                 .build();
 
-        when(accessControlEntryRepository.findAll()).thenReturn(List.of(acl1, acl2, acl3, acl4, acl5));
+        when(accessControlEntryRepository.findAllForCluster("local")).thenReturn(List.of(acl1, acl2, acl3, acl4, acl5));
 
         assertEquals(List.of(acl2, acl3), aclService.findAllGrantedByNamespaceToOthersByWildcardName(ns, "*"));
         assertEquals(List.of(acl2), aclService.findAllGrantedByNamespaceToOthersByWildcardName(ns, "ns1-read-ns2"));
@@ -1395,7 +1414,8 @@ class AclServiceTest {
                         .build())
                 .build();
 
-        when(accessControlEntryRepository.findAll()).thenReturn(List.of(acl1, acl2, acl3, acl4, acl5, acl6));
+        when(accessControlEntryRepository.findAllForCluster("local"))
+                .thenReturn(List.of(acl1, acl2, acl3, acl4, acl5, acl6));
 
         Namespace ns1 = Namespace.builder()
                 .metadata(Metadata.builder().name("namespace1").cluster("local").build())
@@ -1459,31 +1479,23 @@ class AclServiceTest {
         AccessControlEntry acl4 = AccessControlEntry.builder()
                 .metadata(Metadata.builder().cluster("local").build())
                 .spec(AccessControlEntry.AccessControlEntrySpec.builder()
-                        .resourceType(AccessControlEntry.ResourceType.TOPIC)
-                        .permission(AccessControlEntry.Permission.OWNER)
-                        .grantedTo("namespace2")
+                        .resourceType(AccessControlEntry.ResourceType.GROUP)
+                        .permission(AccessControlEntry.Permission.WRITE)
+                        .grantedTo("namespace1")
                         .build())
                 .build();
 
         AccessControlEntry acl5 = AccessControlEntry.builder()
-                .metadata(Metadata.builder().cluster("local").build())
+                .metadata(Metadata.builder().cluster("other").build())
                 .spec(AccessControlEntry.AccessControlEntrySpec.builder()
                         .resourceType(AccessControlEntry.ResourceType.TOPIC)
-                        .permission(AccessControlEntry.Permission.READ)
-                        .grantedTo("*")
-                        .build())
-                .build();
-
-        AccessControlEntry acl6 = AccessControlEntry.builder()
-                .metadata(Metadata.builder().cluster("local").build())
-                .spec(AccessControlEntry.AccessControlEntrySpec.builder()
-                        .resourceType(AccessControlEntry.ResourceType.GROUP)
-                        .permission(AccessControlEntry.Permission.WRITE)
+                        .permission(AccessControlEntry.Permission.OWNER)
                         .grantedTo("namespace1")
                         .build())
                 .build();
 
-        when(accessControlEntryRepository.findAll()).thenReturn(List.of(acl1, acl2, acl3, acl4, acl5, acl6));
+        when(accessControlEntryRepository.findAllGrantedTo("namespace1"))
+                .thenReturn(List.of(acl1, acl2, acl3, acl4, acl5));
 
         assertEquals(
                 List.of(acl1),
@@ -1578,7 +1590,7 @@ class AclServiceTest {
                 .metadata(Metadata.builder().cluster("cluster").build())
                 .build();
 
-        when(accessControlEntryRepository.findAll()).thenReturn(List.of(acl1, acl2, acl3));
+        when(accessControlEntryRepository.findAllForCluster("cluster")).thenReturn(List.of(acl1, acl2, acl3));
         when(applicationContext.getBean(AccessControlEntryAsyncExecutor.class, Qualifiers.byName("cluster")))
                 .thenReturn(accessControlEntryAsyncExecutor);
         doNothing().when(accessControlEntryRepository).delete(any());
@@ -1617,7 +1629,7 @@ class AclServiceTest {
                 .metadata(Metadata.builder().cluster("cluster").build())
                 .build();
 
-        when(accessControlEntryRepository.findAll()).thenReturn(List.of(acl1, acl2, publicAcl));
+        when(accessControlEntryRepository.findAllForCluster("cluster")).thenReturn(List.of(acl1, acl2, publicAcl));
         when(applicationContext.getBean(AccessControlEntryAsyncExecutor.class, Qualifiers.byName("cluster")))
                 .thenReturn(accessControlEntryAsyncExecutor);
         doNothing().when(accessControlEntryRepository).delete(any());
@@ -1640,7 +1652,7 @@ class AclServiceTest {
                         Metadata.builder().name("namespace1").cluster("cluster").build())
                 .build();
 
-        when(accessControlEntryRepository.findAll()).thenReturn(List.of());
+        when(accessControlEntryRepository.findAllForCluster("cluster")).thenReturn(List.of());
 
         aclService.deleteAllGrantedToNamespace(namespace);
 
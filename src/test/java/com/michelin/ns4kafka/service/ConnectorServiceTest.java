@@ -24,7 +24,6 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
-import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
@@ -1095,7 +1094,7 @@ class ConnectorServiceTest {
         when(kafkaConnectClient.delete(ns.getMetadata().getCluster(), "local-name", "ns-connect1"))
                 .thenReturn(Mono.just(HttpResponse.ok()));
 
-        doNothing().when(connectorRepository).delete(connector);
+        when(connectorRepository.deleteAsync(connector)).thenReturn(Mono.empty());
 
         StepVerifier.create(connectorService.delete(ns, connector))
                 .consumeNextWith(response -> assertEquals(HttpStatus.OK, response.getStatus()))
@@ -1103,7 +1102,7 @@ class ConnectorServiceTest {
 
         verify(kafkaConnectClient).delete(ns.getMetadata().getCluster(), "local-name", "ns-connect1");
 
-        verify(connectorRepository).delete(connector);
+        verify(connectorRepository).deleteAsync(connector);
     }
 
     @Test
@@ -1129,7 +1128,7 @@ class ConnectorServiceTest {
                 .consumeErrorWith(response -> assertEquals(HttpClientResponseException.class, response.getClass()))
                 .verify();
 
-        verify(connectorRepository, never()).delete(connector);
+        verify(connectorRepository, never()).deleteAsync(connector);
     }
 
     @Test
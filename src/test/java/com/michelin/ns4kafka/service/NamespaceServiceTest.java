@@ -22,6 +22,8 @@ import static com.michelin.ns4kafka.property.ManagedClusterProperties.KafkaProvi
 import static com.michelin.ns4kafka.property.ManagedClusterProperties.KafkaProvider.SELF_MANAGED;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -38,6 +40,7 @@ import com.michelin.ns4kafka.model.quota.ResourceQuota;
 import com.michelin.ns4kafka.property.ManagedClusterProperties;
 import com.michelin.ns4kafka.property.ManagedClusterProperties.ConnectProperties;
 import com.michelin.ns4kafka.repository.NamespaceRepository;
+import com.michelin.ns4kafka.repository.TransactionManager;
 import com.michelin.ns4kafka.validation.ResourceValidator;
 import com.michelin.ns4kafka.validation.TopicValidator;
 import java.util.List;
@@ -77,6 +80,9 @@ class NamespaceServiceTest {
     @Mock
     List<ManagedClusterProperties> managedClusterProperties;
 
+    @Mock
+    TransactionManager transactionManager;
+
     @InjectMocks
     NamespaceService namespaceService;
 
@@ -157,7 +163,7 @@ class NamespaceServiceTest {
                 "other-connect-config", new ConnectProperties(), "other-connect-config2", new ConnectProperties()));
 
         when(managedClusterProperties.stream()).thenReturn(Stream.of(managedClusterProperties1));
-        when(namespaceRepository.findAllForCluster("local")).thenReturn(List.of());
+        when(namespaceRepository.findAllForKafkaUser("user")).thenReturn(List.of());
 
         Namespace ns = Namespace.builder()
                 .metadata(Metadata.builder().name("namespace").cluster("local").build())
@@ -182,7 +188,7 @@ class NamespaceServiceTest {
                 Map.of("local-name", new ConnectProperties(), "local-name2", new ConnectProperties()));
 
         when(managedClusterProperties.stream()).thenReturn(Stream.of(managedClusterProperties1));
-        when(namespaceRepository.findAllForCluster("local")).thenReturn(List.of());
+        when(namespaceRepository.findAllForKafkaUser("user")).thenReturn(List.of());
 
         Namespace ns = Namespace.builder()
                 .metadata(Metadata.builder().name("namespace").cluster("local").build())
@@ -213,7 +219,7 @@ class NamespaceServiceTest {
                 Map.of("local-name", new ConnectProperties(), "local-name2", new ConnectProperties()));
 
         when(managedClusterProperties.stream()).thenReturn(Stream.of(managedClusterProperties1));
-        when(namespaceRepository.findAllForCluster("local")).thenReturn(List.of());
+        when(namespaceRepository.findAllForKafkaUser("user")).thenReturn(List.of());
 
         Namespace ns = Namespace.builder()
                 .metadata(Metadata.builder().name("namespace").cluster("local").build())
@@ -247,7 +253,7 @@ class NamespaceServiceTest {
         managedClusterProperties1.setConnects(Map.of("local-name", new ConnectProperties()));
 
         when(managedClusterProperties.stream()).thenReturn(Stream.of(managedClusterProperties1));
-        when(namespaceRepository.findAllForCluster("local")).thenReturn(List.of(ns2));
+        when(namespaceRepository.findAllForKafkaUser("user")).thenReturn(List.of(ns2));
 
         Namespace ns = Namespace.builder()
                 .metadata(Metadata.builder().name("namespace").cluster("local").build())
@@ -279,7 +285,7 @@ class NamespaceServiceTest {
         managedClusterProperties1.setConnects(Map.of("local-name", new ConnectProperties()));
 
         when(managedClusterProperties.stream()).thenReturn(Stream.of(managedClusterProperties1));
-        when(namespaceRepository.findAllForCluster("local")).thenReturn(List.of(ns));
+        when(namespaceRepository.findAllForKafkaUser("user")).thenReturn(List.of(ns));
 
         List<String> result = namespaceService.validate(ns);
 
@@ -702,10 +708,17 @@ class NamespaceServiceTest {
                         .build())
                 .build();
 
+        doAnswer(invocation -> {
+                    invocation.<Runnable>getArgument(0).run();
+                    return null;
+                })
+                .when(transactionManager)
+                .executeInTransaction(any());
         doNothing().when(aclService).deleteAllGrantedToNamespace(ns);
 
         namespaceService.delete(ns);
 
+        verify(transactionManager).executeInTransaction(any());
         verify(aclService).deleteAllGrantedToNamespace(ns);
         verify(namespaceRepository).delete(ns);
     }
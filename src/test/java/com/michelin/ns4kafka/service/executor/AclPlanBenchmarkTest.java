@@ -0,0 +1,110 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.michelin.ns4kafka.service.executor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.common.acl.AccessControlEntry;
+import org.apache.kafka.common.acl.AclBinding;
+import org.apache.kafka.common.acl.AclOperation;
+import org.apache.kafka.common.acl.AclPermissionType;
+import org.apache.kafka.common.resource.PatternType;
+import org.apache.kafka.common.resource.ResourcePattern;
+import org.apache.kafka.common.resource.ResourceType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+/**
+ * Duration of the ACL plan computation, compared to the former list-based diff. Run with
+ * {@code ./gradlew test -Pbenchmark=true --tests AclPlanBenchmarkTest}.
+ */
+@Slf4j
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class AclPlanBenchmarkTest {
+    private static final int BINDINGS = 100_000;
+    private static final int LIST_BINDINGS = 10_000;
+    private static final int ROUNDS = 5;
+
+    @Test
+    void shouldComputePlanOfHundredThousandBindings() {
+        List<AclBinding> expected = aclBindings(0, BINDINGS);
+        List<AclBinding> actual = aclBindings(BINDINGS / 10, BINDINGS);
+
+        // Warm up, then measure
+        AclPlan plan = AclPlan.compute(expected, actual);
+
+        long start = System.nanoTime();
+        for (int round = 0; round < ROUNDS; round++) {
+            plan = AclPlan.compute(expected, actual);
+        }
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) / ROUNDS;
+
+        log.info(
+                "Set-based plan of {} bindings: {} ms ({} to create, {} to delete, {} unchanged)",
+                BINDINGS,
+                elapsedMs,
+                plan.toCreate().size(),
+                plan.toDelete().size(),
+                plan.unchanged());
+
+        assertEquals(BINDINGS / 10, plan.toCreate().size());
+        assertEquals(BINDINGS / 10, plan.toDelete().size());
+        assertEquals(BINDINGS - BINDINGS / 10, plan.unchanged());
+    }
+
+    @Test
+    void shouldCompareSetBasedAndListBasedDiffs() {
+        // The list-based diff is quadratic, so it is measured on fewer bindings
+        List<AclBinding> expected = aclBindings(0, LIST_BINDINGS);
+        List<AclBinding> actual = aclBindings(LIST_BINDINGS / 10, LIST_BINDINGS);
+
+        long start = System.nanoTime();
+        List<AclBinding> toCreate = expected.stream()
+                .filter(aclBinding -> !actual.contains(aclBinding))
+                .toList();
+        List<AclBinding> toDelete = actual.stream()
+                .filter(aclBinding -> !expected.contains(aclBinding))
+                .toList();
+        long listMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        start = System.nanoTime();
+        AclPlan plan = AclPlan.compute(expected, actual);
+        long setMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        log.info("Diff of {} bindings: list-based {} ms, set-based {} ms", LIST_BINDINGS, listMs, setMs);
+
+        assertEquals(toCreate, plan.toCreate());
+        assertEquals(toDelete, plan.toDelete());
+    }
+
+    private List<AclBinding> aclBindings(int from, int count) {
+        List<AclBinding> aclBindings = new ArrayList<>(count);
+        for (int i = from; i < from + count; i++) {
+            aclBindings.add(new AclBinding(
+                    new ResourcePattern(ResourceType.TOPIC, "prefix" + i + ".", PatternType.PREFIXED),
+                    new AccessControlEntry(
+                            "User:user" + (i % 100), "*", AclOperation.READ, AclPermissionType.ALLOW)));
+        }
+        return aclBindings;
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.michelin.ns4kafka.service.executor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import org.apache.kafka.common.acl.AccessControlEntry;
+import org.apache.kafka.common.acl.AclBinding;
+import org.apache.kafka.common.acl.AclOperation;
+import org.apache.kafka.common.acl.AclPermissionType;
+import org.apache.kafka.common.resource.PatternType;
+import org.apache.kafka.common.resource.ResourcePattern;
+import org.apache.kafka.common.resource.ResourceType;
+import org.junit.jupiter.api.Test;
+
+class AclPlanTest {
+    @Test
+    void shouldPlanAclsToCreateAndDelete() {
+        AclBinding unchanged = aclBinding("prefix.", PatternType.PREFIXED, AclOperation.READ);
+        AclBinding toCreate = aclBinding("prefix.", PatternType.PREFIXED, AclOperation.WRITE);
+        AclBinding toDelete = aclBinding("prefix.topic", PatternType.LITERAL, AclOperation.READ);
+
+        AclPlan plan = AclPlan.compute(List.of(unchanged, toCreate), List.of(unchanged, toDelete));
+
+        assertEquals(List.of(toCreate), plan.toCreate());
+        assertEquals(List.of(toDelete), plan.toDelete());
+        assertEquals(1, plan.unchanged());
+    }
+
+    @Test
+    void shouldPlanDuplicatedAclsOnce() {
+        AclBinding toCreate = aclBinding("prefix.", PatternType.PREFIXED, AclOperation.WRITE);
+        AclBinding toDelete = aclBinding("prefix.topic", PatternType.LITERAL, AclOperation.READ);
+
+        AclPlan plan = AclPlan.compute(
+                List.of(toCreate, aclBinding("prefix.", PatternType.PREFIXED, AclOperation.WRITE)),
+                List.of(toDelete, aclBinding("prefix.topic", PatternType.LITERAL, AclOperation.READ)));
+
+        assertEquals(List.of(toCreate), plan.toCreate());
+        assertEquals(List.of(toDelete), plan.toDelete());
+        assertEquals(0, plan.unchanged());
+    }
+
+    @Test
+    void shouldPlanNothingWhenAclsAreInPlace() {
+        AclBinding aclBinding = aclBinding("prefix.", PatternType.PREFIXED, AclOperation.READ);
+
+        AclPlan plan = AclPlan.compute(
+                List.of(aclBinding), List.of(aclBinding("prefix.", PatternType.PREFIXED, AclOperation.READ)));
+
+        assertTrue(plan.toCreate().isEmpty());
+        assertTrue(plan.toDelete().isEmpty());
+        assertEquals(1, plan.unchanged());
+    }
+
+    private AclBinding aclBinding(String resource, PatternType patternType, AclOperation operation) {
+        return new AclBinding(
+                new ResourcePattern(ResourceType.TOPIC, resource, patternType),
+                new AccessControlEntry("User:user1", "*", operation, AclPermissionType.ALLOW));
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.michelin.ns4kafka.service.executor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.michelin.ns4kafka.model.Metadata;
+import com.michelin.ns4kafka.model.Topic;
+import java.util.List;
+import java.util.Map;
+import org.apache.kafka.clients.admin.TopicListing;
+import org.apache.kafka.common.Uuid;
+import org.junit.jupiter.api.Test;
+
+class BrokerTopicCacheTest {
+    private static final String CLUSTER = "local";
+
+    private final BrokerTopicCache brokerTopicCache = new BrokerTopicCache();
+
+    @Test
+    void shouldOnlyDescribeNewTopics() {
+        TopicListing topic1 = new TopicListing("topic1", Uuid.randomUuid(), false);
+        TopicListing topic2 = new TopicListing("topic2", Uuid.randomUuid(), false);
+
+        assertTrue(brokerTopicCache.isFullRefreshDue(0, 1000));
+        assertEquals(List.of("topic1"), brokerTopicCache.refresh(List.of(topic1), true));
+        brokerTopicCache.put(List.of(topic1), Map.of("topic1", topic("topic1", "delete")), true);
+        brokerTopicCache.completeFullRefresh(0);
+
+        assertFalse(brokerTopicCache.isFullRefreshDue(999, 1000));
+        assertEquals(List.of("topic2"), brokerTopicCache.refresh(List.of(topic1, topic2), false));
+        brokerTopicCache.put(List.of(topic1, topic2), Map.of("topic2", topic("topic2", "compact")), false);
+
+        Map<String, Topic> topics = brokerTopicCache.getTopics(CLUSTER);
+        assertEquals(2, topics.size());
+        assertEquals(CLUSTER, topics.get("topic2").getMetadata().getCluster());
+        assertEquals("compact", topics.get("topic2").getSpec().getConfigs().get("cleanup.policy"));
+        assertEquals(1, brokerTopicCache.getHits());
+        assertEquals(1, brokerTopicCache.getMisses());
+    }
+
+    @Test
+    void shouldDescribeInvalidatedTopics() {
+        TopicListing topic1 = new TopicListing("topic1", Uuid.randomUuid(), false);
+        brokerTopicCache.refresh(List.of(topic1), true);
+        brokerTopicCache.put(List.of(topic1), Map.of("topic1", topic("topic1", "delete")), true);
+        brokerTopicCache.completeFullRefresh(0);
+
+        brokerTopicCache.invalidate("topic1");
+        assertEquals(List.of("topic1"), brokerTopicCache.refresh(List.of(topic1), false));
+        brokerTopicCache.put(List.of(topic1), Map.of("topic1", topic("topic1", "compact")), false);
+
+        assertTrue(brokerTopicCache.refresh(List.of(topic1), false).isEmpty());
+        assertEquals("compact", brokerTopicCache.getTopics(CLUSTER).get("topic1").getSpec().getConfigs()
+                .get("cleanup.policy"));
+    }
+
+    @Test
+    void shouldEvictDeletedAndRecreatedTopics() {
+        TopicListing topic1 = new TopicListing("topic1", Uuid.randomUuid(), false);
+        TopicListing topic2 = new TopicListing("topic2", Uuid.randomUuid(), false);
+        brokerTopicCache.refresh(List.of(topic1, topic2), true);
+        brokerTopicCache.put(
+                List.of(topic1, topic2),
+                Map.of("topic1", topic("topic1", "delete"), "topic2", topic("topic2", "delete")),
+                true);
+
+        TopicListing recreatedTopic1 = new TopicListing("topic1", Uuid.randomUuid(), false);
+        assertEquals(List.of("topic1"), brokerTopicCache.refresh(List.of(recreatedTopic1), false));
+        assertEquals(0, brokerTopicCache.size());
+
+        brokerTopicCache.put(List.of(recreatedTopic1), Map.of("topic1", topic("topic1", "compact")), false);
+        assertEquals(1, brokerTopicCache.size());
+        assertEquals("compact", brokerTopicCache.getTopics(CLUSTER).get("topic1").getSpec().getConfigs()
+                .get("cleanup.policy"));
+    }
+
+    @Test
+    void shouldCountDriftedTopicsOnFullRefresh() {
+        TopicListing topic1 = new TopicListing("topic1", Uuid.randomUuid(), false);
+        TopicListing topic2 = new TopicListing("topic2", Uuid.randomUuid(), false);
+        List<TopicListing> listings = List.of(topic1, topic2);
+        brokerTopicCache.refresh(listings, true);
+        brokerTopicCache.put(
+                listings, Map.of("topic1", topic("topic1", "delete"), "topic2", topic("topic2", "delete")), true);
+        brokerTopicCache.completeFullRefresh(0);
+
+        assertTrue(brokerTopicCache.isFullRefreshDue(1000, 1000));
+        assertEquals(2, brokerTopicCache.refresh(listings, true).size());
+        brokerTopicCache.put(
+                listings,
+                Map.of("topic1", topic("topic1", "compact"), "topic2", topic("topic2", "delete")),
+                true);
+        assertTrue(brokerTopicCache.isFullRefreshDue(1999, 1000));
+        brokerTopicCache.completeFullRefresh(1000);
+
+        assertEquals(1, brokerTopicCache.getDrifted());
+        assertFalse(brokerTopicCache.isFullRefreshDue(1999, 1000));
+    }
+
+    private static Topic topic(String name, String cleanupPolicy) {
+        return Topic.builder()
+                .metadata(Metadata.builder().name(name).build())
+                .spec(Topic.TopicSpec.builder()
+                        .partitions(3)
+                        .replicationFactor(1)
+                        .configs(Map.of("cleanup.policy", cleanupPolicy))
+                        .build())
+                .build();
+    }
+}
@@ -0,0 +1,208 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.michelin.ns4kafka.service.executor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.michelin.ns4kafka.model.AccessControlEntry;
+import com.michelin.ns4kafka.model.KafkaStream;
+import com.michelin.ns4kafka.model.Metadata;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import org.apache.kafka.common.acl.AclBinding;
+import org.apache.kafka.common.acl.AclOperation;
+import org.apache.kafka.common.acl.AclPermissionType;
+import org.apache.kafka.common.resource.PatternType;
+import org.apache.kafka.common.resource.ResourcePattern;
+import org.apache.kafka.common.resource.ResourceType;
+import org.junit.jupiter.api.Test;
+
+class DesiredAclBindingsTest {
+    private final FakeSource source = new FakeSource();
+    private final DesiredAclBindings desiredAclBindings = new DesiredAclBindings(source);
+
+    @Test
+    void shouldRebuildOnFirstRefresh() {
+        source.acls.add(acl("acl1", "prefix1."));
+        source.streams.add(stream("stream1"));
+
+        assertEquals(
+                Set.of(binding("prefix1.", ResourceType.TOPIC), binding("stream1", ResourceType.TRANSACTIONAL_ID)),
+                desiredAclBindings.refresh());
+        assertEquals(1, source.aclLoads);
+    }
+
+    @Test
+    void shouldOnlyConvertChangedSources() {
+        AccessControlEntry acl1 = acl("acl1", "prefix1.");
+        source.acls.add(acl1);
+        desiredAclBindings.refresh();
+
+        AccessControlEntry acl2 = acl("acl2", "prefix2.");
+        KafkaStream stream1 = stream("stream1");
+        desiredAclBindings.aclChanged(null, acl2);
+        desiredAclBindings.streamChanged(null, stream1);
+        desiredAclBindings.aclChanged(acl1, null);
+
+        assertEquals(
+                Set.of(binding("prefix2.", ResourceType.TOPIC), binding("stream1", ResourceType.TRANSACTIONAL_ID)),
+                desiredAclBindings.refresh());
+        assertEquals(1, source.aclLoads);
+        assertEquals(3, source.conversions);
+    }
+
+    @Test
+    void shouldKeepBindingExpectedByAnotherSource() {
+        AccessControlEntry acl1 = acl("acl1", "prefix.");
+        AccessControlEntry acl2 = acl("acl2", "prefix.");
+        source.acls.addAll(List.of(acl1, acl2));
+        desiredAclBindings.refresh();
+
+        desiredAclBindings.aclChanged(acl1, null);
+
+        assertEquals(Set.of(binding("prefix.", ResourceType.TOPIC)), desiredAclBindings.refresh());
+
+        desiredAclBindings.aclChanged(acl2, null);
+
+        assertTrue(desiredAclBindings.refresh().isEmpty());
+    }
+
+    @Test
+    void shouldRebuildWhenInvalidated() {
+        source.acls.add(acl("acl1", "prefix1."));
+        desiredAclBindings.refresh();
+
+        source.acls.add(acl("acl2", "prefix2."));
+        desiredAclBindings.invalidate();
+
+        assertEquals(2, desiredAclBindings.refresh().size());
+        assertEquals(2, source.aclLoads);
+    }
+
+    @Test
+    void shouldKeepPreviousBindingsAndRetryWhenConversionFails() {
+        AccessControlEntry acl1 = acl("acl1", "prefix1.");
+        source.acls.add(acl1);
+        desiredAclBindings.refresh();
+
+        AccessControlEntry updatedAcl1 = acl("acl1", "prefix2.");
+        source.failing.add("prefix2.");
+        desiredAclBindings.aclChanged(acl1, updatedAcl1);
+
+        assertEquals(Set.of(binding("prefix1.", ResourceType.TOPIC)), desiredAclBindings.refresh());
+
+        source.failing.clear();
+
+        assertEquals(Set.of(binding("prefix2.", ResourceType.TOPIC)), desiredAclBindings.refresh());
+    }
+
+    @Test
+    void shouldKeepBindingsAndRebuildAgainWhenSourcesCannotBeRead() {
+        source.acls.add(acl("acl1", "prefix1."));
+        desiredAclBindings.refresh();
+
+        source.acls.add(acl("acl2", "prefix2."));
+        source.unavailable = true;
+        desiredAclBindings.invalidate();
+
+        assertThrows(IllegalStateException.class, desiredAclBindings::refresh);
+        assertEquals(1, desiredAclBindings.size());
+
+        source.unavailable = false;
+
+        assertEquals(2, desiredAclBindings.refresh().size());
+        assertEquals(3, source.aclLoads);
+    }
+
+    private AccessControlEntry acl(String name, String resource) {
+        return AccessControlEntry.builder()
+                .metadata(Metadata.builder()
+                        .name(name)
+                        .namespace("namespace")
+                        .cluster("local")
+                        .build())
+                .spec(AccessControlEntry.AccessControlEntrySpec.builder()
+                        .resourceType(AccessControlEntry.ResourceType.TOPIC)
+                        .resource(resource)
+                        .resourcePatternType(AccessControlEntry.ResourcePatternType.PREFIXED)
+                        .permission(AccessControlEntry.Permission.OWNER)
+                        .grantedTo("namespace")
+                        .build())
+                .build();
+    }
+
+    private KafkaStream stream(String name) {
+        return KafkaStream.builder()
+                .metadata(Metadata.builder()
+                        .name(name)
+                        .namespace("namespace")
+                        .cluster("local")
+                        .build())
+                .build();
+    }
+
+    private static AclBinding binding(String resource, ResourceType resourceType) {
+        return new AclBinding(
+                new ResourcePattern(resourceType, resource, PatternType.PREFIXED),
+                new org.apache.kafka.common.acl.AccessControlEntry(
+                        "User:user", "*", AclOperation.WRITE, AclPermissionType.ALLOW));
+    }
+
+    private static class FakeSource implements DesiredAclBindings.Source {
+        private final List<AccessControlEntry> acls = new ArrayList<>();
+        private final List<KafkaStream> streams = new ArrayList<>();
+        private final Set<String> failing = new HashSet<>();
+        private int aclLoads;
+        private int conversions;
+        private boolean unavailable;
+
+        @Override
+        public List<AccessControlEntry> findAllAcls() {
+            aclLoads++;
+            return acls;
+        }
+
+        @Override
+        public List<KafkaStream> findAllStreams() {
+            if (unavailable) {
+                throw new IllegalStateException("Store unavailable");
+            }
+            return streams;
+        }
+
+        @Override
+        public List<AclBinding> toAclBindings(AccessControlEntry accessControlEntry) {
+            conversions++;
+            if (failing.contains(accessControlEntry.getSpec().getResource())) {
+                throw new IllegalStateException("Conversion failed");
+            }
+            return List.of(binding(accessControlEntry.getSpec().getResource(), ResourceType.TOPIC));
+        }
+
+        @Override
+        public List<AclBinding> toAclBindings(KafkaStream kafkaStream) {
+            conversions++;
+            return List.of(binding(kafkaStream.getMetadata().getName(), ResourceType.TRANSACTIONAL_ID));
+        }
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.michelin.ns4kafka.service.executor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.michelin.ns4kafka.property.Ns4KafkaProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class LeaderElectionTest {
+    @Spy
+    Ns4KafkaProperties ns4KafkaProperties = new Ns4KafkaProperties();
+
+    @Spy
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @InjectMocks
+    LeaderElection leaderElection;
+
+    @Test
+    void shouldBeLeaderWhenElectionIsDisabled() {
+        leaderElection.init();
+
+        assertTrue(leaderElection.isLeader());
+        assertEquals(1, meterRegistry.get("ns4kafka.leader").gauge().value());
+    }
+
+    @Test
+    void shouldFollowLeadershipChanges() {
+        ns4KafkaProperties.getLeaderElection().setEnabled(true);
+        leaderElection.init();
+
+        assertFalse(leaderElection.isLeader());
+        assertEquals(0, meterRegistry.get("ns4kafka.leader").gauge().value());
+
+        leaderElection.setLeader(true);
+        leaderElection.setLeader(true);
+
+        assertTrue(leaderElection.isLeader());
+        assertEquals(1, meterRegistry.get("ns4kafka.leader").gauge().value());
+
+        leaderElection.setLeader(false);
+
+        assertFalse(leaderElection.isLeader());
+        assertEquals(2, meterRegistry.get("ns4kafka.leader.changes").counter().count());
+    }
+}
@@ -0,0 +1,173 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.michelin.ns4kafka.service.executor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.michelin.ns4kafka.property.Ns4KafkaProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ReconciliationJobTest {
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final Ns4KafkaProperties.ReconciliationProperties properties =
+            new Ns4KafkaProperties.ReconciliationProperties();
+
+    private final List<Runnable> submitted = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        properties.setMinInterval(1000);
+        properties.setMaxInterval(5000);
+        properties.setJitter(0);
+    }
+
+    @Test
+    void shouldRecordSuccessfulRun() {
+        AtomicInteger runs = new AtomicInteger();
+        ReconciliationJob job = new ReconciliationJob("local", "topic", () -> {
+            runs.incrementAndGet();
+            return false;
+        }, properties, meterRegistry);
+
+        assertTrue(job.trySubmit(submitted::add));
+        assertTrue(job.isRunning());
+
+        submitted.getFirst().run();
+
+        assertEquals(1, runs.get());
+        assertFalse(job.isRunning());
+        assertTrue(job.getLastSuccess() > 0);
+        assertEquals(1, meterRegistry.get("ns4kafka.reconciliation.duration")
+                .tag("cluster", "local")
+                .tag("resource", "topic")
+                .timer()
+                .count());
+        assertEquals(job.getLastSuccess(), meterRegistry.get("ns4kafka.reconciliation.last.success")
+                .gauge()
+                .value());
+    }
+
+    @Test
+    void shouldSkipRunWhilePreviousOneIsInProgress() {
+        ReconciliationJob job = new ReconciliationJob("local", "acl", () -> false, properties, meterRegistry);
+
+        assertTrue(job.trySubmit(submitted::add));
+        assertFalse(job.trySubmit(submitted::add));
+        assertEquals(1, submitted.size());
+        assertEquals(1, meterRegistry.get("ns4kafka.reconciliation.skipped").counter().count());
+
+        submitted.getFirst().run();
+
+        assertTrue(job.trySubmit(submitted::add));
+        assertEquals(2, submitted.size());
+    }
+
+    @Test
+    void shouldNotRecordSuccessWhenRunFails() {
+        ReconciliationJob job = new ReconciliationJob("local", "user", () -> {
+            throw new IllegalStateException("Timeout");
+        }, properties, meterRegistry);
+
+        assertTrue(job.trySubmit(submitted::add));
+        submitted.getFirst().run();
+
+        assertFalse(job.isRunning());
+        assertEquals(0, job.getLastSuccess());
+        assertEquals(1, meterRegistry.get("ns4kafka.reconciliation.duration").timer().count());
+    }
+
+    @Test
+    void shouldOnlySubmitDueRuns() {
+        ReconciliationJob job = new ReconciliationJob("local", "topic", () -> false, properties, meterRegistry);
+
+        assertFalse(job.trySubmitIfDue(submitted::add, job.getNextRun() - 1));
+        assertTrue(job.trySubmitIfDue(submitted::add, job.getNextRun()));
+        submitted.getFirst().run();
+
+        assertFalse(job.trySubmitIfDue(submitted::add, job.getNextRun() - 1));
+        assertTrue(job.trySubmitIfDue(submitted::add, job.getNextRun()));
+        assertEquals(2, submitted.size());
+    }
+
+    @Test
+    void shouldDelayFirstRunRandomlyWithinMinimumInterval() {
+        long before = System.currentTimeMillis();
+        ReconciliationJob job = new ReconciliationJob("local", "topic", () -> false, properties, meterRegistry);
+        long after = System.currentTimeMillis();
+
+        assertTrue(job.getNextRun() >= before);
+        assertTrue(job.getNextRun() < after + 1000);
+    }
+
+    @Test
+    void shouldLengthenIntervalUpToMaximumWithoutDrift() {
+        ReconciliationJob job = new ReconciliationJob("local", "topic", () -> false, properties, meterRegistry);
+
+        runOnce(job);
+        assertEquals(2000, job.getInterval());
+        runOnce(job);
+        assertEquals(4000, job.getInterval());
+        runOnce(job);
+        assertEquals(5000, job.getInterval());
+        runOnce(job);
+        assertEquals(5000, job.getInterval());
+        assertEquals(5000, meterRegistry.get("ns4kafka.reconciliation.interval").gauge().value());
+    }
+
+    @Test
+    void shouldShortenIntervalOnDrift() {
+        AtomicBoolean drift = new AtomicBoolean(false);
+        ReconciliationJob job = new ReconciliationJob("local", "acl", drift::get, properties, meterRegistry);
+
+        runOnce(job);
+        runOnce(job);
+        assertEquals(4000, job.getInterval());
+
+        drift.set(true);
+        runOnce(job);
+        assertEquals(1000, job.getInterval());
+    }
+
+    @Test
+    void shouldApplyJitterToNextRun() {
+        properties.setJitter(0.5);
+        ReconciliationJob job = new ReconciliationJob("local", "user", () -> true, properties, meterRegistry);
+
+        long before = System.currentTimeMillis();
+        runOnce(job);
+        long after = System.currentTimeMillis();
+
+        assertTrue(job.getNextRun() >= before + 500);
+        assertTrue(job.getNextRun() <= after + 1500);
+    }
+
+    private void runOnce(ReconciliationJob job) {
+        assertTrue(job.trySubmit(submitted::add));
+        submitted.getLast().run();
+    }
+}
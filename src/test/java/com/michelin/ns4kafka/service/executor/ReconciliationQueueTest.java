@@ -0,0 +1,154 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.michelin.ns4kafka.service.executor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+import com.michelin.ns4kafka.property.Ns4KafkaProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class ReconciliationQueueTest {
+    @Spy
+    Ns4KafkaProperties ns4KafkaProperties = new Ns4KafkaProperties();
+
+    @Spy
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Mock
+    LeaderElection leaderElection;
+
+    @InjectMocks
+    ReconciliationQueue reconciliationQueue;
+
+    @AfterEach
+    void tearDown() {
+        reconciliationQueue.close();
+    }
+
+    @Test
+    void shouldRunByPriorityAndReplaceWaitingReconciliation() throws InterruptedException {
+        when(leaderElection.isLeader()).thenReturn(true);
+        ns4KafkaProperties.getReconciliation().setTargetedConcurrency(1);
+        reconciliationQueue.init();
+
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(3);
+        List<String> runs = new CopyOnWriteArrayList<>();
+
+        reconciliationQueue.enqueue("local", "topic", "blocking", ReconciliationQueue.Priority.HIGH, () -> {
+            started.countDown();
+            awaitQuietly(release);
+        });
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        reconciliationQueue.enqueue("local", "topic", "updated", ReconciliationQueue.Priority.NORMAL, () -> {
+            runs.add("updated-v1");
+            done.countDown();
+        });
+        reconciliationQueue.enqueue("local", "topic", "updated", ReconciliationQueue.Priority.NORMAL, () -> {
+            runs.add("updated-v2");
+            done.countDown();
+        });
+        reconciliationQueue.enqueue("local", "acl", "created", ReconciliationQueue.Priority.HIGH, () -> {
+            runs.add("created");
+            done.countDown();
+        });
+        reconciliationQueue.enqueue("local", "topic", "other", ReconciliationQueue.Priority.NORMAL, () -> {
+            runs.add("other");
+            done.countDown();
+        });
+        release.countDown();
+
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertEquals(List.of("created", "updated-v2", "other"), runs);
+    }
+
+    @Test
+    void shouldRegisterLatencyTimersOnInit() {
+        reconciliationQueue.init();
+
+        assertEquals(
+                List.of("acl", "topic"),
+                meterRegistry.get("ns4kafka.reconciliation.targeted.latency").timers().stream()
+                        .map(timer -> timer.getId().getTag("resource"))
+                        .sorted()
+                        .toList());
+    }
+
+    @Test
+    void shouldSkipReconciliationWhenNotLeader() throws InterruptedException {
+        when(leaderElection.isLeader()).thenReturn(false, true);
+        reconciliationQueue.init();
+
+        List<String> runs = new CopyOnWriteArrayList<>();
+        CountDownLatch done = new CountDownLatch(1);
+        reconciliationQueue.enqueue(
+                "local", "topic", "skipped", ReconciliationQueue.Priority.HIGH, () -> runs.add("skipped"));
+        reconciliationQueue.enqueue("local", "topic", "run", ReconciliationQueue.Priority.HIGH, () -> {
+            runs.add("run");
+            done.countDown();
+        });
+
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertEquals(List.of("run"), runs);
+    }
+
+    @Test
+    void shouldLeaveReconciliationToPeriodicRunOnFollower() {
+        when(leaderElection.isLeader()).thenReturn(false);
+        reconciliationQueue.init();
+
+        List<String> runs = new CopyOnWriteArrayList<>();
+        reconciliationQueue.enqueue(
+                "local", "topic", "follower", ReconciliationQueue.Priority.HIGH, () -> runs.add("follower"));
+        reconciliationQueue.enqueue(
+                "local", "acl", "follower", ReconciliationQueue.Priority.HIGH, () -> runs.add("follower"));
+
+        assertTrue(runs.isEmpty());
+        assertEquals(0, meterRegistry.get("ns4kafka.reconciliation.queue.size").gauge().value());
+        assertEquals(0, meterRegistry
+                .get("ns4kafka.reconciliation.targeted.latency")
+                .tag("resource", "topic")
+                .timer()
+                .count());
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -24,9 +24,13 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -44,20 +48,39 @@ import com.michelin.ns4kafka.service.client.schema.entities.TagTopicInfo;
 import com.michelin.ns4kafka.service.client.schema.entities.TopicEntity;
 import com.michelin.ns4kafka.service.client.schema.entities.TopicEntityAttributes;
 import com.michelin.ns4kafka.service.client.schema.entities.TopicListResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import io.micronaut.http.HttpResponse;
 import java.io.IOException;
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
 import org.apache.kafka.clients.admin.Admin;
+import org.apache.kafka.clients.admin.Config;
+import org.apache.kafka.clients.admin.ConfigEntry;
+import org.apache.kafka.clients.admin.CreateTopicsResult;
 import org.apache.kafka.clients.admin.DeleteTopicsResult;
+import org.apache.kafka.clients.admin.DescribeConfigsResult;
+import org.apache.kafka.clients.admin.DescribeTopicsResult;
+import org.apache.kafka.clients.admin.TopicDescription;
 import org.apache.kafka.common.KafkaFuture;
+import org.apache.kafka.common.Node;
+import org.apache.kafka.common.TopicPartitionInfo;
+import org.apache.kafka.common.config.ConfigResource;
+import org.apache.kafka.common.errors.TopicExistsException;
+import org.apache.kafka.common.internals.KafkaFutureImpl;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import reactor.core.publisher.Mono;
 
@@ -96,6 +119,15 @@ class TopicAsyncExecutorTest {
     @Mock
     KafkaFuture<Void> kafkaFuture;
 
+    @Spy
+    MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Captor
+    ArgumentCaptor<Consumer<Topic>> topicMutationCaptor;
+
+    @Captor
+    ArgumentCaptor<Map<String, Consumer<Topic>>> topicMutationsCaptor;
+
     @InjectMocks
     TopicAsyncExecutor topicAsyncExecutor;
 
@@ -324,7 +356,9 @@ class TopicAsyncExecutorTest {
 
         topicAsyncExecutor.createAndAssociateTags(topicTagsMapping);
 
-        verify(topicRepository).create(topic);
+        verify(topicRepository).update(eq(topic), topicMutationCaptor.capture());
+        topicMutationCaptor.getValue().accept(topic);
+        assertEquals(Topic.TopicPhase.Failed, topic.getStatus().getPhase());
     }
 
     @Test
@@ -361,7 +395,10 @@ class TopicAsyncExecutorTest {
 
         topicAsyncExecutor.createAndAssociateTags(topicTagsMapping);
 
-        verify(topicRepository).create(topic);
+        verify(topicRepository).update(eq(topic), topicMutationCaptor.capture());
+        topicMutationCaptor.getValue().accept(topic);
+        assertEquals(Topic.TopicPhase.Success, topic.getStatus().getPhase());
+        assertEquals(1, topic.getMetadata().getGeneration());
     }
 
     @Test
@@ -459,7 +496,7 @@ class TopicAsyncExecutorTest {
 
         topicAsyncExecutor.alterDescriptions(ns4kafkaTopics, brokerTopics);
 
-        verify(topicRepository, never()).create(topic);
+        verify(topicRepository, never()).update(any(), any());
     }
 
     @Test
@@ -491,7 +528,10 @@ class TopicAsyncExecutorTest {
 
         topicAsyncExecutor.alterDescriptions(ns4kafkaTopics, brokerTopics);
 
-        verify(topicRepository).create(topic);
+        verify(topicRepository).update(eq(topic), topicMutationCaptor.capture());
+        topicMutationCaptor.getValue().accept(topic);
+        assertEquals(Topic.TopicPhase.Success, topic.getStatus().getPhase());
+        assertEquals(1, topic.getMetadata().getGeneration());
     }
 
     @Test
@@ -523,7 +563,9 @@ class TopicAsyncExecutorTest {
 
         topicAsyncExecutor.alterDescriptions(ns4kafkaTopics, brokerTopics);
 
-        verify(topicRepository).create(topic);
+        verify(topicRepository).update(eq(topic), topicMutationCaptor.capture());
+        topicMutationCaptor.getValue().accept(topic);
+        assertEquals(Topic.TopicPhase.Failed, topic.getStatus().getPhase());
     }
 
     @Test
@@ -944,6 +986,141 @@ class TopicAsyncExecutorTest {
         assertTrue(brokerTopics.get(TOPIC_NAME2).getSpec().getTags().isEmpty());
     }
 
+    @Test
+    void shouldDescribeTopicsByChunksAndRetryFailedChunk()
+            throws ExecutionException, InterruptedException, TimeoutException {
+        Ns4KafkaProperties.ReconciliationProperties reconciliationProperties =
+                new Ns4KafkaProperties.ReconciliationProperties();
+        reconciliationProperties.getTopicDescribe().setChunkSize(1);
+        reconciliationProperties.getTopicDescribe().setRetries(1);
+        when(ns4KafkaProperties.getReconciliation()).thenReturn(reconciliationProperties);
+        Ns4KafkaProperties.RetryProperties retryProperties = new Ns4KafkaProperties.RetryProperties();
+        retryProperties.setDelay(Duration.ofMillis(10));
+        when(ns4KafkaProperties.getRetry()).thenReturn(retryProperties);
+        when(ns4KafkaProperties.getConfluentCloud()).thenReturn(buildConfluentCloudProperties(false));
+        when(managedClusterProperties.getAdminClient()).thenReturn(adminClient);
+        when(managedClusterProperties.getTimeout()).thenReturn(new ManagedClusterProperties.TimeoutProperties());
+        when(managedClusterProperties.getName()).thenReturn(LOCAL_CLUSTER);
+
+        KafkaFutureImpl<Map<String, TopicDescription>> failedDescription = new KafkaFutureImpl<>();
+        failedDescription.completeExceptionally(new org.apache.kafka.common.errors.TimeoutException("Timeout"));
+        DescribeTopicsResult failedDescribeTopicsResult = mock(DescribeTopicsResult.class);
+        when(failedDescribeTopicsResult.allTopicNames()).thenReturn(failedDescription);
+
+        DescribeTopicsResult describeTopicsResult = describeTopicsResult(TOPIC_NAME, 3);
+        DescribeTopicsResult describeTopicsResult2 = describeTopicsResult(TOPIC_NAME2, 6);
+        DescribeConfigsResult describeConfigsResult = describeConfigsResult(TOPIC_NAME);
+        DescribeConfigsResult describeConfigsResult2 = describeConfigsResult(TOPIC_NAME2);
+
+        when(adminClient.describeTopics(List.of(TOPIC_NAME)))
+                .thenReturn(failedDescribeTopicsResult, describeTopicsResult);
+        when(adminClient.describeTopics(List.of(TOPIC_NAME2))).thenReturn(describeTopicsResult2);
+        when(adminClient.describeConfigs(List.of(new ConfigResource(ConfigResource.Type.TOPIC, TOPIC_NAME))))
+                .thenReturn(describeConfigsResult);
+        when(adminClient.describeConfigs(List.of(new ConfigResource(ConfigResource.Type.TOPIC, TOPIC_NAME2))))
+                .thenReturn(describeConfigsResult2);
+
+        Map<String, Topic> topics = topicAsyncExecutor.collectBrokerTopicsFromNames(List.of(TOPIC_NAME, TOPIC_NAME2));
+
+        assertEquals(2, topics.size());
+        assertEquals(3, topics.get(TOPIC_NAME).getSpec().getPartitions());
+        assertEquals(6, topics.get(TOPIC_NAME2).getSpec().getPartitions());
+        assertEquals("compact", topics.get(TOPIC_NAME2).getSpec().getConfigs().get("cleanup.policy"));
+        verify(adminClient, times(2)).describeTopics(List.of(TOPIC_NAME));
+        verify(adminClient).describeTopics(List.of(TOPIC_NAME2));
+    }
+
+    @Test
+    void shouldCreateTopicsAndUpdateStatusesInOneBatch() {
+        when(managedClusterProperties.getAdminClient()).thenReturn(adminClient);
+        when(managedClusterProperties.getTimeout()).thenReturn(new ManagedClusterProperties.TimeoutProperties());
+        when(managedClusterProperties.getName()).thenReturn(LOCAL_CLUSTER);
+
+        Topic topic = Topic.builder()
+                .metadata(Metadata.builder()
+                        .name(TOPIC_NAME)
+                        .cluster(LOCAL_CLUSTER)
+                        .build())
+                .spec(Topic.TopicSpec.builder()
+                        .partitions(3)
+                        .replicationFactor(1)
+                        .configs(Map.of())
+                        .build())
+                .build();
+
+        Topic topic2 = Topic.builder()
+                .metadata(Metadata.builder()
+                        .name(TOPIC_NAME2)
+                        .cluster(LOCAL_CLUSTER)
+                        .build())
+                .spec(Topic.TopicSpec.builder()
+                        .partitions(3)
+                        .replicationFactor(1)
+                        .configs(Map.of())
+                        .build())
+                .build();
+
+        KafkaFutureImpl<Void> failedCreation = new KafkaFutureImpl<>();
+        failedCreation.completeExceptionally(new TopicExistsException("Topic already exists"));
+        CreateTopicsResult createTopicsResult = mock(CreateTopicsResult.class);
+        when(createTopicsResult.values())
+                .thenReturn(Map.of(TOPIC_NAME, KafkaFuture.completedFuture(null), TOPIC_NAME2, failedCreation));
+        when(adminClient.createTopics(anyCollection())).thenReturn(createTopicsResult);
+
+        topicAsyncExecutor.registerMetrics();
+        topicAsyncExecutor.createTopics(List.of(topic, topic2));
+
+        verify(topicRepository).updateAll(eq(List.of(topic, topic2)), topicMutationsCaptor.capture());
+        verify(topicRepository, never()).update(any(), any());
+
+        Consumer<Topic> mutation = topicMutationsCaptor.getValue().get(TOPIC_NAME);
+        Consumer<Topic> mutation2 = topicMutationsCaptor.getValue().get(TOPIC_NAME2);
+        mutation.accept(topic);
+        mutation2.accept(topic2);
+
+        assertEquals(Topic.TopicPhase.Success, topic.getStatus().getPhase());
+        assertEquals(1, topic.getMetadata().getGeneration());
+        assertEquals(Topic.TopicPhase.Failed, topic2.getStatus().getPhase());
+        assertEquals(
+                1,
+                meterRegistry
+                        .get("ns4kafka.topic.batch.duration")
+                        .tag("operation", "create")
+                        .timer()
+                        .count());
+    }
+
+    private DescribeConfigsResult describeConfigsResult(String topicName) {
+        DescribeConfigsResult describeConfigsResult = mock(DescribeConfigsResult.class);
+        when(describeConfigsResult.all()).thenReturn(KafkaFuture.completedFuture(Map.of(
+                new ConfigResource(ConfigResource.Type.TOPIC, topicName),
+                new Config(List.of(new ConfigEntry(
+                        "cleanup.policy",
+                        "compact",
+                        ConfigEntry.ConfigSource.DYNAMIC_TOPIC_CONFIG,
+                        false,
+                        false,
+                        List.of(),
+                        ConfigEntry.ConfigType.STRING,
+                        null))))));
+        return describeConfigsResult;
+    }
+
+    private DescribeTopicsResult describeTopicsResult(String topicName, int partitions) {
+        Node node = new Node(0, "localhost", 9092);
+        DescribeTopicsResult describeTopicsResult = mock(DescribeTopicsResult.class);
+        when(describeTopicsResult.allTopicNames()).thenReturn(KafkaFuture.completedFuture(Map.of(
+                topicName,
+                new TopicDescription(
+                        topicName,
+                        false,
+                        IntStream.range(0, partitions)
+                                .mapToObj(partition ->
+                                        new TopicPartitionInfo(partition, node, List.of(node), List.of(node)))
+                                .toList()))));
+        return describeTopicsResult;
+    }
+
     private Ns4KafkaProperties.ConfluentCloudProperties buildConfluentCloudProperties(boolean syncCatalog) {
         Ns4KafkaProperties.ConfluentCloudProperties.StreamCatalogProperties streamCatalogProperties =
                 new Ns4KafkaProperties.ConfluentCloudProperties.StreamCatalogProperties();
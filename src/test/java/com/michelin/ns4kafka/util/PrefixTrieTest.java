@@ -0,0 +1,147 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.michelin.ns4kafka.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashSet;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+class PrefixTrieTest {
+    @Test
+    void shouldGetValuesOfExactKeys() {
+        PrefixTrie<String> trie = new PrefixTrie<>();
+        assertTrue(trie.put("abc", "1"));
+        assertTrue(trie.put("abd", "2"));
+        assertTrue(trie.put("ab", "3"));
+        assertTrue(trie.put("ab", "4"));
+        assertFalse(trie.put("ab", "4"));
+
+        assertEquals(Set.of("1"), trie.get("abc"));
+        assertEquals(Set.of("2"), trie.get("abd"));
+        assertEquals(Set.of("3", "4"), trie.get("ab"));
+        assertEquals(Set.of(), trie.get("a"));
+        assertEquals(Set.of(), trie.get("abcd"));
+        assertEquals(4, trie.size());
+    }
+
+    @Test
+    void shouldVisitValuesOfPrefixes() {
+        PrefixTrie<String> trie = new PrefixTrie<>();
+        trie.put("", "root");
+        trie.put("app1.", "app1");
+        trie.put("app1.topic", "topic");
+        trie.put("app1.topic2", "topic2");
+        trie.put("app2.", "app2");
+
+        assertEquals(Set.of("root", "app1", "topic"), prefixesOf(trie, "app1.topic"));
+        assertEquals(Set.of("root", "app1", "topic"), prefixesOf(trie, "app1.topic1"));
+        assertEquals(Set.of("root", "app1"), prefixesOf(trie, "app1.other"));
+        assertEquals(Set.of("root"), prefixesOf(trie, "app1"));
+        assertEquals(Set.of("root"), prefixesOf(trie, "app3.topic"));
+    }
+
+    @Test
+    void shouldVisitValuesOfKeysWithPrefix() {
+        PrefixTrie<String> trie = new PrefixTrie<>();
+        trie.put("app1.", "app1");
+        trie.put("app1.topic", "topic");
+        trie.put("app1.topic2", "topic2");
+        trie.put("app2.", "app2");
+
+        assertEquals(Set.of("app1", "topic", "topic2", "app2"), withPrefix(trie, ""));
+        assertEquals(Set.of("app1", "topic", "topic2", "app2"), withPrefix(trie, "app"));
+        assertEquals(Set.of("app1", "topic", "topic2"), withPrefix(trie, "app1"));
+        assertEquals(Set.of("topic", "topic2"), withPrefix(trie, "app1.t"));
+        assertEquals(Set.of("topic2"), withPrefix(trie, "app1.topic2"));
+        assertEquals(Set.of(), withPrefix(trie, "app1.topic3"));
+        assertEquals(Set.of(), withPrefix(trie, "app1.topic22"));
+        assertEquals(Set.of(), withPrefix(trie, "app3"));
+    }
+
+    @Test
+    void shouldVisitValuesOfRelatedKeys() {
+        PrefixTrie<String> trie = new PrefixTrie<>();
+        trie.put("app1_", "app1");
+        trie.put("app1_topic", "topic");
+        trie.put("app1_topic2", "topic2");
+        trie.put("app2_", "app2");
+        trie.put("ap", "ap");
+
+        assertEquals(Set.of("ap", "app1", "topic", "topic2"), related(trie, "app1"));
+        assertEquals(Set.of("ap", "app1", "topic", "topic2"), related(trie, "app1_"));
+        assertEquals(Set.of("ap", "app1", "topic", "topic2"), related(trie, "app1_t"));
+        assertEquals(Set.of("ap", "app1", "topic"), related(trie, "app1_topic1"));
+        assertEquals(Set.of("ap", "app1"), related(trie, "app1_other"));
+        assertEquals(Set.of("ap"), related(trie, "app3"));
+        assertEquals(Set.of(), related(trie, "other"));
+        assertEquals(Set.of("ap", "app1", "topic", "topic2", "app2"), related(trie, ""));
+    }
+
+    @Test
+    void shouldRemoveValuesAndCompactNodes() {
+        PrefixTrie<String> trie = new PrefixTrie<>();
+        trie.put("abc", "1");
+        trie.put("abd", "2");
+        trie.put("ab", "3");
+
+        assertFalse(trie.remove("ab", "4"));
+        assertFalse(trie.remove("a", "3"));
+        assertFalse(trie.remove("abcd", "1"));
+
+        assertTrue(trie.remove("ab", "3"));
+        assertEquals(Set.of(), trie.get("ab"));
+        assertEquals(Set.of("1", "2"), withPrefix(trie, "ab"));
+
+        assertTrue(trie.remove("abc", "1"));
+        assertEquals(Set.of("2"), trie.get("abd"));
+        assertEquals(Set.of("2"), withPrefix(trie, "a"));
+        assertEquals(Set.of("2"), prefixesOf(trie, "abde"));
+
+        trie.put("abc", "5");
+        assertEquals(Set.of("5"), trie.get("abc"));
+        assertEquals(Set.of("2"), trie.get("abd"));
+
+        assertTrue(trie.remove("abd", "2"));
+        assertTrue(trie.remove("abc", "5"));
+        assertTrue(trie.isEmpty());
+        assertEquals(Set.of(), withPrefix(trie, ""));
+    }
+
+    private static Set<String> prefixesOf(PrefixTrie<String> trie, String name) {
+        Set<String> values = new HashSet<>();
+        trie.forEachPrefixOf(name, values::add);
+        return values;
+    }
+
+    private static Set<String> related(PrefixTrie<String> trie, String key) {
+        Set<String> values = new HashSet<>();
+        trie.forEachRelatedTo(key, values::add);
+        return values;
+    }
+
+    private static Set<String> withPrefix(PrefixTrie<String> trie, String prefix) {
+        Set<String> values = new HashSet<>();
+        trie.forEachWithPrefix(prefix, values::add);
+        return values;
+    }
+}